@@ -0,0 +1,25 @@
+package com.holidaykeeply.api.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.holidaykeeply.api.dto.CacheStatsDto;
+import com.holidaykeeply.api.service.HolidayInfoService;
+import com.holidaykeeply.api.swagger.CacheSwagger;
+import com.holidaykeeply.global.common.response.Response;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/caches")
+@RequiredArgsConstructor
+public class CacheController implements CacheSwagger {
+
+	private final HolidayInfoService holidayInfoService;
+
+	@GetMapping("/holiday-query/stats")
+	public Response<CacheStatsDto.Response> getHolidayQueryCacheStats() {
+		return Response.ok(holidayInfoService.getQueryCacheStats());
+	}
+}
@@ -1,23 +1,50 @@
 package com.holidaykeeply.api.controller;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.holidaykeeply.api.dto.BusinessDayDto;
+import com.holidaykeeply.api.dto.HolidayCheckDto;
+import com.holidaykeeply.api.dto.HolidayCursorDto;
 import com.holidaykeeply.api.dto.HolidayDeleteDto;
+import com.holidaykeeply.api.dto.HolidayExportDto;
+import com.holidaykeeply.api.dto.HolidayFieldsDto;
+import com.holidaykeeply.api.dto.HolidayIcsDto;
 import com.holidaykeeply.api.dto.HolidayInfoDto;
+import com.holidaykeeply.api.dto.HolidayLookupDto;
+import com.holidaykeeply.api.dto.HolidayNameDto;
+import com.holidaykeeply.api.dto.HolidayStatisticsDto;
 import com.holidaykeeply.api.dto.HolidayUpsertDto;
+import com.holidaykeeply.api.dto.HolidayYearDto;
+import com.holidaykeeply.api.dto.LongWeekendDto;
 import com.holidaykeeply.api.dto.SearchCondition;
 import com.holidaykeeply.api.service.HolidayInfoService;
 import com.holidaykeeply.api.swagger.HolidayInfoSwagger;
+import com.holidaykeeply.global.common.response.AcceptEncoding;
 import com.holidaykeeply.global.common.response.Response;
+import com.holidaykeeply.global.interceptor.HolidayETagInterceptor;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
@@ -26,17 +53,168 @@ import reactor.core.publisher.Mono;
 @RequestMapping("/api/v1/holidays")
 @RequiredArgsConstructor
 public class HolidayInfoController implements HolidayInfoSwagger {
+	private static final MediaType TEXT_CALENDAR = new MediaType("text", "calendar", StandardCharsets.UTF_8);
 
 	private final HolidayInfoService holidayInfoService;
 
 	@GetMapping
 	public Response<Page<HolidayInfoDto.Response>> getHolidays(
-			@Valid @ModelAttribute final SearchCondition searchCondition,
+			@Validated(SearchCondition.SingleCountry.class) @ModelAttribute final SearchCondition searchCondition,
+			@PageableDefault(page = 1, size = 3) final Pageable pageable) {
+		var holidays = holidayInfoService.getHolidays(searchCondition, pageable);
+		return Response.ok(holidays);
+	}
+
+	@GetMapping(params = {"fields", "!countries", "!cursor"})
+	public Response<HolidayFieldsDto.Response> getHolidayFields(
+			@Validated(SearchCondition.SingleCountry.class) @ModelAttribute final SearchCondition searchCondition,
+			@Valid @ModelAttribute final HolidayFieldsDto.Request request,
+			@PageableDefault(page = 1, size = 3) final Pageable pageable) {
+		return Response.ok(holidayInfoService.getHolidayFields(searchCondition, request, pageable));
+	}
+
+	@GetMapping("/reactive")
+	public Mono<Response<Page<HolidayInfoDto.Response>>> getHolidaysReactive(
+			@Validated(SearchCondition.SingleCountry.class) @ModelAttribute final SearchCondition searchCondition,
+			@PageableDefault(page = 1, size = 3) final Pageable pageable) {
+		return holidayInfoService.getHolidaysReactive(searchCondition, pageable)
+				.map(Response::ok);
+	}
+
+	@GetMapping(params = "cursor")
+	public Response<HolidayCursorDto.Response> getHolidaysByCursor(
+			@Validated(SearchCondition.SingleCountry.class) @ModelAttribute final SearchCondition searchCondition,
+			@ModelAttribute final HolidayCursorDto.Request request) {
+		var holidays = holidayInfoService.getHolidaysByCursor(searchCondition, request);
+		return Response.ok(holidays);
+	}
+
+	@GetMapping(params = {"countries", "!cursor"})
+	public Response<Page<HolidayInfoDto.Response>> getHolidaysByCountries(
+			@Validated(SearchCondition.MultiCountry.class) @ModelAttribute final SearchCondition searchCondition,
 			@PageableDefault(page = 1, size = 3) final Pageable pageable) {
 		var holidays = holidayInfoService.getHolidays(searchCondition, pageable);
 		return Response.ok(holidays);
 	}
 
+	@GetMapping(params = {"countries", "fields", "!cursor"})
+	public Response<HolidayFieldsDto.Response> getHolidayFieldsByCountries(
+			@Validated(SearchCondition.MultiCountry.class) @ModelAttribute final SearchCondition searchCondition,
+			@Valid @ModelAttribute final HolidayFieldsDto.Request fieldsRequest,
+			@PageableDefault(page = 1, size = 3) final Pageable pageable) {
+		return Response.ok(holidayInfoService.getHolidayFields(searchCondition, fieldsRequest, pageable));
+	}
+
+	@GetMapping(params = {"countries", "cursor"})
+	public Response<HolidayCursorDto.Response> getHolidaysByCountriesAndCursor(
+			@Validated(SearchCondition.MultiCountry.class) @ModelAttribute final SearchCondition searchCondition,
+			@ModelAttribute final HolidayCursorDto.Request cursorRequest) {
+		var holidays = holidayInfoService.getHolidaysByCursor(searchCondition, cursorRequest);
+		return Response.ok(holidays);
+	}
+
+	@GetMapping(value = "/{countryCode}/{year}", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<byte[]> getHolidaysOfYear(
+			@Valid @ModelAttribute final HolidayYearDto.Request request) {
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(holidayInfoService.getHolidaysOfYear(request));
+	}
+
+	@GetMapping("/{countryCode}/calendar.ics")
+	public ResponseEntity<byte[]> getHolidayCalendar(
+			@Valid @ModelAttribute final HolidayIcsDto.Request request,
+			@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding) {
+		boolean gzip = AcceptEncoding.acceptsGzip(acceptEncoding);
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+				.contentType(TEXT_CALENDAR);
+		if (gzip) {
+			response.header(HttpHeaders.CONTENT_ENCODING, AcceptEncoding.GZIP);
+		}
+		return response.body(holidayInfoService.getHolidayCalendar(request, gzip));
+	}
+
+	@GetMapping("/{countryCode}/{year}/long-weekends")
+	public Response<List<LongWeekendDto.Response>> getLongWeekends(
+			@Valid @ModelAttribute final HolidayYearDto.Request request) {
+		return Response.ok(holidayInfoService.getLongWeekends(request));
+	}
+
+	@GetMapping("/check")
+	public Response<HolidayCheckDto.Response> checkHoliday(
+			@Valid @ModelAttribute final HolidayCheckDto.Request request) {
+		return Response.ok(holidayInfoService.checkHoliday(request));
+	}
+
+	@PostMapping("/check")
+	public Response<HolidayCheckDto.BatchResponse> checkHolidays(
+			@Valid @RequestBody final HolidayCheckDto.BatchRequest request) {
+		return Response.ok(holidayInfoService.checkHolidays(request));
+	}
+
+	@GetMapping("/export")
+	public void exportHolidays(
+			@Valid @ModelAttribute final HolidayExportDto.Request request,
+			@RequestHeader final HttpHeaders headers,
+			final HttpServletRequest servletRequest,
+			final HttpServletResponse response) throws IOException {
+		HolidayExportDto.Request negotiated = request.negotiate(headers.getAccept());
+		if (HolidayETagInterceptor.checkNotModified(servletRequest, response, negotiated.format().getExtension())) {
+			return;
+		}
+		response.setContentType(negotiated.format().getContentType());
+		if (!negotiated.format().isBinary()) {
+			response.setCharacterEncoding("UTF-8");
+		}
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+				.filename("holidays." + negotiated.format().getExtension())
+				.build()
+				.toString());
+		holidayInfoService.exportHolidays(negotiated, response.getOutputStream());
+	}
+
+	@GetMapping("/business-days/add")
+	public Response<BusinessDayDto.AddResponse> addBusinessDays(
+			@Valid @ModelAttribute final BusinessDayDto.AddRequest request) {
+		return Response.ok(holidayInfoService.addBusinessDays(request));
+	}
+
+	@GetMapping("/business-days/count")
+	public Response<BusinessDayDto.CountResponse> countBusinessDays(
+			@Valid @ModelAttribute final BusinessDayDto.CountRequest request) {
+		return Response.ok(holidayInfoService.countBusinessDays(request));
+	}
+
+	@GetMapping("/names")
+	public Response<HolidayNameDto.Response> suggestHolidayNames(
+			@Valid @ModelAttribute final HolidayNameDto.Request request) {
+		return Response.ok(holidayInfoService.suggestHolidayNames(request));
+	}
+
+	@GetMapping("/statistics")
+	public Response<HolidayStatisticsDto.Response> getStatistics(
+			@Valid @ModelAttribute final HolidayStatisticsDto.Request request) {
+		return Response.ok(holidayInfoService.getStatistics(request));
+	}
+
+	@GetMapping("/next")
+	public Response<HolidayInfoDto.Response> getNextHoliday(
+			@Valid @ModelAttribute final HolidayLookupDto.Request request) {
+		return Response.ok(holidayInfoService.getNextHoliday(request));
+	}
+
+	@GetMapping("/previous")
+	public Response<HolidayInfoDto.Response> getPreviousHoliday(
+			@Valid @ModelAttribute final HolidayLookupDto.Request request) {
+		return Response.ok(holidayInfoService.getPreviousHoliday(request));
+	}
+
+	@GetMapping("/upcoming")
+	public Response<List<HolidayInfoDto.Response>> getUpcomingHolidays(
+			@Valid @ModelAttribute final HolidayLookupDto.UpcomingRequest request) {
+		return Response.ok(holidayInfoService.getUpcomingHolidays(request));
+	}
+
 	@PutMapping("/upsert")
 	public Response<String> upsert(
 			@Valid @ModelAttribute final HolidayUpsertDto.Request request) {
@@ -0,0 +1,67 @@
+package com.holidaykeeply.api.dto;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public class BusinessDayDto {
+	public static final int MAX_DAYS = 10_000;
+	public static final int MAX_COUNT_YEARS = 100;
+
+	public record AddRequest(
+		@NotBlank(message = "countryCode는 필수입니다.")
+		String countryCode,
+
+		@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+		@NotNull(message = "date는 필수입니다.")
+		LocalDate date,
+
+		@NotNull(message = "days는 필수입니다.")
+		@Min(value = -MAX_DAYS, message = "days는 -10000 이상이어야 합니다.")
+		@Max(value = MAX_DAYS, message = "days는 10000 이하이어야 합니다.")
+		Integer days
+	) {}
+
+	public record AddResponse(
+		String countryCode,
+		LocalDate date,
+		int days,
+		LocalDate result
+	) {}
+
+	public record CountRequest(
+		@NotBlank(message = "countryCode는 필수입니다.")
+		String countryCode,
+
+		@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+		@NotNull(message = "startDate는 필수입니다.")
+		LocalDate startDate,
+
+		@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+		@NotNull(message = "endDate는 필수입니다.")
+		LocalDate endDate
+	) {
+		@AssertTrue(message = "startDate는 endDate보다 이후일 수 없습니다.")
+		public boolean isValidRange() {
+			return startDate == null || endDate == null || !startDate.isAfter(endDate);
+		}
+
+		@AssertTrue(message = "조회 기간은 100년을 넘을 수 없습니다.")
+		public boolean isWithinMaxSpan() {
+			return startDate == null || endDate == null || !endDate.isAfter(startDate.plusYears(MAX_COUNT_YEARS));
+		}
+	}
+
+	public record CountResponse(
+		String countryCode,
+		LocalDate startDate,
+		LocalDate endDate,
+		long businessDays
+	) {}
+}
@@ -0,0 +1,25 @@
+package com.holidaykeeply.api.dto;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+public class CacheStatsDto {
+	public record Response(
+		String name,
+		long estimatedSize,
+		long hitCount,
+		long missCount,
+		double hitRate,
+		long evictionCount,
+		long evictionWeight,
+		long staleHitCount
+	) {
+		public static Response of(
+				final String name,
+				final CacheStats stats,
+				final long estimatedSize,
+				final long staleHitCount) {
+			return new Response(name, estimatedSize, stats.hitCount(), stats.missCount(), stats.hitRate(),
+				stats.evictionCount(), stats.evictionWeight(), staleHitCount);
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package com.holidaykeeply.api.dto;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public class HolidayCheckDto {
+	public static final int MAX_BATCH_SIZE = 100_000;
+
+	public record Request(
+		@NotBlank(message = "countryCode는 필수입니다.")
+		String countryCode,
+
+		@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+		@NotNull(message = "date는 필수입니다.")
+		LocalDate date
+	) {}
+
+	public record Response(
+		String countryCode,
+		LocalDate date,
+		boolean holiday
+	) {}
+
+	/**
+	 * i 번째 countryCode 와 i 번째 date 가 하나의 조회 쌍이다.
+	 */
+	public record BatchRequest(
+		@NotNull(message = "countryCodes는 필수입니다.")
+		@Size(max = MAX_BATCH_SIZE, message = "한 번에 최대 100000건까지 조회할 수 있습니다.")
+		String[] countryCodes,
+
+		@NotNull(message = "dates는 필수입니다.")
+		@Size(max = MAX_BATCH_SIZE, message = "한 번에 최대 100000건까지 조회할 수 있습니다.")
+		LocalDate[] dates
+	) {
+		@JsonIgnore
+		@AssertTrue(message = "countryCodes와 dates의 길이가 같아야 합니다.")
+		public boolean isSameLength() {
+			return countryCodes == null || dates == null || countryCodes.length == dates.length;
+		}
+	}
+
+	/**
+	 * 요청과 같은 순서의 결과 배열. 공휴일이 아니면 holidayIds 값은 0 이다.
+	 */
+	public record BatchResponse(
+		int size,
+		boolean[] holidays,
+		long[] holidayIds
+	) {
+		public static BatchResponse of(final long[] holidayIds) {
+			boolean[] holidays = new boolean[holidayIds.length];
+			for (int i = 0; i < holidayIds.length; i++) {
+				holidays[i] = holidayIds[i] != 0;
+			}
+			return new BatchResponse(holidayIds.length, holidays, holidayIds);
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package com.holidaykeeply.api.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+
+import com.holidaykeeply.global.error.ErrorCode;
+import com.holidaykeeply.global.error.exception.BusinessException;
+
+public class HolidayCursorDto {
+	public static final int DEFAULT_SIZE = 3;
+	public static final int MAX_SIZE = 1000;
+
+	public record Request(
+		String cursor,
+		Integer size
+	) {
+		/**
+		 * 빈 문자열이면 첫 페이지
+		 */
+		public Cursor decodedCursor() {
+			return cursor == null || cursor.isBlank() ? null : Cursor.decode(cursor);
+		}
+
+		public int limit() {
+			if (size == null || size < 1) {
+				return DEFAULT_SIZE;
+			}
+			return Math.min(size, MAX_SIZE);
+		}
+	}
+
+	/**
+	 * (date, id) 내림차순 정렬에서 마지막으로 내려준 행의 위치
+	 */
+	public record Cursor(
+		LocalDate date,
+		long id
+	) {
+		public String encode() {
+			String raw = date.toEpochDay() + ":" + id;
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+		}
+
+		public static Cursor decode(final String token) {
+			try {
+				String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+				int separator = raw.indexOf(':');
+				return new Cursor(
+					LocalDate.ofEpochDay(Long.parseLong(raw.substring(0, separator))),
+					Long.parseLong(raw.substring(separator + 1)));
+			} catch (RuntimeException e) {
+				throw new BusinessException(ErrorCode.INVALID_CURSOR);
+			}
+		}
+
+		public static Cursor of(final HolidayInfoDto.Response row) {
+			return new Cursor(row.getLocalDate(), row.getId());
+		}
+	}
+
+	public record Response(
+		List<HolidayInfoDto.Response> content,
+		int size,
+		boolean hasNext,
+		String nextCursor
+	) {
+		/**
+		 * limit + 1 건을 조회한 결과로 다음 페이지 존재 여부를 판단한다.
+		 */
+		public static Response of(final List<HolidayInfoDto.Response> rows, final int limit) {
+			boolean hasNext = rows.size() > limit;
+			List<HolidayInfoDto.Response> content = hasNext ? rows.subList(0, limit) : rows;
+			String nextCursor = hasNext ? Cursor.of(content.getLast()).encode() : null;
+			return new Response(content, content.size(), hasNext, nextCursor);
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package com.holidaykeeply.api.dto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import jakarta.validation.constraints.AssertTrue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+public class HolidayExportDto {
+
+	@Getter
+	@RequiredArgsConstructor
+	public enum Format {
+		NDJSON("application/x-ndjson", "ndjson"),
+		CSV("text/csv", "csv"),
+		/**
+		 * CBOR 항목을 구분자 없이 이어 쓴 CBOR sequence (RFC 8742)
+		 */
+		CBOR("application/cbor-seq", "cbor"),
+		/**
+		 * Smile 루트 값을 이어 쓴 스트림
+		 */
+		SMILE("application/x-jackson-smile", "sml");
+
+		private final String contentType;
+		private final String extension;
+
+		public boolean isBinary() {
+			return this == CBOR || this == SMILE;
+		}
+
+		/**
+		 * Accept 에서 우선순위가 가장 높은 구체적인 형식. 맞는 형식이 없으면 NDJSON
+		 * application/cbor 도 CBOR 로 본다.
+		 */
+		public static Format negotiate(final List<MediaType> accepted) {
+			List<MediaType> sorted = new ArrayList<>(accepted);
+			MimeTypeUtils.sortBySpecificity(sorted);
+			for (MediaType mediaType : sorted) {
+				if (mediaType.isWildcardType() || mediaType.isWildcardSubtype()) {
+					continue;
+				}
+				if (MediaType.APPLICATION_CBOR.isCompatibleWith(mediaType)) {
+					return CBOR;
+				}
+				for (Format format : values()) {
+					if (MediaType.parseMediaType(format.contentType).isCompatibleWith(mediaType)) {
+						return format;
+					}
+				}
+			}
+			return NDJSON;
+		}
+	}
+
+	/**
+	 * 모든 조건은 선택이다. 조건이 없으면 전체 공휴일을 내보낸다.
+	 * format 이 없으면 Accept 헤더로 정한다. ({@link #negotiate})
+	 */
+	public record Request(
+		String countryCode,
+
+		@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+		LocalDate startDate,
+
+		@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+		LocalDate endDate,
+
+		Format format
+	) {
+		public Request negotiate(final List<MediaType> accepted) {
+			return format != null ? this : new Request(countryCode, startDate, endDate, Format.negotiate(accepted));
+		}
+
+		@AssertTrue(message = "startDate는 endDate보다 이전이어야 합니다.")
+		public boolean isValidRange() {
+			return startDate == null || endDate == null || !startDate.isAfter(endDate);
+		}
+	}
+}
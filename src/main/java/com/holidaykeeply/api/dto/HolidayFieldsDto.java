@@ -0,0 +1,109 @@
+package com.holidaykeeply.api.dto;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Page;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotEmpty;
+
+/**
+ * 공휴일 검색 결과 중 요청한 필드만 내려주는 응답 (sparse fieldset)
+ */
+public class HolidayFieldsDto {
+
+	/**
+	 * 선택 가능한 필드. key 는 {@link HolidayInfoDto.Response} 의 JSON 필드명과 같다.
+	 */
+	public enum Field {
+		ID("id", HolidayInfoDto.Response::getId),
+		LOCAL_NAME("localName", HolidayInfoDto.Response::getLocalName),
+		NAME("name", HolidayInfoDto.Response::getName),
+		COUNTRY("country", HolidayInfoDto.Response::getCountry),
+		FIXED("fixed", HolidayInfoDto.Response::isFixed),
+		GLOBAL("global", HolidayInfoDto.Response::isGlobal),
+		LAUNCH_YEAR("launchYear", HolidayInfoDto.Response::getLaunchYear),
+		LOCAL_DATE("localDate", HolidayInfoDto.Response::getLocalDate),
+		COUNTIES("counties", HolidayInfoDto.Response::getCounties),
+		TYPES("types", HolidayInfoDto.Response::getTypes);
+
+		private final String key;
+		private final Function<HolidayInfoDto.Response, Object> getter;
+
+		Field(final String key, final Function<HolidayInfoDto.Response, Object> getter) {
+			this.key = key;
+			this.getter = getter;
+		}
+
+		public String key() {
+			return key;
+		}
+
+		/**
+		 * holiday 테이블 컬럼이 아니라 컬렉션 테이블에서 읽는 필드
+		 */
+		public boolean isDetail() {
+			return this == COUNTIES || this == TYPES;
+		}
+
+		public static Optional<Field> of(final String key) {
+			return Arrays.stream(values()).filter(field -> field.key.equals(key.strip())).findFirst();
+		}
+	}
+
+	/**
+	 * fields 는 쉼표로 구분한다. (예: fields=localDate,localName)
+	 */
+	public record Request(
+		@NotEmpty(message = "fields는 필수입니다.")
+		List<String> fields
+	) {
+		@AssertTrue(message = "fields는 id, localName, name, country, fixed, global, launchYear, localDate, counties, types 중에서 선택해야 합니다.")
+		public boolean isValidFields() {
+			return fields == null || fields.stream().allMatch(field -> Field.of(field).isPresent());
+		}
+
+		/**
+		 * 응답 필드 순서는 요청 순서와 관계없이 {@link Field} 선언 순서를 따른다.
+		 */
+		public Set<Field> toFields() {
+			Set<Field> selected = EnumSet.noneOf(Field.class);
+			fields.forEach(field -> selected.add(Field.of(field).orElseThrow()));
+			return selected;
+		}
+	}
+
+	/**
+	 * Spring Page 대신 필요한 페이지 정보만 담는다.
+	 */
+	public record Response(
+		List<Map<String, Object>> content,
+		int page,
+		int size,
+		long totalElements,
+		boolean hasNext
+	) {
+		public static Response of(final Page<Map<String, Object>> page) {
+			return new Response(page.getContent(), page.getNumber(), page.getSize(), page.getTotalElements(),
+				page.hasNext());
+		}
+	}
+
+	/**
+	 * 전체 응답에서 선택한 필드만 꺼낸다. 인메모리 인덱스 조회 결과에 쓴다.
+	 */
+	public static Map<String, Object> project(final HolidayInfoDto.Response response, final Set<Field> fields) {
+		Map<String, Object> row = new LinkedHashMap<>();
+		for (Field field : fields) {
+			row.put(field.key(), field.getter.apply(response));
+		}
+		return row;
+	}
+}
@@ -0,0 +1,30 @@
+package com.holidaykeeply.api.dto;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+
+public class HolidayIcsDto {
+
+	/**
+	 * fromYear / toYear 를 생략하면 저장된 첫 연도 / 마지막 연도를 사용한다.
+	 */
+	public record Request(
+		@NotBlank(message = "countryCode는 필수입니다.")
+		String countryCode,
+
+		@Min(value = 1900, message = "fromYear는 1900 이상이어야 합니다.")
+		@Max(value = 2100, message = "fromYear는 2100 이하이어야 합니다.")
+		Integer fromYear,
+
+		@Min(value = 1900, message = "toYear는 1900 이상이어야 합니다.")
+		@Max(value = 2100, message = "toYear는 2100 이하이어야 합니다.")
+		Integer toYear
+	) {
+		@AssertTrue(message = "fromYear는 toYear보다 클 수 없습니다.")
+		public boolean isValidRange() {
+			return fromYear == null || toYear == null || fromYear <= toYear;
+		}
+	}
+}
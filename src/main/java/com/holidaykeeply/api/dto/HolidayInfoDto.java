@@ -1,7 +1,9 @@
 package com.holidaykeeply.api.dto;
 
 import java.time.LocalDate;
+import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.querydsl.core.annotations.QueryProjection;
 
 import lombok.Getter;
@@ -18,6 +20,11 @@ public class HolidayInfoDto {
 		boolean global;
 		String launchYear;
 		LocalDate localDate;
+		// 목록 조회에서 페이지 단위로 한 번에 채운다. 채우지 않은 응답(내보내기)에는 나타나지 않는다.
+		@JsonInclude(JsonInclude.Include.NON_NULL)
+		List<String> counties;
+		@JsonInclude(JsonInclude.Include.NON_NULL)
+		List<String> types;
 
 		@QueryProjection
 		public Response(
@@ -39,5 +46,21 @@ public class HolidayInfoDto {
 			this.launchYear = launchYear;
 			this.localDate = localDate;
 		}
+
+		public Response addDetails(final Details details) {
+			this.counties = details.counties();
+			this.types = details.types();
+			return this;
+		}
+	}
+
+	/**
+	 * 공휴일의 컬렉션 속성 (지역, 유형)
+	 */
+	public record Details(
+		List<String> counties,
+		List<String> types
+	) {
+		public static final Details EMPTY = new Details(List.of(), List.of());
 	}
 }
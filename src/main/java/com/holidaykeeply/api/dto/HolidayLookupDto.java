@@ -0,0 +1,42 @@
+package com.holidaykeeply.api.dto;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public class HolidayLookupDto {
+	public static final int MAX_UPCOMING = 100;
+
+	public record Request(
+		@NotBlank(message = "countryCode는 필수입니다.")
+		String countryCode,
+
+		@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+		@NotNull(message = "date는 필수입니다.")
+		LocalDate date
+	) {}
+
+	public record UpcomingRequest(
+		@NotBlank(message = "countryCode는 필수입니다.")
+		String countryCode,
+
+		@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+		@NotNull(message = "date는 필수입니다.")
+		LocalDate date,
+
+		@Min(value = 1, message = "count는 1 이상이어야 합니다.")
+		@Max(value = MAX_UPCOMING, message = "count는 100 이하이어야 합니다.")
+		Integer count
+	) {
+		public UpcomingRequest {
+			if (count == null) {
+				count = 5;
+			}
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package com.holidaykeeply.api.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public class HolidayNameDto {
+	public static final int MAX_LIMIT = 50;
+
+	/**
+	 * q 는 name 또는 localName 의 일부다. 대소문자와 발음 구별 기호는 구분하지 않는다. (예: q=fete → Fête nationale)
+	 * 단, 기동 직후 인덱스 적재 전에 DB 로 조회하는 동안은 대소문자만 구분하지 않고 발음 구별 기호는 구분한다.
+	 */
+	public record Request(
+		@NotBlank(message = "q는 필수입니다.")
+		@Size(max = 100, message = "q는 100자 이하여야 합니다.")
+		String q,
+
+		@Min(value = 1, message = "limit는 1 이상이어야 합니다.")
+		@Max(value = MAX_LIMIT, message = "limit는 50 이하이어야 합니다.")
+		Integer limit
+	) {
+		public Request {
+			if (limit == null) {
+				limit = 10;
+			}
+		}
+	}
+
+	public record Suggestion(
+		String countryCode,
+		String name,
+		String localName
+	) {}
+
+	public record Response(List<Suggestion> suggestions) {}
+}
@@ -0,0 +1,47 @@
+package com.holidaykeeply.api.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+
+public class HolidayStatisticsDto {
+
+	/**
+	 * 모든 조건은 선택이다. countryCodes 를 생략하면 전체 국가를 집계한다.
+	 */
+	public record Request(
+		@Size(max = 100, message = "countryCodes는 최대 100개까지 지정할 수 있습니다.")
+		List<String> countryCodes,
+
+		@Min(value = 1900, message = "fromYear는 1900 이상이어야 합니다.")
+		@Max(value = 2100, message = "fromYear는 2100 이하이어야 합니다.")
+		Integer fromYear,
+
+		@Min(value = 1900, message = "toYear는 1900 이상이어야 합니다.")
+		@Max(value = 2100, message = "toYear는 2100 이하이어야 합니다.")
+		Integer toYear
+	) {
+		@AssertTrue(message = "fromYear는 toYear보다 클 수 없습니다.")
+		public boolean isValidRange() {
+			return fromYear == null || toYear == null || fromYear <= toYear;
+		}
+	}
+
+	/**
+	 * (국가, 연도, 월, 유형) 별 공휴일 수. 유형이 여럿인 공휴일은 유형마다 한 번씩, 유형이 없으면 type 이 null 인 행으로 센다.
+	 */
+	public record Row(
+		String countryCode,
+		int year,
+		int month,
+		String type,
+		long count
+	) {}
+
+	public record Response(
+		List<Row> rows
+	) {}
+}
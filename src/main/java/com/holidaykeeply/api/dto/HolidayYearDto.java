@@ -0,0 +1,18 @@
+package com.holidaykeeply.api.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public class HolidayYearDto {
+	public record Request(
+		@NotBlank(message = "countryCode는 필수입니다.")
+		String countryCode,
+
+		@NotNull(message = "year는 필수입니다.")
+		@Min(value = 1900, message = "year는 1900 이상이어야 합니다.")
+		@Max(value = 2100, message = "year는 2100 이하이어야 합니다.")
+		Integer year
+	) {}
+}
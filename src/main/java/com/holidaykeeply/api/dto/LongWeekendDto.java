@@ -0,0 +1,18 @@
+package com.holidaykeeply.api.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class LongWeekendDto {
+
+	/**
+	 * 주말과 공휴일이 3일 이상 이어지는 연휴. bridgeDays 는 연휴를 만들기 위해 쉬어야 하는 평일(징검다리)이다.
+	 */
+	public record Response(
+		LocalDate startDate,
+		LocalDate endDate,
+		int dayCount,
+		boolean needBridgeDay,
+		List<LocalDate> bridgeDays
+	) {}
+}
@@ -1,14 +1,20 @@
 package com.holidaykeeply.api.dto;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import org.springframework.format.annotation.DateTimeFormat;
 
+import com.holidaykeeply.global.common.annotation.ExistsCountries;
 import com.holidaykeeply.global.common.annotation.ExistsCountryName;
 import com.holidaykeeply.global.common.annotation.ValidDateRange;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.groups.Default;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
@@ -24,8 +30,69 @@ public record SearchCondition(
 	@NotNull(message = "endDate는 필수입니다.")
 	LocalDate endDate,
 
-	@NotBlank(message = "countryName은 필수입니다.")
-	@ExistsCountryName
-	String countryName
+	@NotBlank(message = "countryName은 필수입니다.", groups = SingleCountry.class)
+	@ExistsCountryName(groups = SingleCountry.class)
+	String countryName,
+
+	/**
+	 * 여러 국가 검색용 국가 코드 또는 국가명 목록. 값이 있으면 countryName 대신 사용한다.
+	 * 국가 코드와 국가명을 섞어 쓸 수 있다. (예: countries=DE,France,IT)
+	 */
+	@NotEmpty(message = "countries는 필수입니다.", groups = MultiCountry.class)
+	@Size(max = MAX_COUNTRIES, message = "한 번에 최대 100개 국가까지 조회할 수 있습니다.", groups = MultiCountry.class)
+	@ExistsCountries(groups = MultiCountry.class)
+	List<String> countries,
+
+	/**
+	 * name 또는 localName 부분 일치 검색어. 대소문자를 구분하지 않는다.
+	 */
+	@Size(max = 100, message = "name은 100자 이하여야 합니다.")
+	String name,
+
+	/**
+	 * ISO 3166-2 지역 코드 (예: US-CA, DE-BY). 전국 공휴일과 해당 지역 공휴일만 조회한다.
+	 */
+	@Pattern(regexp = SUBDIVISION_PATTERN, message = "subdivision은 US-CA 형식의 지역 코드여야 합니다.")
+	String subdivision,
+
+	/**
+	 * 공휴일 유형 (Public, Bank, School, Authorities, Optional, Observance). 하나라도 가진 공휴일을 조회한다.
+	 */
+	@Size(max = 10, message = "types는 최대 10개까지 지정할 수 있습니다.")
+	List<String> types,
+
+	Boolean fixed,
+
+	Boolean global
 ) {
+	public static final String SUBDIVISION_PATTERN = "^[A-Z]{2}-[A-Z0-9]{1,3}$";
+	public static final int MAX_COUNTRIES = 100;
+
+	/**
+	 * countryName 으로 한 국가를 검색할 때의 검증 그룹. 공통 필터(Default) 제약도 함께 검사한다.
+	 */
+	public interface SingleCountry extends Default {
+	}
+
+	/**
+	 * countries 로 여러 국가를 검색할 때의 검증 그룹. 공통 필터(Default) 제약도 함께 검사한다.
+	 */
+	public interface MultiCountry extends Default {
+	}
+
+	public boolean isMultiCountry() {
+		return countries != null && !countries.isEmpty();
+	}
+
+	public boolean hasName() {
+		return name != null && !name.isBlank();
+	}
+
+	public boolean hasSubdivision() {
+		return subdivision != null && !subdivision.isBlank();
+	}
+
+	public boolean hasTypes() {
+		return types != null && !types.isEmpty();
+	}
 }
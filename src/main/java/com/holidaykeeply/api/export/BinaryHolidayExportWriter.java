@@ -0,0 +1,32 @@
+package com.holidaykeeply.api.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.holidaykeeply.api.dto.HolidayInfoDto;
+
+/**
+ * CBOR/Smile 처럼 스스로 길이를 구분하는 바이너리 형식. 행마다 루트 값 하나를 구분자 없이 이어 쓴다.
+ * objectMapper 는 JSON 용 ObjectMapper 를 해당 형식의 팩토리로 복사한 것이다.
+ */
+class BinaryHolidayExportWriter implements HolidayExportWriter {
+	private final JsonGenerator generator;
+
+	BinaryHolidayExportWriter(final OutputStream out, final ObjectMapper objectMapper) throws IOException {
+		this.generator = objectMapper.getFactory().createGenerator(out);
+		this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		this.generator.setCodec(objectMapper);
+	}
+
+	@Override
+	public void write(final HolidayInfoDto.Response row) throws IOException {
+		generator.writeObject(row);
+	}
+
+	@Override
+	public void close() throws IOException {
+		generator.close();
+	}
+}
@@ -0,0 +1,63 @@
+package com.holidaykeeply.api.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import com.holidaykeeply.api.dto.HolidayInfoDto;
+
+/**
+ * RFC 4180 CSV. 쉼표, 큰따옴표, 줄바꿈이 들어간 값만 큰따옴표로 감싼다.
+ */
+class CsvHolidayExportWriter implements HolidayExportWriter {
+	private static final String HEADER = "id,localName,name,country,fixed,global,launchYear,localDate";
+
+	private final Writer writer;
+
+	CsvHolidayExportWriter(final OutputStream out) throws IOException {
+		this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		this.writer.write(HEADER);
+		this.writer.write("\r\n");
+	}
+
+	@Override
+	public void write(final HolidayInfoDto.Response row) throws IOException {
+		writer.write(String.valueOf(row.getId()));
+		writer.write(',');
+		writeField(row.getLocalName());
+		writer.write(',');
+		writeField(row.getName());
+		writer.write(',');
+		writeField(row.getCountry());
+		writer.write(',');
+		writer.write(String.valueOf(row.isFixed()));
+		writer.write(',');
+		writer.write(String.valueOf(row.isGlobal()));
+		writer.write(',');
+		writeField(row.getLaunchYear());
+		writer.write(',');
+		writer.write(row.getLocalDate() != null ? row.getLocalDate().toString() : "");
+		writer.write("\r\n");
+	}
+
+	private void writeField(final String value) throws IOException {
+		if (value == null) {
+			return;
+		}
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+			writer.write(value);
+			return;
+		}
+		writer.write('"');
+		writer.write(value.replace("\"", "\"\""));
+		writer.write('"');
+	}
+
+	@Override
+	public void close() throws IOException {
+		writer.flush();
+	}
+}
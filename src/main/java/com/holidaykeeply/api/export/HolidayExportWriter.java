@@ -0,0 +1,32 @@
+package com.holidaykeeply.api.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.holidaykeeply.api.dto.HolidayExportDto;
+import com.holidaykeeply.api.dto.HolidayInfoDto;
+
+/**
+ * 내보내기 행을 한 줄씩 출력 스트림에 쓴다. 행을 모아두지 않으므로 메모리 사용량은 행 수와 무관하다.
+ * close 는 버퍼만 비우고 출력 스트림은 닫지 않는다.
+ */
+public interface HolidayExportWriter extends Closeable {
+
+	void write(HolidayInfoDto.Response row) throws IOException;
+
+	static HolidayExportWriter of(
+			final HolidayExportDto.Format format,
+			final OutputStream out,
+			final ObjectMapper objectMapper) throws IOException {
+		return switch (format) {
+			case NDJSON -> new NdjsonHolidayExportWriter(out, objectMapper);
+			case CSV -> new CsvHolidayExportWriter(out);
+			case CBOR -> new BinaryHolidayExportWriter(out, objectMapper.copyWith(new CBORFactory()));
+			case SMILE -> new BinaryHolidayExportWriter(out, objectMapper.copyWith(new SmileFactory()));
+		};
+	}
+}
@@ -0,0 +1,32 @@
+package com.holidaykeeply.api.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.holidaykeeply.api.dto.HolidayInfoDto;
+
+/**
+ * 한 줄에 JSON 객체 하나 (application/x-ndjson)
+ */
+class NdjsonHolidayExportWriter implements HolidayExportWriter {
+	private final JsonGenerator generator;
+
+	NdjsonHolidayExportWriter(final OutputStream out, final ObjectMapper objectMapper) throws IOException {
+		this.generator = objectMapper.getFactory().createGenerator(out);
+		this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		this.generator.setCodec(objectMapper);
+	}
+
+	@Override
+	public void write(final HolidayInfoDto.Response row) throws IOException {
+		generator.writeObject(row);
+		generator.writeRaw('\n');
+	}
+
+	@Override
+	public void close() throws IOException {
+		generator.close();
+	}
+}
@@ -1,5 +1,8 @@
 package com.holidaykeeply.api.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -7,26 +10,60 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.holidaykeeply.api.dto.BusinessDayDto;
+import com.holidaykeeply.api.dto.CacheStatsDto;
+import com.holidaykeeply.api.dto.HolidayCheckDto;
+import com.holidaykeeply.api.dto.HolidayCursorDto;
+import com.holidaykeeply.api.dto.HolidayExportDto;
+import com.holidaykeeply.api.dto.HolidayFieldsDto;
+import com.holidaykeeply.api.dto.HolidayIcsDto;
 import com.holidaykeeply.api.dto.HolidayInfoDto;
+import com.holidaykeeply.api.dto.HolidayLookupDto;
+import com.holidaykeeply.api.dto.HolidayNameDto;
+import com.holidaykeeply.api.dto.HolidayStatisticsDto;
+import com.holidaykeeply.api.dto.HolidayYearDto;
+import com.holidaykeeply.api.dto.LongWeekendDto;
 import com.holidaykeeply.api.dto.SearchCondition;
+import com.holidaykeeply.api.export.HolidayExportWriter;
+import com.holidaykeeply.domain.cache.HolidayIcsCache;
+import com.holidaykeeply.domain.cache.HolidayJsonCache;
+import com.holidaykeeply.domain.cache.HolidayQueryCache;
 import com.holidaykeeply.domain.entity.Country;
+import com.holidaykeeply.domain.index.HolidayStatistics;
 import com.holidaykeeply.domain.infrastructure.web.HolidayWebClient;
+import com.holidaykeeply.domain.service.BusinessDayService;
 import com.holidaykeeply.domain.service.CountryService;
+import com.holidaykeeply.domain.service.HolidayLookupService;
+import com.holidaykeeply.domain.service.HolidayReactiveService;
 import com.holidaykeeply.domain.service.HolidayService;
+import com.holidaykeeply.domain.service.LongWeekendService;
+import com.holidaykeeply.global.error.ErrorCode;
+import com.holidaykeeply.global.error.exception.BusinessException;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.scheduler.Scheduler;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class HolidayInfoService {
 	private final HolidayService holidayService;
+	private final HolidayReactiveService holidayReactiveService;
 	private final CountryService countryService;
 	private final HolidayWebClient holidayWebClient;
+	private final BusinessDayService businessDayService;
+	private final HolidayLookupService holidayLookupService;
+	private final LongWeekendService longWeekendService;
+	private final ObjectMapper objectMapper;
+	private final HolidayJsonCache holidayJsonCache;
+	private final HolidayIcsCache holidayIcsCache;
+	private final HolidayQueryCache holidayQueryCache;
+	private final HolidayStatistics holidayStatistics;
+	private final Scheduler blockingScheduler;
 
 	public Page<HolidayInfoDto.Response> getHolidays(
 			final SearchCondition searchCondition,
@@ -34,6 +71,110 @@ public class HolidayInfoService {
 		return holidayService.getHolidays(searchCondition, pageable);
 	}
 
+	public HolidayFieldsDto.Response getHolidayFields(
+			final SearchCondition searchCondition,
+			final HolidayFieldsDto.Request request,
+			final Pageable pageable) {
+		return HolidayFieldsDto.Response.of(
+				holidayService.getHolidayFields(searchCondition, request.toFields(), pageable));
+	}
+
+	public Mono<Page<HolidayInfoDto.Response>> getHolidaysReactive(
+			final SearchCondition searchCondition,
+			final Pageable pageable) {
+		return holidayReactiveService.getHolidays(searchCondition, pageable);
+	}
+
+	public HolidayCursorDto.Response getHolidaysByCursor(
+			final SearchCondition searchCondition,
+			final HolidayCursorDto.Request request) {
+		return holidayService.getHolidaysByCursor(searchCondition, request);
+	}
+
+	/**
+	 * 미리 직렬화된 (국가, 연도) 전체 공휴일 응답 JSON
+	 */
+	public byte[] getHolidaysOfYear(final HolidayYearDto.Request request) {
+		return holidayJsonCache.get(request.countryCode(), request.year());
+	}
+
+	public HolidayCheckDto.Response checkHoliday(final HolidayCheckDto.Request request) {
+		boolean holiday = holidayService.isHoliday(request.countryCode(), request.date());
+		return new HolidayCheckDto.Response(request.countryCode(), request.date(), holiday);
+	}
+
+	public HolidayCheckDto.BatchResponse checkHolidays(final HolidayCheckDto.BatchRequest request) {
+		long[] holidayIds = holidayService.holidayIdsOn(request.countryCodes(), request.dates());
+		return HolidayCheckDto.BatchResponse.of(holidayIds);
+	}
+
+	public BusinessDayDto.AddResponse addBusinessDays(final BusinessDayDto.AddRequest request) {
+		LocalDate result = businessDayService.addBusinessDays(request.countryCode(), request.date(), request.days());
+		return new BusinessDayDto.AddResponse(request.countryCode(), request.date(), request.days(), result);
+	}
+
+	public BusinessDayDto.CountResponse countBusinessDays(final BusinessDayDto.CountRequest request) {
+		long businessDays = businessDayService.countBusinessDays(
+				request.countryCode(), request.startDate(), request.endDate());
+		return new BusinessDayDto.CountResponse(
+				request.countryCode(), request.startDate(), request.endDate(), businessDays);
+	}
+
+	public HolidayInfoDto.Response getNextHoliday(final HolidayLookupDto.Request request) {
+		return holidayLookupService.next(request.countryCode(), request.date())
+				.orElseThrow(() -> new BusinessException(ErrorCode.HOLIDAY_NOT_FOUND));
+	}
+
+	public HolidayInfoDto.Response getPreviousHoliday(final HolidayLookupDto.Request request) {
+		return holidayLookupService.previous(request.countryCode(), request.date())
+				.orElseThrow(() -> new BusinessException(ErrorCode.HOLIDAY_NOT_FOUND));
+	}
+
+	public List<HolidayInfoDto.Response> getUpcomingHolidays(final HolidayLookupDto.UpcomingRequest request) {
+		return holidayLookupService.upcoming(request.countryCode(), request.date(), request.count());
+	}
+
+	/**
+	 * gzip 을 받는 클라이언트에는 캐시의 압축 본문을, 아니면 캐시의 원본 본문을 그대로 반환한다.
+	 */
+	public byte[] getHolidayCalendar(final HolidayIcsDto.Request request, final boolean gzip) {
+		return holidayIcsCache.get(request.countryCode(), request.fromYear(), request.toYear(), gzip);
+	}
+
+	public HolidayNameDto.Response suggestHolidayNames(final HolidayNameDto.Request request) {
+		return new HolidayNameDto.Response(holidayService.suggestNames(request.q(), request.limit()));
+	}
+
+	public HolidayStatisticsDto.Response getStatistics(final HolidayStatisticsDto.Request request) {
+		return new HolidayStatisticsDto.Response(
+				holidayStatistics.rows(request.countryCodes(), request.fromYear(), request.toYear()));
+	}
+
+	public List<LongWeekendDto.Response> getLongWeekends(final HolidayYearDto.Request request) {
+		return longWeekendService.getLongWeekends(request.countryCode(), request.year());
+	}
+
+	public void exportHolidays(
+			final HolidayExportDto.Request request,
+			final OutputStream out) throws IOException {
+		try (HolidayExportWriter writer = HolidayExportWriter.of(request.format(), out, objectMapper)) {
+			holidayService.exportHolidays(request, row -> {
+				try {
+					writer.write(row);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	public CacheStatsDto.Response getQueryCacheStats() {
+		return CacheStatsDto.Response.of("holiday-query",
+				holidayQueryCache.stats(), holidayQueryCache.estimatedSize(), holidayQueryCache.staleHits());
+	}
+
 	public void deleteByDateAndCountry(
 			final LocalDate year,
 			final String countryName) {
@@ -55,11 +196,11 @@ public class HolidayInfoService {
 						.flatMap(year -> upsertHoliday(LocalDate.of(year, 1, 1), country.getCountryCode())) // 년도별로 공휴일 저장
 				)
 				.then()
-				.subscribeOn(Schedulers.boundedElastic());
+				.subscribeOn(blockingScheduler);
 	}
 
 	/**
-	 * 지정된 연도들의 공휴일 데이터를 동기화
+	 * 지정된 연도들의 공휴일 데이터를 동기화하고, 연휴/징검다리 휴일을 미리 계산해 둔다.
 	 */
 	public Mono<Void> syncHolidaysForYears(
 			final List<Country> countries,
@@ -68,9 +209,10 @@ public class HolidayInfoService {
 				.flatMap(country -> Flux.fromIterable(years)
 						.flatMap(year -> {
 							log.info("Syncing holiday data for country: {}, year: {}", country.getCountryCode(), year);
-							return upsertHoliday(LocalDate.of(year, 1, 1), country.getCountryCode());
+							return upsertHoliday(LocalDate.of(year, 1, 1), country.getCountryCode())
+									.then(Mono.fromRunnable(() -> longWeekendService.precompute(country.getCountryCode(), year)));
 						}))
 				.then()
-				.subscribeOn(Schedulers.boundedElastic());
+				.subscribeOn(blockingScheduler);
 	}
 }
@@ -0,0 +1,16 @@
+package com.holidaykeeply.api.swagger;
+
+import com.holidaykeeply.api.dto.CacheStatsDto;
+import com.holidaykeeply.global.common.response.Response;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "Cache API", description = "캐시 상태 관련 API")
+public interface CacheSwagger {
+
+	@Operation(summary = "공휴일 검색 캐시 통계", description = "공휴일 검색 결과 캐시의 크기, hit/miss, 축출, stale 응답 횟수를 조회합니다.")
+	@ApiResponse(responseCode = "200", description = "조회 성공")
+	Response<CacheStatsDto.Response> getHolidayQueryCacheStats();
+}
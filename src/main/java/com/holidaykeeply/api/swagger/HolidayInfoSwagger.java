@@ -1,12 +1,28 @@
 package com.holidaykeeply.api.swagger;
 
+import java.io.IOException;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 
+import com.holidaykeeply.api.dto.BusinessDayDto;
+import com.holidaykeeply.api.dto.HolidayCheckDto;
+import com.holidaykeeply.api.dto.HolidayCursorDto;
 import com.holidaykeeply.api.dto.HolidayDeleteDto;
+import com.holidaykeeply.api.dto.HolidayExportDto;
+import com.holidaykeeply.api.dto.HolidayFieldsDto;
+import com.holidaykeeply.api.dto.HolidayIcsDto;
 import com.holidaykeeply.api.dto.HolidayInfoDto;
+import com.holidaykeeply.api.dto.HolidayLookupDto;
+import com.holidaykeeply.api.dto.HolidayNameDto;
+import com.holidaykeeply.api.dto.HolidayStatisticsDto;
 import com.holidaykeeply.api.dto.HolidayUpsertDto;
+import com.holidaykeeply.api.dto.HolidayYearDto;
+import com.holidaykeeply.api.dto.LongWeekendDto;
 import com.holidaykeeply.api.dto.SearchCondition;
 import com.holidaykeeply.global.common.response.Response;
 
@@ -16,17 +32,129 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import reactor.core.publisher.Mono;
 
 @Tag(name = "Holiday API", description = "공휴일 정보 관련 API")
 public interface HolidayInfoSwagger {
 
-	@Operation(summary = "공휴일 목록 조회", description = "검색 조건에 따라 공휴일 목록을 페이징으로 조회합니다.")
+	@Operation(summary = "공휴일 목록 조회", description = "검색 조건에 따라 공휴일 목록을 페이징으로 조회합니다. name 을 주면 name 또는 localName 에 포함된 공휴일만, subdivision(예: US-CA) 을 주면 전국 공휴일과 해당 지역 공휴일만 조회합니다. types(하나라도 일치), fixed, global 로도 거를 수 있습니다.")
 	@ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = HolidayInfoDto.Response.class)))
 	Response<Page<HolidayInfoDto.Response>> getHolidays(
 			@Parameter(description = "검색 조건") final SearchCondition searchCondition,
 			@Parameter(description = "페이징 정보 (기본값: page=1, size=3)") @PageableDefault(page = 1, size = 3) final Pageable pageable);
 
+	@Operation(summary = "공휴일 목록 조회 (R2DBC)", description = "공휴일 목록 조회와 같은 조건/응답이며, R2DBC 로 DB 를 논블로킹 조회합니다.")
+	@ApiResponse(responseCode = "200", description = "조회 성공")
+	Mono<Response<Page<HolidayInfoDto.Response>>> getHolidaysReactive(
+			@Parameter(description = "검색 조건") final SearchCondition searchCondition,
+			@Parameter(description = "페이징 정보 (기본값: page=1, size=3)") @PageableDefault(page = 1, size = 3) final Pageable pageable);
+
+	@Operation(summary = "공휴일 목록 커서 조회", description = "cursor 파라미터가 있으면 (date, id) 키셋 페이징으로 조회합니다. 첫 페이지는 빈 cursor 로 요청하고, 이후에는 응답의 nextCursor 를 그대로 전달합니다.")
+	@ApiResponse(responseCode = "200", description = "조회 성공")
+	Response<HolidayCursorDto.Response> getHolidaysByCursor(
+			@Parameter(description = "검색 조건") final SearchCondition searchCondition,
+			@Parameter(description = "커서 정보 (cursor, size: 기본값 3, 최대 1000)") final HolidayCursorDto.Request request);
+
+	@Operation(summary = "공휴일 목록 필드 선택 조회", description = "fields 에 지정한 필드만 담아 조회합니다. DB 조회 시에도 해당 컬럼만 SELECT 하며, 페이지 정보는 page, size, totalElements, hasNext 만 반환합니다.")
+	@ApiResponse(responseCode = "200", description = "조회 성공")
+	Response<HolidayFieldsDto.Response> getHolidayFields(
+			@Parameter(description = "검색 조건") final SearchCondition searchCondition,
+			@Parameter(description = "응답 필드 목록 (예: fields=localDate,localName)") final HolidayFieldsDto.Request request,
+			@Parameter(description = "페이징 정보 (기본값: page=1, size=3)") @PageableDefault(page = 1, size = 3) final Pageable pageable);
+
+	@Operation(summary = "여러 국가 공휴일 목록 필드 선택 조회", description = "여러 국가 조회에 fields 를 함께 전달하면 지정한 필드만 담아 조회합니다.")
+	@ApiResponse(responseCode = "200", description = "조회 성공")
+	Response<HolidayFieldsDto.Response> getHolidayFieldsByCountries(
+			@Parameter(description = "기간, 국가 코드 또는 국가명 목록 (최대 100개)") final SearchCondition searchCondition,
+			@Parameter(description = "응답 필드 목록") final HolidayFieldsDto.Request fieldsRequest,
+			@Parameter(description = "페이징 정보 (기본값: page=1, size=3)") @PageableDefault(page = 1, size = 3) final Pageable pageable);
+
+	@Operation(summary = "여러 국가 공휴일 목록 조회", description = "countries 에 국가 코드 또는 국가명을 여러 개 전달하면 한 번의 조회로 날짜 내림차순으로 병합된 하나의 페이지를 반환합니다.")
+	@ApiResponse(responseCode = "200", description = "조회 성공")
+	Response<Page<HolidayInfoDto.Response>> getHolidaysByCountries(
+			@Parameter(description = "기간, 국가 코드 또는 국가명 목록 (최대 100개)") final SearchCondition searchCondition,
+			@Parameter(description = "페이징 정보 (기본값: page=1, size=3)") @PageableDefault(page = 1, size = 3) final Pageable pageable);
+
+	@Operation(summary = "여러 국가 공휴일 목록 커서 조회", description = "여러 국가의 공휴일을 하나의 (date, id) 키셋 커서로 이어서 조회합니다.")
+	@ApiResponse(responseCode = "200", description = "조회 성공")
+	Response<HolidayCursorDto.Response> getHolidaysByCountriesAndCursor(
+			@Parameter(description = "기간, 국가 코드 또는 국가명 목록 (최대 100개)") final SearchCondition searchCondition,
+			@Parameter(description = "커서 정보 (cursor, size: 기본값 3, 최대 1000)") final HolidayCursorDto.Request cursorRequest);
+
+	@Operation(summary = "국가·연도별 전체 공휴일 조회", description = "해당 국가와 연도의 전체 공휴일을 날짜 오름차순으로 반환합니다. 동기화 시점에 미리 직렬화해 둔 JSON 을 그대로 응답하며, JSON 을 받을 수 없는 Accept 에는 406 을 반환합니다.")
+	@ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = HolidayInfoDto.Response.class)))
+	ResponseEntity<byte[]> getHolidaysOfYear(
+			@Parameter(description = "국가 코드, 연도") final HolidayYearDto.Request request);
+
+	@Operation(summary = "공휴일 여부 확인", description = "국가 코드와 날짜로 해당 날짜가 공휴일인지 확인합니다. 국가·연도별 비트셋으로 O(1) 에 응답합니다.")
+	@ApiResponse(responseCode = "200", description = "확인 성공")
+	Response<HolidayCheckDto.Response> checkHoliday(
+			@Parameter(description = "국가 코드, 날짜") final HolidayCheckDto.Request request);
+
+	@Operation(summary = "공휴일 여부 일괄 확인", description = "countryCodes[i], dates[i] 쌍의 공휴일 여부를 한 번에 확인합니다. 결과 배열은 요청과 같은 순서이며, 공휴일이 아니면 holidayIds 값은 0 입니다.")
+	@ApiResponse(responseCode = "200", description = "확인 성공")
+	Response<HolidayCheckDto.BatchResponse> checkHolidays(
+			final HolidayCheckDto.BatchRequest request);
+
+	@Operation(summary = "공휴일 전체 내보내기", description = "페이징 없이 조건에 맞는 공휴일 전체를 NDJSON(기본), CSV, CBOR sequence 또는 Smile 로 스트리밍합니다. 형식을 지정하지 않으면 Accept 헤더로 정합니다. 국가 코드와 기간 조건은 선택입니다.")
+	@ApiResponse(responseCode = "200", description = "내보내기 성공")
+	void exportHolidays(
+			@Parameter(description = "국가 코드, 기간, 형식 (NDJSON, CSV, CBOR, SMILE)") final HolidayExportDto.Request request,
+			@Parameter(hidden = true) final HttpHeaders headers,
+			@Parameter(hidden = true) final HttpServletRequest servletRequest,
+			@Parameter(hidden = true) final HttpServletResponse response) throws IOException;
+
+	@Operation(summary = "영업일 더하기", description = "date 로부터 days 영업일 뒤의 날짜를 계산합니다. 음수면 이전 날짜를 계산하며 date 자신은 세지 않습니다. 주말은 국가별 설정(기본 토·일)을 따릅니다.")
+	@ApiResponse(responseCode = "200", description = "계산 성공")
+	Response<BusinessDayDto.AddResponse> addBusinessDays(
+			@Parameter(description = "국가 코드, 기준 날짜, 영업일 수 (-10000 ~ 10000)") final BusinessDayDto.AddRequest request);
+
+	@Operation(summary = "영업일 수 계산", description = "startDate ~ endDate (양 끝 포함) 사이의 영업일 수를 계산합니다. 주말과 공휴일은 제외합니다.")
+	@ApiResponse(responseCode = "200", description = "계산 성공")
+	Response<BusinessDayDto.CountResponse> countBusinessDays(
+			@Parameter(description = "국가 코드, 시작일, 종료일") final BusinessDayDto.CountRequest request);
+
+	@Operation(summary = "공휴일 캘린더 구독 (ICS)", description = "국가별 공휴일을 iCalendar 형식으로 제공합니다. 데이터셋 버전마다 한 번 만든 gzip 본문을 재사용하며, ETag 가 같으면 304 를 반환합니다.")
+	@ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "text/calendar"))
+	@ApiResponse(responseCode = "304", description = "변경 없음")
+	ResponseEntity<byte[]> getHolidayCalendar(
+			@Parameter(description = "국가 코드, 시작 연도, 종료 연도 (생략 시 저장된 전체 연도)") final HolidayIcsDto.Request request,
+			@Parameter(hidden = true) final String acceptEncoding);
+
+	@Operation(summary = "연휴/징검다리 휴일 조회", description = "저장된 공휴일과 국가별 주말로 계산한 연휴(3일 이상)와, 평일 하루를 쉬면 4일 이상이 되는 징검다리 연휴를 조회합니다.")
+	@ApiResponse(responseCode = "200", description = "조회 성공")
+	Response<List<LongWeekendDto.Response>> getLongWeekends(
+			@Parameter(description = "국가 코드, 연도 (1900 ~ 2100)") final HolidayYearDto.Request request);
+
+	@Operation(summary = "공휴일 이름 자동완성", description = "전체 국가에서 name 또는 localName 에 q 가 포함된 공휴일 이름을 조회합니다. 대소문자와 발음 구별 기호는 구분하지 않으며, q 로 시작하는 이름을 먼저 반환합니다. 기동 직후 인메모리 인덱스가 적재되기 전에는 DB 에서 조회하며, 이때는 발음 구별 기호를 구분합니다. (q=fete 는 Fête 와 일치하지 않음)")
+	@ApiResponse(responseCode = "200", description = "조회 성공")
+	Response<HolidayNameDto.Response> suggestHolidayNames(
+			@Parameter(description = "검색어, 최대 건수(기본 10)") final HolidayNameDto.Request request);
+
+	@Operation(summary = "공휴일 통계 조회", description = "(국가, 연도, 월, 유형) 별 공휴일 수를 조회합니다. 변경된 국가만 다시 집계해 두므로 결과 행 수에 비례하는 비용으로 응답합니다.")
+	@ApiResponse(responseCode = "200", description = "조회 성공")
+	Response<HolidayStatisticsDto.Response> getStatistics(
+			@Parameter(description = "국가 코드 목록, 시작 연도, 종료 연도 (모두 선택)") final HolidayStatisticsDto.Request request);
+
+	@Operation(summary = "다음 공휴일 조회", description = "date 이후(date 제외) 첫 공휴일을 조회합니다. 인메모리 인덱스를 이진 탐색하며 DB 를 조회하지 않습니다.")
+	@ApiResponse(responseCode = "200", description = "조회 성공")
+	@ApiResponse(responseCode = "404", description = "이후 공휴일 없음")
+	Response<HolidayInfoDto.Response> getNextHoliday(
+			@Parameter(description = "국가 코드, 기준 날짜") final HolidayLookupDto.Request request);
+
+	@Operation(summary = "이전 공휴일 조회", description = "date 이전(date 제외) 마지막 공휴일을 조회합니다.")
+	@ApiResponse(responseCode = "200", description = "조회 성공")
+	@ApiResponse(responseCode = "404", description = "이전 공휴일 없음")
+	Response<HolidayInfoDto.Response> getPreviousHoliday(
+			@Parameter(description = "국가 코드, 기준 날짜") final HolidayLookupDto.Request request);
+
+	@Operation(summary = "다가오는 공휴일 조회", description = "date 이후(date 제외) 공휴일을 날짜 오름차순으로 최대 count 건 조회합니다.")
+	@ApiResponse(responseCode = "200", description = "조회 성공")
+	Response<List<HolidayInfoDto.Response>> getUpcomingHolidays(
+			@Parameter(description = "국가 코드, 기준 날짜, 건수 (1 ~ 100, 기본값 5)") final HolidayLookupDto.UpcomingRequest request);
+
 	@Operation(summary = "공휴일 데이터 동기화 (테스트용)", description = "지정된 연도와 국가의 공휴일 데이터를 외부 API에서 동기화합니다.")
 	@ApiResponse(responseCode = "200", description = "동기화 성공")
 	Response<String> upsert(
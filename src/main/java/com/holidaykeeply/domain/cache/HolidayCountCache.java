@@ -0,0 +1,79 @@
+package com.holidaykeeply.domain.cache;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.holidaykeeply.api.dto.SearchCondition;
+import com.holidaykeeply.domain.event.HolidayChangedEvent;
+import com.holidaykeeply.domain.event.HolidayDataVersion;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * (국가 또는 국가 목록, 기간) 별 공휴일 검색 전체 건수 캐시
+ * 키에 데이터셋 버전을 포함하므로 upsert/삭제 이후에는 자연스럽게 다시 계산된다.
+ * 항목 수는 MAX_ENTRIES 로 제한하고 W-TinyLFU(Caffeine) 로 축출한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HolidayCountCache {
+	private static final long MAX_ENTRIES = 10_000;
+
+	private final HolidayDataVersion dataVersion;
+	private final Cache<Key, Long> totals = Caffeine.newBuilder()
+		.maximumSize(MAX_ENTRIES)
+		.build();
+
+	/**
+	 * countries 는 대문자로 바꾸고 순서와 중복을 제거해, 같은 국가 집합이면 같은 키가 되도록 정규화한다.
+	 */
+	private record Key(
+		long version,
+		String countryName,
+		List<String> countries,
+		LocalDate startDate,
+		LocalDate endDate,
+		String name,
+		String subdivision,
+		List<String> types,
+		Boolean fixed,
+		Boolean global
+	) {
+		static Key of(final long version, final SearchCondition searchCondition) {
+			List<String> countries = searchCondition.isMultiCountry()
+				? searchCondition.countries().stream().map(country -> country.toUpperCase(Locale.ROOT)).distinct().sorted().toList()
+				: List.of();
+			return new Key(
+				version,
+				searchCondition.isMultiCountry() ? null : searchCondition.countryName(),
+				countries,
+				searchCondition.startDate(),
+				searchCondition.endDate(),
+				searchCondition.hasName() ? searchCondition.name() : null,
+				searchCondition.hasSubdivision() ? searchCondition.subdivision() : null,
+				searchCondition.hasTypes() ? searchCondition.types().stream().distinct().sorted().toList() : List.of(),
+				searchCondition.fixed(),
+				searchCondition.global());
+		}
+	}
+
+	public long get(final SearchCondition searchCondition, final LongSupplier counter) {
+		return totals.get(Key.of(dataVersion.current(), searchCondition), key -> counter.getAsLong());
+	}
+
+	public long estimatedSize() {
+		return totals.estimatedSize();
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onHolidayChanged(final HolidayChangedEvent event) {
+		totals.invalidateAll(); // 이전 버전 키 정리
+	}
+}
@@ -0,0 +1,168 @@
+package com.holidaykeeply.domain.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.holidaykeeply.api.dto.HolidayInfoDto;
+import com.holidaykeeply.domain.event.HolidayDataVersion;
+import com.holidaykeeply.domain.index.CountryHolidayIndex;
+import com.holidaykeeply.domain.index.HolidayIndex;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * (국가 코드, 연도 범위) 별 iCalendar(RFC 5545) 본문을 원본과 gzip 압축본 두 가지로 보관하는 캐시
+ * 데이터셋 버전마다 한 번만 만들고, 요청은 인코딩에 맞는 바이트를 그대로 받으므로 요청마다 압축하거나 풀지 않는다.
+ * 버전을 먼저 읽고 인덱스로 만들기 때문에 항목이 버전보다 새로울 수는 있어도 오래되지는 않는다.
+ * 두 본문의 바이트 수 합 기준 가중치로 크기를 제한한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HolidayIcsCache {
+	private static final long MAX_WEIGHT_BYTES = 64L * 1024 * 1024;
+	private static final int MAX_LINE_OCTETS = 75;
+	private static final String CRLF = "\r\n";
+	private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+	private static final DateTimeFormatter STAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+		.withZone(ZoneOffset.UTC);
+
+	private final HolidayIndex holidayIndex;
+	private final HolidayDataVersion holidayDataVersion;
+
+	private final Cache<Key, Entry> cache = Caffeine.newBuilder()
+		.maximumWeight(MAX_WEIGHT_BYTES)
+		.weigher((Key key, Entry entry) -> entry.identity().length + entry.gzip().length)
+		.build();
+
+	private record Key(String countryCode, int fromYear, int toYear) {}
+
+	private record Entry(long version, byte[] identity, byte[] gzip) {
+		static Entry of(final long version, final String ics) {
+			byte[] identity = ics.getBytes(StandardCharsets.UTF_8);
+			return new Entry(version, identity, HolidayIcsCache.gzip(identity));
+		}
+
+		byte[] body(final boolean gzip) {
+			return gzip ? this.gzip : identity;
+		}
+	}
+
+	/**
+	 * ICS 본문. gzip 이 true 면 압축본, 아니면 원본을 반환한다. 연도를 생략하면 저장된 첫 연도 / 마지막 연도를 사용한다.
+	 */
+	public byte[] get(final String countryCode, final Integer fromYear, final Integer toYear, final boolean gzip) {
+		long version = holidayDataVersion.current();
+		CountryHolidayIndex country = holidayIndex.countryByCode(countryCode);
+		int from = fromYear != null ? fromYear : country.firstYear();
+		int to = toYear != null ? toYear : country.lastYear();
+		if (!holidayIndex.isLoaded()) {
+			byte[] identity = render(countryCode, country, from, to, version).getBytes(StandardCharsets.UTF_8);
+			return gzip ? gzip(identity) : identity;
+		}
+
+		Key key = new Key(countryCode, from, to);
+		Entry entry = cache.getIfPresent(key);
+		if (entry == null || entry.version() != version) {
+			entry = Entry.of(version, render(countryCode, country, from, to, version));
+			cache.put(key, entry);
+		}
+		return entry.body(gzip);
+	}
+
+	private String render(
+			final String countryCode,
+			final CountryHolidayIndex country,
+			final int fromYear,
+			final int toYear,
+			final long version) {
+		String stamp = STAMP.format(Instant.ofEpochMilli(version));
+		String countryName = country.getCountryName() != null ? country.getCountryName() : countryCode;
+
+		StringBuilder ics = new StringBuilder();
+		line(ics, "BEGIN:VCALENDAR");
+		line(ics, "VERSION:2.0");
+		line(ics, "PRODID:-//holidaykeeply//Holidays//EN");
+		line(ics, "CALSCALE:GREGORIAN");
+		line(ics, "METHOD:PUBLISH");
+		line(ics, "X-WR-CALNAME:" + escape(countryName + " Holidays"));
+
+		if (fromYear <= toYear) {
+			int from = country.lowerBound((int) LocalDate.of(fromYear, 1, 1).toEpochDay());
+			int to = country.upperBound((int) LocalDate.of(toYear, 12, 31).toEpochDay());
+			for (int position = from; position < to; position++) {
+				HolidayInfoDto.Response holiday = country.toResponse(position);
+				line(ics, "BEGIN:VEVENT");
+				line(ics, "UID:holiday-" + holiday.getId() + "@holidaykeeply");
+				line(ics, "DTSTAMP:" + stamp);
+				line(ics, "DTSTART;VALUE=DATE:" + DATE.format(holiday.getLocalDate()));
+				line(ics, "DTEND;VALUE=DATE:" + DATE.format(holiday.getLocalDate().plusDays(1)));
+				line(ics, "SUMMARY:" + escape(holiday.getName()));
+				if (holiday.getLocalName() != null) {
+					line(ics, "DESCRIPTION:" + escape(holiday.getLocalName()));
+				}
+				line(ics, "TRANSP:TRANSPARENT");
+				line(ics, "END:VEVENT");
+			}
+		}
+		line(ics, "END:VCALENDAR");
+		return ics.toString();
+	}
+
+	/**
+	 * 한 줄을 75 octet(UTF-8) 단위로 접어(folding) CRLF 로 끝낸다. 이어지는 줄은 공백 하나로 시작한다.
+	 */
+	private void line(final StringBuilder ics, final String content) {
+		int octets = 0;
+		for (int i = 0; i < content.length(); ) {
+			int codePoint = content.codePointAt(i);
+			int size = utf8Length(codePoint);
+			if (octets + size > MAX_LINE_OCTETS) {
+				ics.append(CRLF).append(' ');
+				octets = 1;
+			}
+			ics.appendCodePoint(codePoint);
+			octets += size;
+			i += Character.charCount(codePoint);
+		}
+		ics.append(CRLF);
+	}
+
+	private int utf8Length(final int codePoint) {
+		if (codePoint < 0x80) {
+			return 1;
+		}
+		if (codePoint < 0x800) {
+			return 2;
+		}
+		return codePoint < 0x10000 ? 3 : 4;
+	}
+
+	private String escape(final String text) {
+		return text.replace("\\", "\\\\")
+			.replace(";", "\\;")
+			.replace(",", "\\,")
+			.replace("\r\n", "\\n")
+			.replace("\n", "\\n");
+	}
+
+	private static byte[] gzip(final byte[] identity) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(identity);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return out.toByteArray();
+	}
+}
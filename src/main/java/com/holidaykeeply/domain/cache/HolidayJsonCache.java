@@ -0,0 +1,118 @@
+package com.holidaykeeply.domain.cache;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.holidaykeeply.api.dto.HolidayInfoDto;
+import com.holidaykeeply.domain.event.HolidayChangedEvent;
+import com.holidaykeeply.domain.index.CountryHolidayIndex;
+import com.holidaykeeply.domain.index.HolidayIndex;
+import com.holidaykeeply.global.common.response.Response;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * (국가 코드, 연도) 별 전체 공휴일 응답을 UTF-8 JSON 바이트로 미리 직렬화해 둔 캐시
+ * 기동 시와 {@link HolidayChangedEvent} 발생 시 해당 국가의 모든 연도를 다시 만든다.
+ * 각 항목은 만들 때 사용한 국가 인덱스를 함께 보관하고, 현재 인덱스와 다르면 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HolidayJsonCache {
+	private final HolidayIndex holidayIndex;
+	private final ObjectMapper objectMapper;
+
+	private final Map<Key, Entry> rendered = new ConcurrentHashMap<>();
+	private volatile byte[] emptyYear;
+
+	private record Key(String countryCode, int year) {}
+
+	private record Entry(CountryHolidayIndex source, byte[] json) {}
+
+	/**
+	 * 해당 국가/연도의 전체 공휴일 (날짜 오름차순) 응답 JSON
+	 */
+	public byte[] get(final String countryCode, final int year) {
+		CountryHolidayIndex country = holidayIndex.countryByCode(countryCode);
+		if (year < country.firstYear() || year > country.lastYear()) {
+			return emptyYear();
+		}
+		if (!holidayIndex.isLoaded()) {
+			return render(country, year);
+		}
+
+		Key key = new Key(countryCode, year);
+		Entry entry = rendered.get(key);
+		if (entry == null || entry.source() != country) {
+			entry = new Entry(country, render(country, year));
+			rendered.put(key, entry);
+		}
+		return entry.json();
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		holidayIndex.countryCodes().forEach(this::renderCountry);
+		log.info("Holiday JSON cache warmed: {} entries", rendered.size());
+	}
+
+	/**
+	 * 인덱스 갱신 이후, 데이터셋 버전 증가 이전에 실행한다.
+	 */
+	@Order(0)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onHolidayChanged(final HolidayChangedEvent event) {
+		rendered.keySet().removeIf(key -> key.countryCode().equals(event.countryCode()));
+		if (holidayIndex.isLoaded()) {
+			renderCountry(event.countryCode());
+		}
+	}
+
+	private void renderCountry(final String countryCode) {
+		CountryHolidayIndex country = holidayIndex.countryByCode(countryCode);
+		for (int year = country.firstYear(); year <= country.lastYear(); year++) {
+			rendered.put(new Key(countryCode, year), new Entry(country, render(country, year)));
+		}
+	}
+
+	private byte[] emptyYear() {
+		byte[] json = emptyYear;
+		if (json == null) {
+			json = serialize(List.of());
+			emptyYear = json;
+		}
+		return json;
+	}
+
+	private byte[] render(final CountryHolidayIndex country, final int year) {
+		int from = country.lowerBound((int) LocalDate.of(year, 1, 1).toEpochDay());
+		int to = country.upperBound((int) LocalDate.of(year, 12, 31).toEpochDay());
+		List<HolidayInfoDto.Response> rows = new ArrayList<>(to - from);
+		for (int position = from; position < to; position++) {
+			rows.add(country.toResponse(position));
+		}
+		return serialize(rows);
+	}
+
+	private byte[] serialize(final List<HolidayInfoDto.Response> rows) {
+		try {
+			return objectMapper.writeValueAsBytes(Response.ok(rows));
+		} catch (JsonProcessingException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
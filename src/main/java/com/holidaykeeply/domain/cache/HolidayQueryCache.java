@@ -0,0 +1,256 @@
+package com.holidaykeeply.domain.cache;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.holidaykeeply.api.dto.HolidayInfoDto;
+import com.holidaykeeply.api.dto.SearchCondition;
+import com.holidaykeeply.domain.event.HolidayChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * 공휴일 검색 결과(Page) read-through 캐시
+ * 전체 행 수 기준 가중치로 크기를 제한하고 W-TinyLFU(Caffeine) 로 축출한다.
+ * 변경 이벤트가 발생하면 해당 국가(코드, 국가명)의 세대 번호만 올려, 그 국가를 조건에 포함한 항목만 stale 로 만든다.
+ * stale 항목은 별도 스레드에서 다시 조회하고, 조회가 실패하거나(DB 장애 등) LOAD_TIMEOUT 안에 끝나지 않으면
+ * stale 항목을 그대로 반환한다. 늦게 끝난 조회 결과는 캐시에 넣어 다음 요청부터 사용한다.
+ * 같은 키·세대의 재조회는 하나만 실행한다. 캐시에 없는 조건은 호출 스레드에서 바로 조회한다.
+ */
+@Slf4j
+@Component
+public class HolidayQueryCache {
+	private static final long MAX_WEIGHT = 200_000;
+	private static final Duration LOAD_TIMEOUT = Duration.ofMillis(500);
+
+	private final Cache<Key, Entry> cache = Caffeine.newBuilder()
+		.maximumWeight(MAX_WEIGHT)
+		.weigher((Key key, Entry entry) -> entry.page().getNumberOfElements() + 1)
+		.recordStats()
+		.build();
+	private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+	private final AtomicLong anyGeneration = new AtomicLong();
+	private final AtomicLong staleHits = new AtomicLong();
+	private final Map<Pending, CompletableFuture<Page<HolidayInfoDto.Response>>> refreshes = new ConcurrentHashMap<>();
+	private final Executor refreshExecutor;
+	private final Duration loadTimeout;
+
+	public HolidayQueryCache() {
+		this(LOAD_TIMEOUT, Executors.newVirtualThreadPerTaskExecutor());
+	}
+
+	/**
+	 * stale 항목 재조회를 refreshExecutor 에서 실행한다. 테스트는 재조회 시점을 직접 정할 수 있는 Executor 를 넘긴다.
+	 */
+	HolidayQueryCache(final Duration loadTimeout, final Executor refreshExecutor) {
+		this.loadTimeout = loadTimeout;
+		this.refreshExecutor = refreshExecutor;
+	}
+
+	/**
+	 * countries 는 순서와 중복을 제거해 같은 조건이면 같은 키가 되도록 정규화한다.
+	 */
+	private record Key(
+		String countryName,
+		List<String> countries,
+		LocalDate startDate,
+		LocalDate endDate,
+		String name,
+		String subdivision,
+		List<String> types,
+		Boolean fixed,
+		Boolean global,
+		long offset,
+		int size,
+		Sort sort
+	) {
+		static Key of(final SearchCondition searchCondition, final Pageable pageable) {
+			List<String> countries = searchCondition.isMultiCountry()
+				? searchCondition.countries().stream().distinct().sorted().toList()
+				: List.of();
+			return new Key(
+				searchCondition.isMultiCountry() ? null : searchCondition.countryName(),
+				countries,
+				searchCondition.startDate(),
+				searchCondition.endDate(),
+				searchCondition.hasName() ? searchCondition.name() : null,
+				searchCondition.hasSubdivision() ? searchCondition.subdivision() : null,
+				searchCondition.hasTypes() ? searchCondition.types().stream().distinct().sorted().toList() : List.of(),
+				searchCondition.fixed(),
+				searchCondition.global(),
+				pageable.isPaged() ? pageable.getOffset() : -1,
+				pageable.isPaged() ? pageable.getPageSize() : -1,
+				pageable.getSort());
+		}
+
+		List<String> countryKeys() {
+			return countryName != null ? List.of(countryName) : countries;
+		}
+	}
+
+	private record Entry(Page<HolidayInfoDto.Response> page, long stamp) {}
+
+	private record Pending(Key key, long stamp) {}
+
+	public Page<HolidayInfoDto.Response> get(
+			final SearchCondition searchCondition,
+			final Pageable pageable,
+			final Supplier<Page<HolidayInfoDto.Response>> loader) {
+		Key key = Key.of(searchCondition, pageable);
+		long stamp = stamp(key); // 조회 전에 읽어 조회 중 변경이 생기면 다음 요청에서 다시 조회되게 한다
+		Entry cached = cache.getIfPresent(key);
+		if (cached != null && cached.stamp() == stamp) {
+			return cached.page();
+		}
+
+		if (cached == null) {
+			Page<HolidayInfoDto.Response> page = loader.get();
+			store(key, new Entry(page, stamp));
+			return page;
+		}
+
+		try {
+			return refresh(key, stamp, loader).get(loadTimeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			return stale(key, cached, "load timed out after " + loadTimeout.toMillis() + "ms");
+		} catch (ExecutionException e) {
+			return stale(key, cached, e.getCause().getMessage());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return stale(key, cached, "interrupted");
+		}
+	}
+
+	/**
+	 * {@link #get} 의 논블로킹 버전. loader 의 Mono 로 조회하고 구독 스레드를 막지 않는다.
+	 * stale 항목 재조회가 실패하거나 LOAD_TIMEOUT 안에 끝나지 않으면 stale 항목을 반환하고,
+	 * 늦게 끝난 조회 결과는 취소하지 않고 캐시에 넣는다.
+	 */
+	public Mono<Page<HolidayInfoDto.Response>> getAsync(
+			final SearchCondition searchCondition,
+			final Pageable pageable,
+			final Supplier<Mono<Page<HolidayInfoDto.Response>>> loader) {
+		return Mono.defer(() -> {
+			Key key = Key.of(searchCondition, pageable);
+			long stamp = stamp(key);
+			Entry cached = cache.getIfPresent(key);
+			if (cached != null && cached.stamp() == stamp) {
+				return Mono.just(cached.page());
+			}
+
+			Mono<Page<HolidayInfoDto.Response>> load = loader.get()
+				.doOnNext(page -> store(key, new Entry(page, stamp)));
+			if (cached == null) {
+				return load;
+			}
+			return Mono.fromFuture(load.toFuture(), true)
+				.timeout(loadTimeout, Mono.fromSupplier(() -> stale(key, cached,
+					"load timed out after " + loadTimeout.toMillis() + "ms")))
+				.onErrorResume(e -> Mono.just(stale(key, cached, e.getMessage())));
+		});
+	}
+
+	private CompletableFuture<Page<HolidayInfoDto.Response>> refresh(
+			final Key key,
+			final long stamp,
+			final Supplier<Page<HolidayInfoDto.Response>> loader) {
+		Pending pending = new Pending(key, stamp);
+		CompletableFuture<Page<HolidayInfoDto.Response>> created = new CompletableFuture<>();
+		CompletableFuture<Page<HolidayInfoDto.Response>> running = refreshes.putIfAbsent(pending, created);
+		if (running != null) {
+			return running;
+		}
+		refreshExecutor.execute(() -> {
+			try {
+				Page<HolidayInfoDto.Response> page = loader.get();
+				store(key, new Entry(page, stamp));
+				created.complete(page);
+			} catch (RuntimeException e) {
+				created.completeExceptionally(e);
+			} finally {
+				refreshes.remove(pending, created);
+			}
+		});
+		return created;
+	}
+
+	/**
+	 * 늦게 끝난 이전 세대의 조회가 더 새로운 항목을 덮어쓰지 않게 한다. 세대 합은 증가만 한다.
+	 */
+	private void store(final Key key, final Entry entry) {
+		cache.asMap().merge(key, entry, (current, loaded) -> loaded.stamp() >= current.stamp() ? loaded : current);
+	}
+
+	private Page<HolidayInfoDto.Response> stale(final Key key, final Entry cached, final String reason) {
+		staleHits.incrementAndGet();
+		log.warn("Serving stale holiday page for {}: {}", key, reason);
+		return cached.page();
+	}
+
+	/**
+	 * 국가 코드와 국가명 어느 쪽으로 검색한 항목이든 stale 로 만든다.
+	 */
+	@Order(0)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onHolidayChanged(final HolidayChangedEvent event) {
+		anyGeneration.incrementAndGet();
+		bump(event.countryCode());
+		bump(event.countryName());
+	}
+
+	public CacheStats stats() {
+		return cache.stats();
+	}
+
+	public long estimatedSize() {
+		return cache.estimatedSize();
+	}
+
+	public long staleHits() {
+		return staleHits.get();
+	}
+
+	private void bump(final String countryKey) {
+		if (countryKey != null) {
+			generations.computeIfAbsent(countryKey, k -> new AtomicLong()).incrementAndGet();
+		}
+	}
+
+	/**
+	 * 조건에 포함된 국가들의 세대 번호 합. 세대 번호는 증가만 하므로 하나라도 바뀌면 합이 달라진다.
+	 * 국가 조건이 없으면 모든 변경에 반응한다.
+	 */
+	private long stamp(final Key key) {
+		if (key.countryKeys().isEmpty()) {
+			return anyGeneration.get();
+		}
+		long stamp = 0;
+		for (String countryKey : key.countryKeys()) {
+			AtomicLong generation = generations.get(countryKey);
+			stamp += generation != null ? generation.get() : 0;
+		}
+		return stamp;
+	}
+}
@@ -1,10 +1,14 @@
 package com.holidaykeeply.domain.entity;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.hibernate.annotations.Comment;
 
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
@@ -12,8 +16,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,6 +30,13 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @Builder
+@Table(
+	indexes = @Index(
+		name = "idx_holiday_search",
+		columnList = "country_id, date desc, holiday_id desc, name, local_name, fixed, global, launch_year"),
+	uniqueConstraints = @UniqueConstraint(
+		name = "uk_holiday_country_date_name",
+		columnNames = {"country_id", "date", "name"}))
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Holiday extends BaseTimeEntity {
@@ -55,9 +69,19 @@ public class Holiday extends BaseTimeEntity {
 	private String launchYear;
 
 	@ElementCollection
+	@CollectionTable(
+		name = "holiday_counties",
+		joinColumns = @JoinColumn(name = "holiday_id"),
+		indexes = @Index(name = "idx_holiday_counties_holiday", columnList = "holiday_id"))
+	@Column(name = "county")
 	private List<String> counties;
 
 	@ElementCollection
+	@CollectionTable(
+		name = "holiday_types",
+		joinColumns = @JoinColumn(name = "holiday_id"),
+		indexes = @Index(name = "idx_holiday_types_holiday", columnList = "holiday_id"))
+	@Column(name = "type")
 	private List<String> types;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -68,4 +92,40 @@ public class Holiday extends BaseTimeEntity {
 		this.country = country;
 		this.date = LocalDate.of(year.getYear(), this.date.getMonth(), this.date.getDayOfMonth());
 	}
+
+	/**
+	 * 같은 (국가, 날짜, 영어 이름) 공휴일을 다시 동기화할 때 나머지 속성을 덮어쓴다.
+	 */
+	public void update(Holiday source) {
+		this.localName = source.localName;
+		this.fixed = source.fixed;
+		this.global = source.global;
+		this.launchYear = source.launchYear;
+		this.counties = source.counties;
+		this.types = source.types;
+	}
+
+	/**
+	 * 같은 응답 안에 (날짜, 영어 이름)이 같은 공휴일이 여러 번 오면 지역(counties)과 유형(types)을 합친다.
+	 * 어느 한쪽이라도 전국 공휴일이면 전국 공휴일로 본다.
+	 */
+	public void merge(Holiday duplicate) {
+		this.global = this.global || duplicate.global;
+		this.counties = union(this.counties, duplicate.counties);
+		this.types = union(this.types, duplicate.types);
+	}
+
+	private static List<String> union(List<String> first, List<String> second) {
+		if (first == null && second == null) {
+			return null;
+		}
+		Set<String> merged = new LinkedHashSet<>();
+		if (first != null) {
+			merged.addAll(first);
+		}
+		if (second != null) {
+			merged.addAll(second);
+		}
+		return new ArrayList<>(merged);
+	}
 }
@@ -0,0 +1,10 @@
+package com.holidaykeeply.domain.event;
+
+/**
+ * 특정 국가의 공휴일 데이터가 저장/삭제되었음을 알리는 이벤트
+ * 국가명으로 검색한 캐시도 무효화할 수 있도록 국가명을 함께 전달한다.
+ */
+public record HolidayChangedEvent(
+	String countryCode,
+	String countryName
+) {}
@@ -0,0 +1,30 @@
+package com.holidaykeeply.domain.event;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 공휴일 데이터셋 버전
+ * 기동 시각(ms)에서 시작해 {@link HolidayChangedEvent} 가 커밋될 때마다 max(이전 + 1, 현재 시각(ms)) 로 증가한다.
+ * 항상 증가하므로 ETag 로 사용한다. 같은 초에 여러 번 바뀔 수 있어 초 단위인 Last-Modified 로는 쓰지 않는다.
+ * 캐시 키에 포함해 upsert/삭제 이후 이전 버전의 캐시가 사용되지 않도록 한다.
+ * 인메모리 인덱스가 새 데이터로 교체된 뒤에 증가하도록 가장 마지막 순서로 실행한다.
+ */
+@Component
+public class HolidayDataVersion {
+	private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+	public long current() {
+		return version.get();
+	}
+
+	@Order(Ordered.LOWEST_PRECEDENCE)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onHolidayChanged(final HolidayChangedEvent event) {
+		version.updateAndGet(current -> Math.max(current + 1, System.currentTimeMillis()));
+	}
+}
@@ -0,0 +1,494 @@
+package com.holidaykeeply.domain.index;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.holidaykeeply.api.dto.HolidayInfoDto;
+import com.holidaykeeply.domain.entity.Holiday;
+
+/**
+ * 한 국가의 공휴일을 (date asc, id asc) 순으로 정렬해 컬럼 단위 배열로 보관하는 불변 인덱스
+ * 날짜는 epoch day(int), 이름 계열 문자열은 사전(dictionary) 인덱스로 저장한다.
+ * 단건 공휴일 여부 확인을 위해 연도별 366비트 비트셋도 함께 만든다.
+ * 영업일/연휴 계산에는 전국(global) 이면서 유형이 Public 인 공휴일만 쉬는 날로 보고, 같은 형태의 비트셋을 따로 만든다.
+ * 지역/유형은 공휴일별 {@link HolidayInfoDto.Details} 로 보관하며, 둘 다 비어 있으면 공유 인스턴스를 쓴다.
+ * 영업일 계산용으로 인덱스 연도 범위의 누적 평일 공휴일 수 배열을 주말 정의별로 처음 요청될 때 만들어 보관한다.
+ * 이름 검색용으로 정규화한 name/localName 의 1글자/2글자 n-gram → 위치 목록(오름차순) 역색인을 만든다.
+ * 지역 필터용으로 지역 코드(counties) → 위치 비트셋 역색인과 전국(global) 공휴일 비트셋을 만든다.
+ * 유형(types) → 위치 비트셋과 고정일(fixed) 비트셋도 만들어 필터를 비트 AND 로 조합할 수 있게 한다.
+ */
+public final class CountryHolidayIndex {
+	public static final long NO_HOLIDAY = 0L;
+	public static final String PUBLIC_TYPE = "Public";
+	private static final int NULL_REF = -1;
+	private static final int YEAR_WORDS = (366 + Long.SIZE - 1) / Long.SIZE;
+	private static final char NAME_SEPARATOR = '\u0000';
+	private static final int[] NO_POSITIONS = new int[0];
+	private static final int EPOCH_DAY_OF_WEEK = DayOfWeek.THURSDAY.getValue() - 1;
+
+	/**
+	 * 공휴일이 하나도 없는 국가용 인덱스
+	 */
+	public static final CountryHolidayIndex EMPTY = new CountryHolidayIndex(null, null, List.of(), Map.of());
+
+	private final String countryCode;
+	private final String countryName;
+
+	private final int[] epochDays;
+	private final long[] ids;
+	private final int[] nameRefs;
+	private final int[] localNameRefs;
+	private final int[] launchYearRefs;
+	private final boolean[] fixed;
+	private final boolean[] global;
+	private final HolidayInfoDto.Details[] details;
+	private final String[] dictionary;
+	private final int firstYear;
+	private final long[][] yearBits;
+	private final long[][] dayOffYearBits;
+	private final String[] searchTexts;
+	private final Map<String, int[]> nameGrams;
+	private final BitSet globalBits;
+	private final BitSet fixedBits;
+	private final Map<String, BitSet> subdivisionBits;
+	private final Map<String, BitSet> typeBits;
+	private final Map<Integer, int[]> weekdayHolidayCounts = new ConcurrentHashMap<>();
+
+	private CountryHolidayIndex(
+			final String countryCode,
+			final String countryName,
+			final List<Holiday> sorted,
+			final Map<Long, HolidayInfoDto.Details> detailsById) {
+		int size = sorted.size();
+		this.countryCode = countryCode;
+		this.countryName = countryName;
+		this.epochDays = new int[size];
+		this.ids = new long[size];
+		this.nameRefs = new int[size];
+		this.localNameRefs = new int[size];
+		this.launchYearRefs = new int[size];
+		this.fixed = new boolean[size];
+		this.global = new boolean[size];
+		this.details = new HolidayInfoDto.Details[size];
+		this.searchTexts = new String[size];
+
+		Map<String, Integer> refs = new HashMap<>();
+		List<String> words = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			Holiday holiday = sorted.get(i);
+			epochDays[i] = (int) holiday.getDate().toEpochDay();
+			ids[i] = holiday.getId();
+			nameRefs[i] = intern(holiday.getName(), refs, words);
+			localNameRefs[i] = intern(holiday.getLocalName(), refs, words);
+			launchYearRefs[i] = intern(holiday.getLaunchYear(), refs, words);
+			fixed[i] = holiday.isFixed();
+			global[i] = holiday.isGlobal();
+			details[i] = detailsById.getOrDefault(holiday.getId(), HolidayInfoDto.Details.EMPTY);
+			searchTexts[i] = HolidayNameNormalizer.normalize(holiday.getName())
+				+ NAME_SEPARATOR + HolidayNameNormalizer.normalize(holiday.getLocalName());
+		}
+		this.dictionary = words.toArray(String[]::new);
+		this.nameGrams = buildNameGrams(searchTexts);
+
+		this.globalBits = new BitSet(size);
+		this.fixedBits = new BitSet(size);
+		Map<String, BitSet> bySubdivision = new HashMap<>();
+		Map<String, BitSet> byType = new HashMap<>();
+		for (int i = 0; i < size; i++) {
+			globalBits.set(i, global[i]);
+			fixedBits.set(i, fixed[i]);
+			for (String county : details[i].counties()) {
+				bySubdivision.computeIfAbsent(county, c -> new BitSet(size)).set(i);
+			}
+			for (String type : details[i].types()) {
+				byType.computeIfAbsent(type, t -> new BitSet(size)).set(i);
+			}
+		}
+		this.subdivisionBits = Map.copyOf(bySubdivision);
+		this.typeBits = Map.copyOf(byType);
+
+		if (size == 0) {
+			this.firstYear = 0;
+			this.yearBits = new long[0][];
+			this.dayOffYearBits = new long[0][];
+		} else {
+			this.firstYear = LocalDate.ofEpochDay(epochDays[0]).getYear();
+			int years = LocalDate.ofEpochDay(epochDays[size - 1]).getYear() - firstYear + 1;
+			this.yearBits = new long[years][YEAR_WORDS];
+			this.dayOffYearBits = new long[years][YEAR_WORDS];
+			for (int i = 0; i < size; i++) {
+				LocalDate date = LocalDate.ofEpochDay(epochDays[i]);
+				int bit = date.getDayOfYear() - 1;
+				yearBits[date.getYear() - firstYear][bit >>> 6] |= 1L << bit;
+				if (global[i] && details[i].types().contains(PUBLIC_TYPE)) {
+					dayOffYearBits[date.getYear() - firstYear][bit >>> 6] |= 1L << bit;
+				}
+			}
+		}
+	}
+
+	public static CountryHolidayIndex of(
+			final String countryCode,
+			final String countryName,
+			final List<Holiday> holidays) {
+		return of(countryCode, countryName, holidays, Map.of());
+	}
+
+	public static CountryHolidayIndex of(
+			final String countryCode,
+			final String countryName,
+			final List<Holiday> holidays,
+			final Map<Long, HolidayInfoDto.Details> details) {
+		List<Holiday> sorted = new ArrayList<>(holidays);
+		sorted.sort(Comparator.comparing(Holiday::getDate).thenComparing(Holiday::getId));
+		return new CountryHolidayIndex(countryCode, countryName, sorted, details);
+	}
+
+	private static int intern(final String value, final Map<String, Integer> refs, final List<String> words) {
+		if (value == null) {
+			return NULL_REF;
+		}
+		return refs.computeIfAbsent(value, v -> {
+			words.add(v);
+			return words.size() - 1;
+		});
+	}
+
+	/**
+	 * 위치마다 검색 문자열의 1글자, 2글자 조각을 모아 조각별 위치 목록을 만든다. 위치는 오름차순이고 중복이 없다.
+	 */
+	private static Map<String, int[]> buildNameGrams(final String[] searchTexts) {
+		Map<String, int[]> postings = new HashMap<>();
+		Map<String, Integer> counts = new HashMap<>();
+		for (int i = 0; i < searchTexts.length; i++) {
+			for (String gram : grams(searchTexts[i])) {
+				int count = counts.getOrDefault(gram, 0);
+				int[] positions = postings.get(gram);
+				if (positions == null || positions.length == count) {
+					positions = Arrays.copyOf(positions == null ? NO_POSITIONS : positions, Math.max(4, count * 2));
+					postings.put(gram, positions);
+				}
+				positions[count] = i;
+				counts.put(gram, count + 1);
+			}
+		}
+		Map<String, int[]> trimmed = new HashMap<>(postings.size() * 2);
+		postings.forEach((gram, positions) -> trimmed.put(gram, Arrays.copyOf(positions, counts.get(gram))));
+		return trimmed;
+	}
+
+	private static LinkedHashSet<String> grams(final String text) {
+		LinkedHashSet<String> grams = new LinkedHashSet<>();
+		for (int i = 0; i < text.length(); i++) {
+			if (text.charAt(i) == NAME_SEPARATOR) {
+				continue;
+			}
+			grams.add(text.substring(i, i + 1));
+			if (i + 1 < text.length() && text.charAt(i + 1) != NAME_SEPARATOR) {
+				grams.add(text.substring(i, i + 2));
+			}
+		}
+		return grams;
+	}
+
+	public String getCountryCode() {
+		return countryCode;
+	}
+
+	public String getCountryName() {
+		return countryName;
+	}
+
+	/**
+	 * 공휴일이 있는 첫 연도. 공휴일이 없으면 lastYear 보다 크다.
+	 */
+	public int firstYear() {
+		return yearBits.length == 0 ? 1 : firstYear;
+	}
+
+	public int lastYear() {
+		return yearBits.length == 0 ? 0 : firstYear + yearBits.length - 1;
+	}
+
+	public int size() {
+		return epochDays.length;
+	}
+
+	public int epochDay(final int position) {
+		return epochDays[position];
+	}
+
+	public long id(final int position) {
+		return ids[position];
+	}
+
+	public HolidayInfoDto.Details details(final int position) {
+		return details[position];
+	}
+
+	/**
+	 * 연도별 비트셋으로 O(1) 에 공휴일 여부를 확인한다. 지역 공휴일과 기념일 등 모든 유형을 포함한다.
+	 */
+	public boolean isHoliday(final LocalDate date) {
+		return isSet(yearBits, date);
+	}
+
+	/**
+	 * 전국 공휴일(global 이고 유형이 Public)이라 나라 전체가 쉬는 날인지. 영업일과 연휴 계산의 기준이다.
+	 */
+	public boolean isDayOff(final LocalDate date) {
+		return isSet(dayOffYearBits, date);
+	}
+
+	private boolean isSet(final long[][] bitsByYear, final LocalDate date) {
+		int yearOffset = date.getYear() - firstYear;
+		if (yearOffset < 0 || yearOffset >= bitsByYear.length) {
+			return false;
+		}
+		int bit = date.getDayOfYear() - 1;
+		return (bitsByYear[yearOffset][bit >>> 6] & (1L << bit)) != 0;
+	}
+
+	/**
+	 * epochDay 전날까지의 누적 영업일 수. 1970-01-01 이 0 이고 그 이전 날짜는 음수다.
+	 * 쉬는 날은 {@link #isDayOff} 기준이라 지역 공휴일과 Public 이 아닌 유형은 영업일로 센다.
+	 * 두 값의 차가 기간 내 영업일 수가 된다. 요일 부분은 닫힌 식, 공휴일 부분은 인덱스 연도 범위의
+	 * 누적 배열로 구하므로 기간 길이와 상관없이 O(1) 이다. 인덱스 범위 밖에는 공휴일이 없다.
+	 * weekendMask 는 MONDAY = bit 0 ... SUNDAY = bit 6
+	 */
+	public long workingDaysBefore(final long epochDay, final int weekendMask) {
+		return weekdaysBefore(epochDay, weekendMask) - weekdayHolidaysBefore(epochDay, weekendMask);
+	}
+
+	private static long weekdaysBefore(final long epochDay, final int weekendMask) {
+		int perWeek = 7 - Integer.bitCount(weekendMask & 0x7F);
+		int rest = (int) Math.floorMod(epochDay, 7L);
+		int partial = 0;
+		for (int day = 0; day < rest; day++) {
+			if ((weekendMask & (1 << ((EPOCH_DAY_OF_WEEK + day) % 7))) == 0) {
+				partial++;
+			}
+		}
+		return Math.floorDiv(epochDay, 7L) * perWeek + partial;
+	}
+
+	private int weekdayHolidaysBefore(final long epochDay, final int weekendMask) {
+		if (yearBits.length == 0) {
+			return 0;
+		}
+		long offset = epochDay - LocalDate.of(firstYear, 1, 1).toEpochDay();
+		if (offset <= 0) {
+			return 0;
+		}
+		// 주말 정의 수(최대 128)만큼만 만들어지며, 길이는 인덱스 연도 범위의 일수다.
+		int[] counts = weekdayHolidayCounts.computeIfAbsent(weekendMask, this::buildWeekdayHolidayCounts);
+		return counts[(int) Math.min(offset, counts.length - 1)];
+	}
+
+	/**
+	 * counts[i] = 인덱스 첫 연도 1월 1일부터 i 일 동안 주말이 아닌 전국 공휴일 수
+	 */
+	private int[] buildWeekdayHolidayCounts(final int weekendMask) {
+		int length = (int) (LocalDate.of(lastYear() + 1, 1, 1).toEpochDay() - LocalDate.of(firstYear, 1, 1).toEpochDay());
+		int[] counts = new int[length + 1];
+		int dayOfWeek = LocalDate.of(firstYear, 1, 1).getDayOfWeek().getValue() - 1;
+		int position = 0;
+		for (int yearOffset = 0; yearOffset < dayOffYearBits.length; yearOffset++) {
+			long[] bits = dayOffYearBits[yearOffset];
+			int yearLength = Year.of(firstYear + yearOffset).length();
+			for (int day = 0; day < yearLength; day++, position++) {
+				boolean weekend = (weekendMask & (1 << dayOfWeek)) != 0;
+				boolean holiday = (bits[day >>> 6] & (1L << day)) != 0;
+				counts[position + 1] = counts[position] + (holiday && !weekend ? 1 : 0);
+				dayOfWeek = dayOfWeek == 6 ? 0 : dayOfWeek + 1;
+			}
+		}
+		return counts;
+	}
+
+	/**
+	 * 해당 날짜 공휴일 중 id 가 가장 작은 공휴일의 id, 공휴일이 아니면 {@link #NO_HOLIDAY}
+	 * 비트셋으로 먼저 걸러 공휴일인 날짜만 이진 탐색한다.
+	 */
+	public long holidayIdOn(final LocalDate date) {
+		if (!isHoliday(date)) {
+			return NO_HOLIDAY;
+		}
+		return ids[lowerBound((int) date.toEpochDay())];
+	}
+
+	/**
+	 * epochDay 이상인 첫 위치
+	 */
+	public int lowerBound(final int epochDay) {
+		int low = 0;
+		int high = epochDays.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (epochDays[mid] < epochDay) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * epochDay 초과인 첫 위치
+	 */
+	public int upperBound(final int epochDay) {
+		int low = 0;
+		int high = epochDays.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (epochDays[mid] <= epochDay) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * (epochDay, id) 이상인 첫 위치
+	 */
+	public int lowerBound(final int epochDay, final long id) {
+		int low = 0;
+		int high = epochDays.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (epochDays[mid] < epochDay || (epochDays[mid] == epochDay && ids[mid] < id)) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * name 또는 localName 에 query 가 포함된 위치 목록(오름차순)
+	 * query 는 {@link HolidayNameNormalizer#normalize} 로 정규화된 값이어야 한다.
+	 * 한 글자면 역색인 목록을 그대로 쓰고, 그 이상이면 2글자 조각 중 가장 짧은 목록만 후보로 골라 실제 포함 여부를 확인한다.
+	 */
+	public int[] nameMatches(final String query) {
+		if (query.length() == 1) {
+			return nameGrams.getOrDefault(query, NO_POSITIONS);
+		}
+		int[] candidates = null;
+		for (int i = 0; i + 1 < query.length(); i++) {
+			int[] positions = nameGrams.get(query.substring(i, i + 2));
+			if (positions == null) {
+				return NO_POSITIONS;
+			}
+			if (candidates == null || positions.length < candidates.length) {
+				candidates = positions;
+			}
+		}
+		if (candidates == null) {
+			return NO_POSITIONS;
+		}
+		int[] matches = new int[candidates.length];
+		int count = 0;
+		for (int position : candidates) {
+			if (searchTexts[position].contains(query)) {
+				matches[count++] = position;
+			}
+		}
+		return count == matches.length ? matches : Arrays.copyOf(matches, count);
+	}
+
+	/**
+	 * 전국 공휴일이거나 counties 에 subdivision 이 포함된 위치. 반환값은 복사본이라 호출자가 변경해도 된다.
+	 */
+	public BitSet subdivisionMatches(final String subdivision) {
+		BitSet matches = (BitSet) globalBits.clone();
+		BitSet regional = subdivisionBits.get(subdivision);
+		if (regional != null) {
+			matches.or(regional);
+		}
+		return matches;
+	}
+
+	/**
+	 * types 중 하나라도 가진 위치 (복사본)
+	 */
+	public BitSet typeMatches(final Collection<String> types) {
+		BitSet matches = new BitSet(size());
+		for (String type : types) {
+			BitSet bits = typeBits.get(type);
+			if (bits != null) {
+				matches.or(bits);
+			}
+		}
+		return matches;
+	}
+
+	/**
+	 * fixed 값이 같은 위치 (복사본)
+	 */
+	public BitSet fixedMatches(final boolean fixed) {
+		return flagMatches(fixedBits, fixed);
+	}
+
+	/**
+	 * global 값이 같은 위치 (복사본)
+	 */
+	public BitSet globalMatches(final boolean global) {
+		return flagMatches(globalBits, global);
+	}
+
+	private BitSet flagMatches(final BitSet bits, final boolean value) {
+		BitSet matches = (BitSet) bits.clone();
+		if (!value) {
+			matches.flip(0, size());
+		}
+		return matches;
+	}
+
+	public String name(final int position) {
+		return word(nameRefs[position]);
+	}
+
+	public String localName(final int position) {
+		return word(localNameRefs[position]);
+	}
+
+	/**
+	 * 정규화된 name 또는 localName 이 query 로 시작하는지
+	 */
+	public boolean namePrefixMatches(final int position, final String query) {
+		String text = searchTexts[position];
+		return text.startsWith(query) || text.startsWith(query, text.indexOf(NAME_SEPARATOR) + 1);
+	}
+
+	public HolidayInfoDto.Response toResponse(final int position) {
+		return new HolidayInfoDto.Response(
+			ids[position],
+			word(localNameRefs[position]),
+			word(nameRefs[position]),
+			countryName,
+			fixed[position],
+			global[position],
+			word(launchYearRefs[position]),
+			LocalDate.ofEpochDay(epochDays[position]))
+			.addDetails(details[position]);
+	}
+
+	private String word(final int ref) {
+		return ref == NULL_REF ? null : dictionary[ref];
+	}
+}
@@ -0,0 +1,467 @@
+package com.holidaykeeply.domain.index;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.holidaykeeply.api.dto.HolidayCursorDto;
+import com.holidaykeeply.api.dto.HolidayInfoDto;
+import com.holidaykeeply.api.dto.HolidayNameDto;
+import com.holidaykeeply.api.dto.SearchCondition;
+import com.holidaykeeply.domain.entity.Holiday;
+import com.holidaykeeply.domain.event.HolidayChangedEvent;
+import com.holidaykeeply.domain.infrastructure.repository.HolidayRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공휴일 조회용 인메모리 읽기 모델
+ * 기동 완료 시 전체를 적재하고, 이후에는 {@link HolidayChangedEvent} 가 발생한 국가만 다시 적재해
+ * 새 스냅샷으로 원자적으로 교체한다. 적재 전에는 조회 결과를 비워 반환해 DB 조회로 넘긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HolidayIndex {
+	private static final Comparator<RankedSuggestion> SUGGESTION_ORDER =
+		Comparator.comparing(RankedSuggestion::notPrefix)
+			.thenComparing(ranked -> ranked.suggestion().countryCode())
+			.thenComparing(ranked -> String.valueOf(ranked.suggestion().name()))
+			.thenComparing(ranked -> String.valueOf(ranked.suggestion().localName()));
+
+	private final HolidayRepository holidayRepository;
+
+	private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+	private record Snapshot(
+		Map<String, CountryHolidayIndex> byCode,
+		Map<String, CountryHolidayIndex> byName
+	) {
+		static Snapshot of(final Map<String, CountryHolidayIndex> byCode) {
+			Map<String, CountryHolidayIndex> byName = byCode.values().stream()
+				.collect(Collectors.toMap(CountryHolidayIndex::getCountryName, index -> index, (a, b) -> a));
+			return new Snapshot(Map.copyOf(byCode), Map.copyOf(byName));
+		}
+	}
+
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public synchronized void loadAll() {
+		List<Holiday> all = holidayRepository.findAllWithCountry();
+		Map<Long, HolidayInfoDto.Details> details = holidayRepository.findDetails(ids(all));
+		Map<String, List<Holiday>> grouped = all.stream()
+			.collect(Collectors.groupingBy(holiday -> holiday.getCountry().getCountryCode()));
+
+		Map<String, CountryHolidayIndex> byCode = new HashMap<>();
+		grouped.forEach((countryCode, holidays) -> byCode.put(countryCode,
+			CountryHolidayIndex.of(countryCode, holidays.getFirst().getCountry().getName(), holidays, details)));
+
+		snapshot.set(Snapshot.of(byCode));
+		log.info("Holiday index loaded: {} countries", byCode.size());
+	}
+
+	/**
+	 * 캐시/통계보다 먼저, replica 사용 시 변경 시각 기록(ReplicaLagMonitor) 다음에 실행한다.
+	 */
+	@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+	@TransactionalEventListener(fallbackExecution = true)
+	@Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+	public synchronized void onHolidayChanged(final HolidayChangedEvent event) {
+		Snapshot current = snapshot.get();
+		if (current == null) {
+			return; // 전체 적재 시점에 함께 반영된다
+		}
+		List<Holiday> holidays = holidayRepository.findAllWithCountryByCountryCode(event.countryCode());
+
+		Map<String, CountryHolidayIndex> byCode = new HashMap<>(current.byCode());
+		if (holidays.isEmpty()) {
+			byCode.remove(event.countryCode());
+		} else {
+			byCode.put(event.countryCode(), CountryHolidayIndex.of(event.countryCode(),
+				holidays.getFirst().getCountry().getName(), holidays, holidayRepository.findDetails(ids(holidays))));
+		}
+		snapshot.set(Snapshot.of(byCode));
+	}
+
+	public boolean isLoaded() {
+		return snapshot.get() != null;
+	}
+
+	/**
+	 * 적재된 국가 코드 목록. 적재 전이면 빈 집합
+	 */
+	public Set<String> countryCodes() {
+		Snapshot current = snapshot.get();
+		return current != null ? current.byCode().keySet() : Set.of();
+	}
+
+	/**
+	 * 국가 코드 + 날짜의 공휴일 여부. 인덱스에 없는 국가는 공휴일이 없는 것으로 본다.
+	 */
+	public Optional<Boolean> isHoliday(final String countryCode, final LocalDate date) {
+		Snapshot current = snapshot.get();
+		if (current == null) {
+			return Optional.empty();
+		}
+		CountryHolidayIndex country = current.byCode().get(countryCode);
+		return Optional.of(country != null && country.isHoliday(date));
+	}
+
+	/**
+	 * (국가 코드, 날짜) 쌍 배열을 한 번에 확인한다. 결과는 요청과 같은 순서의 공휴일 id 배열이다.
+	 * 같은 국가가 연속되면 국가 조회를 다시 하지 않는다.
+	 * 인덱스가 적재되기 전이면 요청에 포함된 국가만 DB 에서 읽어 임시 인덱스를 만든다.
+	 */
+	public long[] holidayIdsOn(final String[] countryCodes, final LocalDate[] dates) {
+		Snapshot current = snapshot.get();
+		Map<String, CountryHolidayIndex> byCode = current != null ? current.byCode() : loadCountries(countryCodes);
+
+		long[] holidayIds = new long[countryCodes.length];
+		String lastCode = null;
+		CountryHolidayIndex country = null;
+		for (int i = 0; i < countryCodes.length; i++) {
+			String code = countryCodes[i];
+			if (code == null || dates[i] == null) {
+				holidayIds[i] = CountryHolidayIndex.NO_HOLIDAY;
+				continue;
+			}
+			if (!code.equals(lastCode)) {
+				lastCode = code;
+				country = byCode.get(code);
+			}
+			holidayIds[i] = country != null ? country.holidayIdOn(dates[i]) : CountryHolidayIndex.NO_HOLIDAY;
+		}
+		return holidayIds;
+	}
+
+	private Map<String, CountryHolidayIndex> loadCountries(final String[] countryCodes) {
+		Map<String, CountryHolidayIndex> byCode = new HashMap<>();
+		for (String code : countryCodes) {
+			if (code != null && !byCode.containsKey(code)) {
+				byCode.put(code, loadCountry(code));
+			}
+		}
+		return byCode;
+	}
+
+	private CountryHolidayIndex loadCountry(final String countryCode) {
+		List<Holiday> holidays = holidayRepository.findAllWithCountryByCountryCode(countryCode);
+		return holidays.isEmpty()
+			? CountryHolidayIndex.EMPTY
+			: CountryHolidayIndex.of(countryCode, holidays.getFirst().getCountry().getName(), holidays,
+				holidayRepository.findDetails(ids(holidays)));
+	}
+
+	private static List<Long> ids(final List<Holiday> holidays) {
+		return holidays.stream().map(Holiday::getId).toList();
+	}
+
+	/**
+	 * 국가 코드의 인덱스. 공휴일이 없는 국가는 {@link CountryHolidayIndex#EMPTY}
+	 * 인덱스가 적재되기 전이면 해당 국가만 DB 에서 읽어 만든다.
+	 */
+	public CountryHolidayIndex countryByCode(final String countryCode) {
+		Snapshot current = snapshot.get();
+		if (current == null) {
+			return loadCountry(countryCode);
+		}
+		return current.byCode().getOrDefault(countryCode, CountryHolidayIndex.EMPTY);
+	}
+
+	/**
+	 * 국가 + 기간 조건을 이진 탐색으로 조회한다. (date desc, id desc)
+	 * 여러 국가 검색이면 국가별 구간을 k-way 병합해 하나의 페이지로 만든다.
+	 * 이름/지역/유형/고정일/전국 조건이 있으면 국가별 역색인과 비트셋으로 고른 위치 목록에서 기간에 해당하는 구간만 사용한다.
+	 * 인덱스가 아직 적재되지 않았거나 국가 조건이 없으면 empty 를 반환한다.
+	 */
+	public Optional<Page<HolidayInfoDto.Response>> search(
+			final SearchCondition searchCondition,
+			final Pageable pageable) {
+		Snapshot current = snapshot.get();
+		if (current == null || !hasCountryCondition(searchCondition)) {
+			return Optional.empty();
+		}
+
+		String name = normalizedName(searchCondition);
+		List<Selection> selections = new ArrayList<>();
+		long total = 0;
+		for (CountryHolidayIndex country : resolveCountries(current, searchCondition)) {
+			Selection selection = Selection.of(country, filter(country, searchCondition, name),
+				fromPosition(country, searchCondition), toPosition(country, searchCondition));
+			selections.add(selection);
+			total += selection.size();
+		}
+
+		long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+		int limit = pageable.isPaged() ? pageable.getPageSize() : (int) total;
+		if (selections.size() == 1) {
+			selections.set(0, selections.getFirst().dropLast(offset)); // 단일 국가는 offset 만큼 바로 건너뛴다
+			offset = 0;
+		}
+		return Optional.of(new PageImpl<>(mergeDescending(selections, offset, limit), pageable, total));
+	}
+
+	/**
+	 * 키셋(seek) 조회: 국가별로 커서 위치를 이진 탐색으로 찾아 그 이전 행부터 내림차순으로 limit 건을 반환한다.
+	 */
+	public Optional<List<HolidayInfoDto.Response>> searchAfter(
+			final SearchCondition searchCondition,
+			final HolidayCursorDto.Cursor cursor,
+			final int limit) {
+		Snapshot current = snapshot.get();
+		if (current == null || !hasCountryCondition(searchCondition)) {
+			return Optional.empty();
+		}
+
+		String name = normalizedName(searchCondition);
+		List<Selection> selections = new ArrayList<>();
+		for (CountryHolidayIndex country : resolveCountries(current, searchCondition)) {
+			int to = toPosition(country, searchCondition);
+			if (cursor != null) {
+				to = Math.min(to, country.lowerBound((int) cursor.date().toEpochDay(), cursor.id()));
+			}
+			selections.add(Selection.of(country, filter(country, searchCondition, name),
+				fromPosition(country, searchCondition), to));
+		}
+		return Optional.of(mergeDescending(selections, 0, limit));
+	}
+
+	/**
+	 * 전체 국가의 name/localName 에서 query 를 포함하는 공휴일 이름을 (국가, name, localName) 단위로 중복 없이 반환한다.
+	 * 이름이 query 로 시작하는 항목을 먼저, 그다음 국가 코드와 이름 순으로 정렬한다.
+	 * 한 글자 검색어처럼 일치하는 항목이 많아도 전체를 모아 정렬하지 않고, 크기 limit 의 힙으로 상위 항목만 유지한다.
+	 * 인덱스가 적재되기 전이면 empty 를 반환한다.
+	 */
+	public Optional<List<HolidayNameDto.Suggestion>> suggestNames(final String query, final int limit) {
+		Snapshot current = snapshot.get();
+		if (current == null) {
+			return Optional.empty();
+		}
+		String normalized = HolidayNameNormalizer.normalize(query);
+		if (normalized.isEmpty() || limit <= 0) {
+			return Optional.of(List.of());
+		}
+
+		PriorityQueue<RankedSuggestion> worstFirst = new PriorityQueue<>(limit + 1, SUGGESTION_ORDER.reversed());
+		Set<HolidayNameDto.Suggestion> kept = new HashSet<>();
+		for (CountryHolidayIndex country : current.byCode().values()) {
+			for (int position : country.nameMatches(normalized)) {
+				RankedSuggestion candidate = new RankedSuggestion(
+					!country.namePrefixMatches(position, normalized),
+					new HolidayNameDto.Suggestion(country.getCountryCode(), country.name(position), country.localName(position)));
+				if (kept.contains(candidate.suggestion())
+					|| worstFirst.size() == limit && SUGGESTION_ORDER.compare(candidate, worstFirst.peek()) >= 0) {
+					continue;
+				}
+				worstFirst.add(candidate);
+				kept.add(candidate.suggestion());
+				if (worstFirst.size() > limit) {
+					kept.remove(worstFirst.poll().suggestion());
+				}
+			}
+		}
+		return Optional.of(worstFirst.stream()
+			.sorted(SUGGESTION_ORDER)
+			.map(RankedSuggestion::suggestion)
+			.toList());
+	}
+
+	/**
+	 * 같은 (국가, name, localName) 은 위치가 달라도 순위가 같다. 순위가 같은 서로 다른 항목은 없다.
+	 */
+	private record RankedSuggestion(boolean notPrefix, HolidayNameDto.Suggestion suggestion) {}
+
+	/**
+	 * 이름, 지역, 유형, 고정일, 전국 조건을 모두 만족하는 위치 목록(오름차순). 조건별 비트셋을 AND 로 조합한다.
+	 * 조건이 없으면 null (전체)
+	 */
+	private int[] filter(final CountryHolidayIndex country, final SearchCondition searchCondition, final String name) {
+		BitSet matches = null;
+		if (name != null) {
+			BitSet named = new BitSet(country.size());
+			for (int position : country.nameMatches(name)) {
+				named.set(position);
+			}
+			matches = named;
+		}
+		if (searchCondition.hasSubdivision()) {
+			matches = and(matches, country.subdivisionMatches(searchCondition.subdivision()));
+		}
+		if (searchCondition.hasTypes()) {
+			matches = and(matches, country.typeMatches(searchCondition.types()));
+		}
+		if (searchCondition.fixed() != null) {
+			matches = and(matches, country.fixedMatches(searchCondition.fixed()));
+		}
+		if (searchCondition.global() != null) {
+			matches = and(matches, country.globalMatches(searchCondition.global()));
+		}
+		return matches == null ? null : matches.stream().toArray();
+	}
+
+	private static BitSet and(final BitSet matches, final BitSet bits) {
+		if (matches == null) {
+			return bits;
+		}
+		matches.and(bits);
+		return matches;
+	}
+
+	private String normalizedName(final SearchCondition searchCondition) {
+		String name = searchCondition.hasName() ? HolidayNameNormalizer.normalize(searchCondition.name()) : "";
+		return name.isEmpty() ? null : name;
+	}
+
+	private boolean hasCountryCondition(final SearchCondition searchCondition) {
+		return searchCondition.isMultiCountry() || searchCondition.countryName() != null;
+	}
+
+	/**
+	 * 여러 국가 검색은 국가 코드 또는 국가명으로, 단일 검색은 국가명으로 인덱스를 찾는다. 없는 국가는 제외하고, 같은 국가는 한 번만 포함한다.
+	 */
+	private List<CountryHolidayIndex> resolveCountries(final Snapshot current, final SearchCondition searchCondition) {
+		List<String> keys = searchCondition.isMultiCountry()
+			? searchCondition.countries() : List.of(searchCondition.countryName());
+
+		List<CountryHolidayIndex> countries = new ArrayList<>(keys.size());
+		for (String key : keys) {
+			if (key == null) {
+				continue;
+			}
+			CountryHolidayIndex country = searchCondition.isMultiCountry()
+				? current.byCode().getOrDefault(key, current.byName().get(key))
+				: current.byName().get(key);
+			if (country != null && !countries.contains(country)) {
+				countries.add(country);
+			}
+		}
+		return countries;
+	}
+
+	/**
+	 * 한 국가에서 조회할 행들의 [from, to) 구간
+	 * positions 가 없으면 국가 인덱스의 위치를 그대로, 있으면 필터로 고른 위치 목록의 인덱스를 가리킨다.
+	 */
+	private record Selection(CountryHolidayIndex country, int[] positions, int from, int to) {
+		/**
+		 * 국가 인덱스의 [fromPosition, toPosition) 구간. filter 가 있으면 그중 filter 에 포함된 행만 고른다.
+		 */
+		static Selection of(
+				final CountryHolidayIndex country,
+				final int[] filter,
+				final int fromPosition,
+				final int toPosition) {
+			int to = Math.max(fromPosition, toPosition);
+			if (filter == null) {
+				return new Selection(country, null, fromPosition, to);
+			}
+			return new Selection(country, filter, lowerBound(filter, fromPosition), lowerBound(filter, to));
+		}
+
+		int size() {
+			return to - from;
+		}
+
+		int position(final int index) {
+			return positions == null ? index : positions[index];
+		}
+
+		Selection dropLast(final long count) {
+			return new Selection(country, positions, from, (int) Math.max(from, to - count));
+		}
+
+		/**
+		 * 오름차순 배열에서 value 이상인 첫 인덱스
+		 */
+		private static int lowerBound(final int[] sorted, final int value) {
+			int low = 0;
+			int high = sorted.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (sorted[mid] < value) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+	}
+
+	/**
+	 * 국가별 [from, to) 구간을 뒤에서부터 (date desc, id desc) 순으로 병합한다.
+	 * 각 국가의 다음 후보 위치를 힙에 두고 가장 큰 행을 꺼내는 k-way 병합이며, 앞의 skip 건은 버린다.
+	 */
+	private List<HolidayInfoDto.Response> mergeDescending(
+			final List<Selection> selections,
+			final long skip,
+			final int limit) {
+		int[] heads = new int[selections.size()];
+		PriorityQueue<Integer> queue = new PriorityQueue<>(Math.max(1, selections.size()), (a, b) -> {
+			Selection left = selections.get(a);
+			Selection right = selections.get(b);
+			int leftPosition = left.position(heads[a]);
+			int rightPosition = right.position(heads[b]);
+			int byDate = Integer.compare(right.country().epochDay(rightPosition), left.country().epochDay(leftPosition));
+			return byDate != 0 ? byDate
+				: Long.compare(right.country().id(rightPosition), left.country().id(leftPosition));
+		});
+		for (int k = 0; k < selections.size(); k++) {
+			heads[k] = selections.get(k).to() - 1;
+			if (heads[k] >= selections.get(k).from()) {
+				queue.add(k);
+			}
+		}
+
+		List<HolidayInfoDto.Response> content = new ArrayList<>(Math.max(0, Math.min(limit, 1024)));
+		long skipped = 0;
+		while (!queue.isEmpty() && content.size() < limit) {
+			int k = queue.poll();
+			Selection selection = selections.get(k);
+			if (skipped < skip) {
+				skipped++;
+			} else {
+				content.add(selection.country().toResponse(selection.position(heads[k])));
+			}
+			heads[k]--;
+			if (heads[k] >= selection.from()) {
+				queue.add(k);
+			}
+		}
+		return content;
+	}
+
+	private int fromPosition(final CountryHolidayIndex country, final SearchCondition searchCondition) {
+		return searchCondition.startDate() != null
+			? country.lowerBound((int) searchCondition.startDate().toEpochDay()) : 0;
+	}
+
+	private int toPosition(final CountryHolidayIndex country, final SearchCondition searchCondition) {
+		return searchCondition.endDate() != null
+			? country.upperBound((int) searchCondition.endDate().toEpochDay()) : country.size();
+	}
+}
@@ -0,0 +1,26 @@
+package com.holidaykeeply.domain.index;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 공휴일 이름 검색용 정규화
+ * 호환 문자(전각, 합자 등)를 통일하고(NFKD), 발음 구별 기호를 제거한 뒤 다시 조합(NFC)하고 소문자로 바꾼다.
+ * 한글은 자모로 분해됐다가 다시 음절로 조합되므로 그대로 남는다. ("Fête" → "fete", "ＣＨＲＩＳＴＭＡＳ" → "christmas")
+ */
+public final class HolidayNameNormalizer {
+	private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+	private HolidayNameNormalizer() {
+	}
+
+	public static String normalize(final String text) {
+		if (text == null) {
+			return "";
+		}
+		String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD);
+		String stripped = MARKS.matcher(decomposed).replaceAll("");
+		return Normalizer.normalize(stripped, Normalizer.Form.NFC).toLowerCase(Locale.ROOT).strip();
+	}
+}
@@ -0,0 +1,132 @@
+package com.holidaykeeply.domain.index;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.holidaykeeply.api.dto.HolidayStatisticsDto;
+import com.holidaykeeply.domain.event.HolidayChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 국가별 (연도, 월, 유형) 공휴일 수 집계
+ * 기동 시 전체 국가를 집계하고, 이후에는 {@link HolidayChangedEvent} 가 발생한 국가만 다시 집계해 교체한다.
+ * 국가마다 연도별로 정렬된 집계 행을 보관하므로 조회 비용은 holiday 전체 건수가 아니라 결과 행 수에 비례한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HolidayStatistics {
+	private static final Comparator<HolidayStatisticsDto.Row> ROW_ORDER =
+		Comparator.comparingInt(HolidayStatisticsDto.Row::month)
+			.thenComparing(HolidayStatisticsDto.Row::type, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+	private final HolidayIndex holidayIndex;
+
+	private final Map<String, NavigableMap<Integer, List<HolidayStatisticsDto.Row>>> rollups = new ConcurrentHashMap<>();
+
+	/**
+	 * 인덱스 전체 적재 이후에 실행한다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadAll() {
+		holidayIndex.countryCodes().forEach(this::rollUp);
+		log.info("Holiday statistics loaded: {} countries", rollups.size());
+	}
+
+	/**
+	 * 인덱스 갱신 이후, 데이터셋 버전 증가 이전에 실행한다.
+	 */
+	@Order(0)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onHolidayChanged(final HolidayChangedEvent event) {
+		if (holidayIndex.isLoaded()) {
+			rollUp(event.countryCode());
+		} else {
+			rollups.remove(event.countryCode());
+		}
+	}
+
+	/**
+	 * countryCodes 가 비어 있으면 집계된 전체 국가, 연도를 생략하면 전체 연도
+	 * 결과는 (국가 코드, 연도, 월, 유형) 오름차순이다.
+	 */
+	public List<HolidayStatisticsDto.Row> rows(
+			final Collection<String> countryCodes,
+			final Integer fromYear,
+			final Integer toYear) {
+		List<String> codes = countryCodes == null || countryCodes.isEmpty()
+			? new ArrayList<>(rollups.keySet())
+			: countryCodes.stream().distinct().toList();
+		codes = codes.stream().sorted().toList();
+
+		int from = fromYear != null ? fromYear : Integer.MIN_VALUE;
+		int to = toYear != null ? toYear : Integer.MAX_VALUE;
+		List<HolidayStatisticsDto.Row> rows = new ArrayList<>();
+		for (String code : codes) {
+			rollup(code).subMap(from, true, to, true).values().forEach(rows::addAll);
+		}
+		return rows;
+	}
+
+	private NavigableMap<Integer, List<HolidayStatisticsDto.Row>> rollup(final String countryCode) {
+		NavigableMap<Integer, List<HolidayStatisticsDto.Row>> rollup = rollups.get(countryCode);
+		if (rollup != null) {
+			return rollup;
+		}
+		// 적재 전이거나 공휴일이 없는 국가는 보관하지 않고 그때그때 집계한다.
+		return holidayIndex.isLoaded() && !holidayIndex.countryCodes().contains(countryCode)
+			? new TreeMap<>()
+			: count(holidayIndex.countryByCode(countryCode));
+	}
+
+	private void rollUp(final String countryCode) {
+		CountryHolidayIndex country = holidayIndex.countryByCode(countryCode);
+		if (country.size() == 0) {
+			rollups.remove(countryCode);
+		} else {
+			rollups.put(countryCode, count(country));
+		}
+	}
+
+	private NavigableMap<Integer, List<HolidayStatisticsDto.Row>> count(final CountryHolidayIndex country) {
+		Map<Integer, Map<Integer, Map<String, Long>>> counts = new TreeMap<>();
+		for (int position = 0; position < country.size(); position++) {
+			LocalDate date = LocalDate.ofEpochDay(country.epochDay(position));
+			Map<String, Long> byType = counts
+				.computeIfAbsent(date.getYear(), year -> new TreeMap<>())
+				.computeIfAbsent(date.getMonthValue(), month -> new HashMap<>());
+			List<String> types = country.details(position).types();
+			if (types.isEmpty()) {
+				byType.merge(null, 1L, Long::sum);
+			} else {
+				types.stream().distinct().forEach(type -> byType.merge(type, 1L, Long::sum));
+			}
+		}
+
+		NavigableMap<Integer, List<HolidayStatisticsDto.Row>> rollup = new TreeMap<>();
+		counts.forEach((year, byMonth) -> {
+			List<HolidayStatisticsDto.Row> rows = new ArrayList<>();
+			byMonth.forEach((month, byType) -> byType.forEach((type, count) ->
+				rows.add(new HolidayStatisticsDto.Row(country.getCountryCode(), year, month, type, count))));
+			rows.sort(ROW_ORDER);
+			rollup.put(year, List.copyOf(rows));
+		});
+		return rollup;
+	}
+}
@@ -0,0 +1,202 @@
+package com.holidaykeeply.domain.infrastructure.reactive;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.holidaykeeply.api.dto.HolidayInfoDto;
+import com.holidaykeeply.api.dto.SearchCondition;
+import com.holidaykeeply.domain.infrastructure.repository.HolidaySearchFilter;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC(DatabaseClient) 기반 공휴일 검색. JPA 와 같은 테이블을 논블로킹으로 조회한다.
+ * 검색 조건은 HolidayCustomRepositoryImpl 과 같은 {@link HolidaySearchFilter} 로 만들고, 정렬도 같다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HolidayReactiveRepository {
+	private static final String SELECT = """
+			SELECT h.holiday_id, h.local_name, h.name, c.name AS country_name,
+			       h.fixed, h.global, h.launch_year, h.date
+			FROM holiday h JOIN country c ON c.id = h.country_id
+			""";
+
+	private static final String COUNT = """
+			SELECT COUNT(h.holiday_id) AS total
+			FROM holiday h JOIN country c ON c.id = h.country_id
+			""";
+
+	private static final Pattern LIKE_SPECIAL = Pattern.compile("[!%_]");
+
+	private static final String COUNTY = "county";
+	private static final String DETAILS = """
+			SELECT holiday_id, 'county' AS kind, county AS detail FROM holiday_counties WHERE holiday_id IN (:ids)
+			UNION ALL
+			SELECT holiday_id, 'type' AS kind, type AS detail FROM holiday_types WHERE holiday_id IN (:ids)
+			""";
+
+	private final DatabaseClient databaseClient;
+
+	public Flux<HolidayInfoDto.Response> findHolidays(
+			final SearchCondition searchCondition,
+			final Pageable pageable) {
+		Map<String, Object> binds = new LinkedHashMap<>();
+		StringBuilder sql = new StringBuilder(SELECT)
+				.append(where(searchCondition, binds))
+				.append(" ORDER BY h.date DESC, h.holiday_id DESC");
+		if (pageable.isPaged()) {
+			sql.append(" LIMIT :limit OFFSET :offset");
+			binds.put("limit", pageable.getPageSize());
+			binds.put("offset", pageable.getOffset());
+		}
+		return bind(databaseClient.sql(sql.toString()), binds)
+				.map(HolidayReactiveRepository::toResponse)
+				.all();
+	}
+
+	public Mono<Long> countHolidays(final SearchCondition searchCondition) {
+		Map<String, Object> binds = new LinkedHashMap<>();
+		String sql = COUNT + where(searchCondition, binds);
+		return bind(databaseClient.sql(sql), binds)
+				.map(row -> row.get("total", Long.class))
+				.one()
+				.defaultIfEmpty(0L);
+	}
+
+	/**
+	 * 공휴일 id 별 지역/유형을 쿼리 한 번으로 읽는다. 컬렉션이 모두 비어 있는 id 는 결과에 없다.
+	 */
+	public Mono<Map<Long, HolidayInfoDto.Details>> findDetails(final List<Long> holidayIds) {
+		if (holidayIds.isEmpty()) {
+			return Mono.just(Map.of());
+		}
+		return databaseClient.sql(DETAILS)
+				.bind("ids", holidayIds)
+				.map(row -> new DetailRow(
+						row.get("holiday_id", Long.class), row.get("kind", String.class), row.get("detail", String.class)))
+				.all()
+				.collectList()
+				.map(HolidayReactiveRepository::toDetails);
+	}
+
+	private record DetailRow(Long holidayId, String kind, String detail) {
+	}
+
+	private static Map<Long, HolidayInfoDto.Details> toDetails(final List<DetailRow> rows) {
+		Map<Long, List<String>> counties = new HashMap<>();
+		Map<Long, List<String>> types = new HashMap<>();
+		for (DetailRow row : rows) {
+			(COUNTY.equals(row.kind()) ? counties : types)
+					.computeIfAbsent(row.holidayId(), id -> new ArrayList<>())
+					.add(row.detail());
+		}
+		Map<Long, HolidayInfoDto.Details> details = new HashMap<>();
+		for (DetailRow row : rows) {
+			details.computeIfAbsent(row.holidayId(), id -> new HolidayInfoDto.Details(
+					List.copyOf(counties.getOrDefault(id, List.of())),
+					List.copyOf(types.getOrDefault(id, List.of()))));
+		}
+		return details;
+	}
+
+	/**
+	 * 어떤 조건을 걸지는 {@link HolidaySearchFilter} 가 정하고, 여기서는 SQL 조각과 바인딩만 만든다.
+	 */
+	private String where(final SearchCondition searchCondition, final Map<String, Object> binds) {
+		List<String> predicates = HolidaySearchFilter.render(searchCondition, new SqlFilter(binds));
+		return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+	}
+
+	private record SqlFilter(Map<String, Object> binds) implements HolidaySearchFilter.Renderer<String> {
+		@Override
+		public String dateBetween(final LocalDate startDate, final LocalDate endDate) {
+			if (startDate == null) {
+				return bind("h.date <= :endDate", "endDate", endDate);
+			}
+			if (endDate == null) {
+				return bind("h.date >= :startDate", "startDate", startDate);
+			}
+			binds.put("startDate", startDate);
+			return bind("h.date BETWEEN :startDate AND :endDate", "endDate", endDate);
+		}
+
+		@Override
+		public String countryNameEq(final String countryName) {
+			return bind("c.name = :countryName", "countryName", countryName);
+		}
+
+		@Override
+		public String countryIn(final List<String> countryCodesOrNames) {
+			return bind("(c.country_code IN (:countries) OR c.name IN (:countries))", "countries", countryCodesOrNames);
+		}
+
+		@Override
+		public String nameContains(final String name) {
+			return bind("(LOWER(h.name) LIKE :name ESCAPE '!' OR LOWER(h.local_name) LIKE :name ESCAPE '!')",
+					"name", "%" + LIKE_SPECIAL.matcher(name.toLowerCase(Locale.ROOT)).replaceAll("!$0") + "%");
+		}
+
+		@Override
+		public String subdivisionEq(final String subdivision) {
+			return bind("(h.global = TRUE OR EXISTS (SELECT 1 FROM holiday_counties hc"
+					+ " WHERE hc.holiday_id = h.holiday_id AND hc.county = :subdivision))", "subdivision", subdivision);
+		}
+
+		@Override
+		public String typesAny(final List<String> types) {
+			return bind("EXISTS (SELECT 1 FROM holiday_types ht"
+					+ " WHERE ht.holiday_id = h.holiday_id AND ht.type IN (:types))", "types", types);
+		}
+
+		@Override
+		public String fixedEq(final boolean fixed) {
+			return bind("h.fixed = :fixed", "fixed", fixed);
+		}
+
+		@Override
+		public String globalEq(final boolean global) {
+			return bind("h.global = :global", "global", global);
+		}
+
+		private String bind(final String predicate, final String name, final Object value) {
+			binds.put(name, value);
+			return predicate;
+		}
+	}
+
+	private DatabaseClient.GenericExecuteSpec bind(
+			final DatabaseClient.GenericExecuteSpec spec,
+			final Map<String, Object> binds) {
+		DatabaseClient.GenericExecuteSpec bound = spec;
+		for (Map.Entry<String, Object> bind : binds.entrySet()) {
+			bound = bound.bind(bind.getKey(), bind.getValue());
+		}
+		return bound;
+	}
+
+	private static HolidayInfoDto.Response toResponse(final Readable row) {
+		return new HolidayInfoDto.Response(
+				row.get("holiday_id", Long.class),
+				row.get("local_name", String.class),
+				row.get("name", String.class),
+				row.get("country_name", String.class),
+				Boolean.TRUE.equals(row.get("fixed", Boolean.class)),
+				Boolean.TRUE.equals(row.get("global", Boolean.class)),
+				row.get("launch_year", String.class),
+				row.get("date", LocalDate.class));
+	}
+}
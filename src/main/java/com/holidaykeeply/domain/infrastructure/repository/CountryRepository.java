@@ -1,5 +1,7 @@
 package com.holidaykeeply.domain.infrastructure.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,4 +12,5 @@ public interface CountryRepository extends JpaRepository<Country, Long> {
 	Optional<Country> findByCountryCode(final String name);
 	boolean existsByCountryCode(final String name);
 	boolean existsByName(final String name);
+	List<Country> findAllByCountryCodeInOrNameIn(final Collection<String> countryCodes, final Collection<String> names);
 }
@@ -1,13 +1,52 @@
 package com.holidaykeeply.domain.infrastructure.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.holidaykeeply.api.dto.HolidayCursorDto;
+import com.holidaykeeply.api.dto.HolidayExportDto;
+import com.holidaykeeply.api.dto.HolidayFieldsDto;
 import com.holidaykeeply.api.dto.HolidayInfoDto;
+import com.holidaykeeply.api.dto.HolidayNameDto;
 import com.holidaykeeply.api.dto.SearchCondition;
 
 public interface HolidayCustomRepository {
 	Page<HolidayInfoDto.Response> findHolidaysByFilters(
 			final SearchCondition searchCondition,
 			final Pageable pageable);
+
+	List<HolidayInfoDto.Response> findHolidaysAfter(
+			final SearchCondition searchCondition,
+			final HolidayCursorDto.Cursor cursor,
+			final int limit);
+
+	/**
+	 * 선택한 필드의 컬럼만 조회한다. 지역/유형은 요청했을 때만 읽는다.
+	 */
+	Page<Map<String, Object>> findHolidayFields(
+			final SearchCondition searchCondition,
+			final Set<HolidayFieldsDto.Field> fields,
+			final Pageable pageable);
+
+	/**
+	 * 공휴일 id 별 지역/유형. 두 컬렉션을 한 번의 쿼리로 읽는다. 컬렉션이 모두 비어 있는 id 는 결과에 없다.
+	 */
+	Map<Long, HolidayInfoDto.Details> findDetails(final Collection<Long> holidayIds);
+
+	/**
+	 * name 또는 localName 에 query 가 포함된 (국가 코드, name, localName) 을 중복 없이 limit 건 조회한다.
+	 * 대소문자만 구분하지 않는다. 발음 구별 기호까지 무시하는 비교는 HolidayIndex 에서만 한다.
+	 */
+	List<HolidayNameDto.Suggestion> findNameSuggestions(final String query, final int limit);
+
+	/**
+	 * 커서(ScrollableResults) 기반 스트림. 트랜잭션 안에서 소비하고 반드시 닫아야 한다.
+	 */
+	Stream<HolidayInfoDto.Response> streamHolidays(final HolidayExportDto.Request request);
 }
@@ -3,26 +3,55 @@ package com.holidaykeeply.domain.infrastructure.repository;
 import static com.holidaykeeply.domain.entity.QHoliday.*;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 
+import com.holidaykeeply.api.dto.HolidayCursorDto;
+import com.holidaykeeply.api.dto.HolidayExportDto;
+import com.holidaykeeply.api.dto.HolidayFieldsDto;
 import com.holidaykeeply.api.dto.HolidayInfoDto;
+import com.holidaykeeply.api.dto.HolidayNameDto;
 import com.holidaykeeply.api.dto.QHolidayInfoDto_Response;
 import com.holidaykeeply.api.dto.SearchCondition;
+import com.holidaykeeply.domain.cache.HolidayCountCache;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
+import jakarta.persistence.EntityManager;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @RequiredArgsConstructor
 public class HolidayCustomRepositoryImpl implements HolidayCustomRepository {
+	private static final int EXPORT_FETCH_SIZE = 1_000;
+	private static final int DETAILS_IN_SIZE = 1_000;
+	private static final String COUNTY = "county";
+	private static final String DETAILS_QUERY = """
+			select h.id, 'county', c from Holiday h join h.counties c where h.id in :ids
+			union all
+			select h.id, 'type', t from Holiday h join h.types t where h.id in :ids
+			""";
 
 	private final JPAQueryFactory queryFactory;
+	private final EntityManager em;
+	private final HolidayCountCache holidayCountCache;
 
 	@Override
 	public Page<HolidayInfoDto.Response> findHolidaysByFilters(
@@ -40,29 +69,266 @@ public class HolidayCustomRepositoryImpl implements HolidayCustomRepository {
 						holiday.launchYear,
 						holiday.date))
 				.from(holiday)
-				.where(
-						dateBetween(dto.startDate(), dto.endDate()),
-						countryNameEq(dto.countryName()))
-				.orderBy(holiday.date.desc())
+				.where(filters(dto))
+				.orderBy(holiday.date.desc(), holiday.id.desc())
 				.offset(pageable.getOffset())
 				.limit(pageable.getPageSize())
 				.fetch();
+		withDetails(results);
 
+		// 첫 페이지가 pageSize 보다 적게 조회되면 count 쿼리를 생략한다.
+		return PageableExecutionUtils.getPage(results, pageable,
+				() -> holidayCountCache.get(dto, () -> countHolidays(dto)));
+	}
+
+	private long countHolidays(final SearchCondition dto) {
 		Long total = queryFactory
 				.select(holiday.count())
 				.from(holiday)
+				.where(filters(dto))
 				.fetchOne();
+		return total != null ? total : 0L;
+	}
+
+	/**
+	 * 키셋(seek) 페이징: (date, id) < (cursor.date, cursor.id) 인 행을 내림차순으로 limit 건 조회
+	 */
+	@Override
+	public List<HolidayInfoDto.Response> findHolidaysAfter(
+			final SearchCondition dto,
+			final HolidayCursorDto.Cursor cursor,
+			final int limit) {
+
+		return withDetails(queryFactory
+				.select(new QHolidayInfoDto_Response(
+						holiday.id,
+						holiday.localName,
+						holiday.name,
+						holiday.country.name,
+						holiday.fixed,
+						holiday.global,
+						holiday.launchYear,
+						holiday.date))
+				.from(holiday)
+				.where(filters(dto))
+				.where(before(cursor))
+				.orderBy(holiday.date.desc(), holiday.id.desc())
+				.limit(limit)
+				.fetch());
+	}
+
+	/**
+	 * 정렬과 지역/유형 조회에 쓰는 id 외에는 요청한 필드의 컬럼만 SELECT 한다.
+	 */
+	@Override
+	public Page<Map<String, Object>> findHolidayFields(
+			final SearchCondition dto,
+			final Set<HolidayFieldsDto.Field> fields,
+			final Pageable pageable) {
+		List<Expression<?>> columns = new ArrayList<>();
+		columns.add(holiday.id);
+		fields.stream()
+				.filter(field -> !field.isDetail() && field != HolidayFieldsDto.Field.ID)
+				.forEach(field -> columns.add(column(field)));
+
+		List<Tuple> tuples = queryFactory
+				.select(columns.toArray(Expression[]::new))
+				.from(holiday)
+				.where(filters(dto))
+				.orderBy(holiday.date.desc(), holiday.id.desc())
+				.offset(pageable.getOffset())
+				.limit(pageable.getPageSize())
+				.fetch();
+
+		Map<Long, HolidayInfoDto.Details> details = fields.stream().anyMatch(HolidayFieldsDto.Field::isDetail)
+				&& !tuples.isEmpty()
+				? findDetails(tuples.stream().map(tuple -> tuple.get(holiday.id)).toList())
+				: Map.of();
+		List<Map<String, Object>> rows = tuples.stream()
+				.map(tuple -> toRow(tuple, fields, details))
+				.toList();
+
+		return PageableExecutionUtils.getPage(rows, pageable,
+				() -> holidayCountCache.get(dto, () -> countHolidays(dto)));
+	}
+
+	private Map<String, Object> toRow(
+			final Tuple tuple,
+			final Set<HolidayFieldsDto.Field> fields,
+			final Map<Long, HolidayInfoDto.Details> details) {
+		Map<String, Object> row = new LinkedHashMap<>();
+		for (HolidayFieldsDto.Field field : fields) {
+			row.put(field.key(), switch (field) {
+				case COUNTIES -> details.getOrDefault(tuple.get(holiday.id), HolidayInfoDto.Details.EMPTY).counties();
+				case TYPES -> details.getOrDefault(tuple.get(holiday.id), HolidayInfoDto.Details.EMPTY).types();
+				default -> tuple.get(column(field));
+			});
+		}
+		return row;
+	}
+
+	private static Expression<?> column(final HolidayFieldsDto.Field field) {
+		return switch (field) {
+			case ID -> holiday.id;
+			case LOCAL_NAME -> holiday.localName;
+			case NAME -> holiday.name;
+			case COUNTRY -> holiday.country.name;
+			case FIXED -> holiday.fixed;
+			case GLOBAL -> holiday.global;
+			case LAUNCH_YEAR -> holiday.launchYear;
+			case LOCAL_DATE -> holiday.date;
+			case COUNTIES, TYPES -> throw new IllegalArgumentException(field + " 는 컬럼이 아닙니다.");
+		};
+	}
+
+	/**
+	 * 컬렉션 테이블 두 개를 UNION ALL 로 묶어 IN 쿼리 한 번(DETAILS_IN_SIZE 개 단위)으로 읽는다.
+	 */
+	@Override
+	public Map<Long, HolidayInfoDto.Details> findDetails(final Collection<Long> holidayIds) {
+		Map<Long, List<String>> counties = new HashMap<>();
+		Map<Long, List<String>> types = new HashMap<>();
+		List<Long> ids = List.copyOf(holidayIds);
+		for (int from = 0; from < ids.size(); from += DETAILS_IN_SIZE) {
+			List<Long> chunk = ids.subList(from, Math.min(from + DETAILS_IN_SIZE, ids.size()));
+			em.createQuery(DETAILS_QUERY, Object[].class)
+					.setParameter("ids", chunk)
+					.setHint(HibernateHints.HINT_READ_ONLY, true)
+					.getResultList()
+					.forEach(row -> (COUNTY.equals(row[1]) ? counties : types)
+							.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+							.add((String) row[2]));
+		}
+
+		Set<Long> found = new HashSet<>(counties.keySet());
+		found.addAll(types.keySet());
+		Map<Long, HolidayInfoDto.Details> details = new HashMap<>();
+		for (Long id : found) {
+			details.put(id, new HolidayInfoDto.Details(
+					List.copyOf(counties.getOrDefault(id, List.of())),
+					List.copyOf(types.getOrDefault(id, List.of()))));
+		}
+		return details;
+	}
+
+	private List<HolidayInfoDto.Response> withDetails(final List<HolidayInfoDto.Response> rows) {
+		if (rows.isEmpty()) {
+			return rows;
+		}
+		Map<Long, HolidayInfoDto.Details> details = findDetails(rows.stream().map(HolidayInfoDto.Response::getId).toList());
+		rows.forEach(row -> row.addDetails(details.getOrDefault(row.getId(), HolidayInfoDto.Details.EMPTY)));
+		return rows;
+	}
+
+	@Override
+	public List<HolidayNameDto.Suggestion> findNameSuggestions(final String query, final int limit) {
+		return queryFactory
+				.select(Projections.constructor(HolidayNameDto.Suggestion.class,
+						holiday.country.countryCode,
+						holiday.name,
+						holiday.localName))
+				.distinct()
+				.from(holiday)
+				.where(holiday.name.containsIgnoreCase(query)
+						.or(holiday.localName.containsIgnoreCase(query)))
+				.orderBy(holiday.country.countryCode.asc(), holiday.name.asc())
+				.limit(limit)
+				.fetch();
+	}
+
+	/**
+	 * DTO 프로젝션이라 영속성 컨텍스트에 엔티티가 쌓이지 않고, fetch size 단위로 JDBC 커서에서 읽는다.
+	 */
+	@Override
+	public Stream<HolidayInfoDto.Response> streamHolidays(final HolidayExportDto.Request request) {
+		return queryFactory
+				.select(new QHolidayInfoDto_Response(
+						holiday.id,
+						holiday.localName,
+						holiday.name,
+						holiday.country.name,
+						holiday.fixed,
+						holiday.global,
+						holiday.launchYear,
+						holiday.date))
+				.from(holiday)
+				.where(
+						dateBetween(request.startDate(), request.endDate()),
+						countryCodeEq(request.countryCode()))
+				.orderBy(holiday.id.asc())
+				.setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+				.setHint(HibernateHints.HINT_READ_ONLY, true)
+				.stream();
+	}
 
-		log.info("total = " + total);
+	private BooleanExpression before(HolidayCursorDto.Cursor cursor) {
+		if (cursor == null) {
+			return null;
+		}
+		return holiday.date.lt(cursor.date())
+				.or(holiday.date.eq(cursor.date()).and(holiday.id.lt(cursor.id())));
+	}
 
-		return new PageImpl<>(results, pageable, total);
+	/**
+	 * 인덱스 적재 전 DB 조회용 검색 조건. 어떤 조건을 걸지는 {@link HolidaySearchFilter} 가 정한다.
+	 */
+	private static BooleanExpression[] filters(final SearchCondition dto) {
+		return HolidaySearchFilter.render(dto, QUERYDSL_FILTER).toArray(BooleanExpression[]::new);
 	}
 
-	private BooleanExpression countryNameEq(String countryName) {
-		return countryName != null ? holiday.country.name.eq(countryName) : null;
+	/**
+	 * 이름 조건은 인덱스와 달리 발음 구별 기호를 구분한다.
+	 */
+	private static final HolidaySearchFilter.Renderer<BooleanExpression> QUERYDSL_FILTER =
+			new HolidaySearchFilter.Renderer<>() {
+				@Override
+				public BooleanExpression dateBetween(final LocalDate startDate, final LocalDate endDate) {
+					return HolidayCustomRepositoryImpl.dateBetween(startDate, endDate);
+				}
+
+				@Override
+				public BooleanExpression countryNameEq(final String countryName) {
+					return holiday.country.name.eq(countryName);
+				}
+
+				@Override
+				public BooleanExpression countryIn(final List<String> countryCodesOrNames) {
+					return holiday.country.countryCode.in(countryCodesOrNames)
+							.or(holiday.country.name.in(countryCodesOrNames));
+				}
+
+				@Override
+				public BooleanExpression nameContains(final String name) {
+					return holiday.name.containsIgnoreCase(name)
+							.or(holiday.localName.containsIgnoreCase(name));
+				}
+
+				@Override
+				public BooleanExpression subdivisionEq(final String subdivision) {
+					return holiday.global.isTrue().or(holiday.counties.contains(subdivision));
+				}
+
+				@Override
+				public BooleanExpression typesAny(final List<String> types) {
+					return holiday.types.any().in(types);
+				}
+
+				@Override
+				public BooleanExpression fixedEq(final boolean fixed) {
+					return holiday.fixed.eq(fixed);
+				}
+
+				@Override
+				public BooleanExpression globalEq(final boolean global) {
+					return holiday.global.eq(global);
+				}
+			};
+
+	private BooleanExpression countryCodeEq(String countryCode) {
+		return countryCode != null ? holiday.country.countryCode.eq(countryCode) : null;
 	}
 
-	private BooleanExpression dateBetween(LocalDate startDate, LocalDate endDate) {
+	private static BooleanExpression dateBetween(LocalDate startDate, LocalDate endDate) {
 		if (startDate != null && endDate != null) {
 			return holiday.date.between(startDate, endDate);
 		} else if (startDate != null) {
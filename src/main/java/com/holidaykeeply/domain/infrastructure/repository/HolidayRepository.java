@@ -1,8 +1,11 @@
 package com.holidaykeeply.domain.infrastructure.repository;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.holidaykeeply.domain.entity.Country;
@@ -12,4 +15,13 @@ import com.holidaykeeply.domain.entity.Holiday;
 public interface HolidayRepository extends JpaRepository<Holiday, Long>, HolidayCustomRepository {
 	void deleteByDateAndCountry(final LocalDate date, final Country country);
 
+	boolean existsByCountry_CountryCodeAndDate(final String countryCode, final LocalDate date);
+
+	List<Holiday> findAllByCountryAndDateBetween(final Country country, final LocalDate startDate, final LocalDate endDate);
+
+	@Query("select h from Holiday h join fetch h.country")
+	List<Holiday> findAllWithCountry();
+
+	@Query("select h from Holiday h join fetch h.country c where c.countryCode = :countryCode")
+	List<Holiday> findAllWithCountryByCountryCode(@Param("countryCode") final String countryCode);
 }
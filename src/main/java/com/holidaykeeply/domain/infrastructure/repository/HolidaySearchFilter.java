@@ -0,0 +1,82 @@
+package com.holidaykeeply.domain.infrastructure.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.holidaykeeply.api.dto.SearchCondition;
+
+/**
+ * SearchCondition 에서 어떤 검색 조건을 걸지 한 곳에서 정한다.
+ * JPA(QueryDSL) 와 R2DBC(SQL) 저장소는 조건 하나하나를 자기 쿼리로 옮기는 {@link Renderer} 만 구현한다.
+ * 필터를 추가하면 Renderer 에 메서드가 생기므로 두 구현 모두 컴파일 단계에서 맞춰야 한다.
+ */
+public final class HolidaySearchFilter {
+
+	/**
+	 * 검색 조건 하나를 저장소의 조건식(P)으로 옮긴다.
+	 */
+	public interface Renderer<P> {
+		/**
+		 * 둘 중 하나는 null 일 수 있다. (둘 다 null 이면 호출하지 않는다)
+		 */
+		P dateBetween(LocalDate startDate, LocalDate endDate);
+
+		P countryNameEq(String countryName);
+
+		/**
+		 * 국가 코드 또는 국가명 목록 중 하나와 일치
+		 */
+		P countryIn(List<String> countryCodesOrNames);
+
+		/**
+		 * name 또는 localName 에 대소문자 구분 없이 포함
+		 */
+		P nameContains(String name);
+
+		/**
+		 * 전국 공휴일이거나 counties 에 지역 코드가 있는 공휴일
+		 */
+		P subdivisionEq(String subdivision);
+
+		/**
+		 * types 중 하나라도 가진 공휴일
+		 */
+		P typesAny(List<String> types);
+
+		P fixedEq(boolean fixed);
+
+		P globalEq(boolean global);
+	}
+
+	private HolidaySearchFilter() {
+	}
+
+	public static <P> List<P> render(final SearchCondition condition, final Renderer<P> renderer) {
+		List<P> predicates = new ArrayList<>();
+		if (condition.startDate() != null || condition.endDate() != null) {
+			predicates.add(renderer.dateBetween(condition.startDate(), condition.endDate()));
+		}
+		if (condition.isMultiCountry()) {
+			predicates.add(renderer.countryIn(condition.countries()));
+		} else if (condition.countryName() != null) {
+			predicates.add(renderer.countryNameEq(condition.countryName()));
+		}
+		if (condition.hasName()) {
+			predicates.add(renderer.nameContains(condition.name()));
+		}
+		if (condition.hasSubdivision()) {
+			predicates.add(renderer.subdivisionEq(condition.subdivision()));
+		}
+		if (condition.hasTypes()) {
+			predicates.add(renderer.typesAny(condition.types()));
+		}
+		if (condition.fixed() != null) {
+			predicates.add(renderer.fixedEq(condition.fixed()));
+		}
+		if (condition.global() != null) {
+			predicates.add(renderer.globalEq(condition.global()));
+		}
+		return predicates;
+	}
+}
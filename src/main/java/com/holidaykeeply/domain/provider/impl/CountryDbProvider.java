@@ -12,15 +12,18 @@ import com.holidaykeeply.domain.provider.CountryProvider;
 
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 @Qualifier("countryDbProvider")
 @Component
 @RequiredArgsConstructor
 public class CountryDbProvider implements CountryProvider {
   private final CountryRepository countryRepository;
+  private final Scheduler blockingScheduler;
 
   @Transactional(readOnly = true)
   public Mono<List<Country>> getCountries() {
-    return Mono.fromCallable(countryRepository::findAll);
+    return Mono.fromCallable(countryRepository::findAll)
+        .subscribeOn(blockingScheduler);
   }
 }
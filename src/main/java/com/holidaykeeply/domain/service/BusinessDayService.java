@@ -0,0 +1,79 @@
+package com.holidaykeeply.domain.service;
+
+import java.time.LocalDate;
+
+import org.springframework.stereotype.Service;
+
+import com.holidaykeeply.domain.index.CountryHolidayIndex;
+import com.holidaykeeply.domain.index.HolidayIndex;
+import com.holidaykeeply.global.common.key.BusinessDayProperties;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 국가별 주말 정의와 공휴일을 제외한 영업일 계산
+ * 인덱스의 누적 영업일 수 W(d) 를 O(1) 에 구할 수 있으므로 기간 내 영업일 수는 두 값의 차로 O(1),
+ * N 영업일 후 날짜는 W 에 대한 이진 탐색으로 O(log n) 에 구한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BusinessDayService {
+	private final HolidayIndex holidayIndex;
+	private final BusinessDayProperties businessDayProperties;
+
+	/**
+	 * date 로부터 days 영업일 뒤(음수면 앞)의 날짜. date 자신은 세지 않으며 days 가 0 이면 date 를 그대로 반환한다.
+	 */
+	public LocalDate addBusinessDays(final String countryCode, final LocalDate date, final int days) {
+		if (days == 0) {
+			return date;
+		}
+		CountryHolidayIndex country = holidayIndex.countryByCode(countryCode);
+		int weekendMask = businessDayProperties.weekendMask(countryCode);
+		long epochDay = date.toEpochDay();
+		// 7일마다 평일이 최소 하루 있고 공휴일은 최대 size() 일을 더 막으므로 탐색 범위는 이 안에 있다.
+		long span = 7L * (Math.abs((long) days) + country.size() + 1);
+		long target = days > 0
+			? country.workingDaysBefore(epochDay + 1, weekendMask) + days
+			: country.workingDaysBefore(epochDay, weekendMask) + days + 1;
+		long found = days > 0
+			? firstReaching(country, weekendMask, epochDay + 1, epochDay + span, target)
+			: firstReaching(country, weekendMask, epochDay - span, epochDay - 1, target);
+		return LocalDate.ofEpochDay(found);
+	}
+
+	/**
+	 * startDate ~ endDate (양 끝 포함) 사이의 영업일 수
+	 */
+	public long countBusinessDays(final String countryCode, final LocalDate startDate, final LocalDate endDate) {
+		if (startDate.isAfter(endDate)) {
+			return 0;
+		}
+		CountryHolidayIndex country = holidayIndex.countryByCode(countryCode);
+		int weekendMask = businessDayProperties.weekendMask(countryCode);
+		return country.workingDaysBefore(endDate.toEpochDay() + 1, weekendMask)
+			- country.workingDaysBefore(startDate.toEpochDay(), weekendMask);
+	}
+
+	/**
+	 * [low, high] 에서 W(d + 1) >= target 인 가장 작은 d. 누적값이 target 에 처음 도달하는 날이 target 번째 영업일이다.
+	 */
+	private long firstReaching(
+			final CountryHolidayIndex country,
+			final int weekendMask,
+			final long low,
+			final long high,
+			final long target) {
+		long from = low;
+		long to = high;
+		while (from < to) {
+			long mid = from + (to - from) / 2;
+			if (country.workingDaysBefore(mid + 1, weekendMask) < target) {
+				from = mid + 1;
+			} else {
+				to = mid;
+			}
+		}
+		return from;
+	}
+}
@@ -4,23 +4,36 @@ import java.util.List;
 import java.util.NoSuchElementException;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.holidaykeeply.domain.entity.Country;
 import com.holidaykeeply.domain.infrastructure.repository.CountryRepository;
 
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class CountryService {
 	private final CountryRepository countryRepository;
-
-	@Transactional(readOnly = true)
+	private final Scheduler blockingScheduler;
+	private final PlatformTransactionManager transactionManager;
+
+	/**
+	 * 조회는 blockingScheduler 스레드에서 실행되므로 메서드의 트랜잭션이 아니라 그 스레드에서 연
+	 * 읽기 전용 트랜잭션으로 읽는다. (replica 사용 시 replica 로 라우팅된다)
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public Mono<Long> count() {
-		return Mono.fromCallable(countryRepository::count);
+		TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+		return Mono.fromCallable(() -> readOnly.execute(status -> countryRepository.count()))
+				.subscribeOn(blockingScheduler);
 	}
 
 	@Transactional(readOnly = true)
@@ -31,6 +44,6 @@ public class CountryService {
 	public Mono<List<Country>> saveAll(List<Country> countries) {
 		return Mono.fromCallable(() -> {
 			return countryRepository.saveAll(countries);
-		});
+		}).subscribeOn(blockingScheduler);
 	}
 }
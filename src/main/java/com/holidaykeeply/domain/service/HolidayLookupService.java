@@ -0,0 +1,55 @@
+package com.holidaykeeply.domain.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+
+import com.holidaykeeply.api.dto.HolidayInfoDto;
+import com.holidaykeeply.domain.index.CountryHolidayIndex;
+import com.holidaykeeply.domain.index.HolidayIndex;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기준일 전후의 공휴일 조회
+ * 국가별 (date asc, id asc) 정렬 배열을 이진 탐색하므로 조회 한 번은 O(log n) 이며 DB 를 조회하지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class HolidayLookupService {
+	private final HolidayIndex holidayIndex;
+
+	/**
+	 * date 이후(date 제외) 첫 공휴일. 같은 날 공휴일이 여럿이면 id 가 가장 작은 공휴일
+	 */
+	public Optional<HolidayInfoDto.Response> next(final String countryCode, final LocalDate date) {
+		return upcoming(countryCode, date, 1).stream().findFirst();
+	}
+
+	/**
+	 * date 이전(date 제외) 마지막 공휴일. 같은 날 공휴일이 여럿이면 id 가 가장 큰 공휴일
+	 */
+	public Optional<HolidayInfoDto.Response> previous(final String countryCode, final LocalDate date) {
+		CountryHolidayIndex country = holidayIndex.countryByCode(countryCode);
+		int position = country.lowerBound((int) date.toEpochDay()) - 1;
+		return position < 0 ? Optional.empty() : Optional.of(country.toResponse(position));
+	}
+
+	/**
+	 * date 이후(date 제외) 공휴일을 날짜 오름차순으로 최대 count 건
+	 */
+	public List<HolidayInfoDto.Response> upcoming(final String countryCode, final LocalDate date, final int count) {
+		CountryHolidayIndex country = holidayIndex.countryByCode(countryCode);
+		int from = country.upperBound((int) date.toEpochDay());
+		int to = Math.min(country.size(), from + count);
+
+		List<HolidayInfoDto.Response> holidays = new ArrayList<>(Math.max(0, to - from));
+		for (int position = from; position < to; position++) {
+			holidays.add(country.toResponse(position));
+		}
+		return holidays;
+	}
+}
@@ -0,0 +1,74 @@
+package com.holidaykeeply.domain.service;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import com.holidaykeeply.api.dto.HolidayInfoDto;
+import com.holidaykeeply.api.dto.SearchCondition;
+import com.holidaykeeply.domain.cache.HolidayQueryCache;
+import com.holidaykeeply.domain.index.HolidayIndex;
+import com.holidaykeeply.domain.infrastructure.reactive.HolidayReactiveRepository;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * 논블로킹 공휴일 검색. HolidayService 와 같이 검색 결과 캐시 → 메모리 인덱스 순으로 조회하고,
+ * 인덱스가 답할 수 없을 때만 R2DBC 로 스레드를 점유하지 않고 DB 응답을 기다린다.
+ */
+@Service
+@RequiredArgsConstructor
+public class HolidayReactiveService {
+	private final HolidayReactiveRepository holidayReactiveRepository;
+	private final HolidayIndex holidayIndex;
+	private final HolidayQueryCache holidayQueryCache;
+
+	public Mono<Page<HolidayInfoDto.Response>> getHolidays(
+			final SearchCondition searchCondition,
+			final Pageable pageable) {
+		return holidayQueryCache.getAsync(searchCondition, pageable, () -> holidayIndex.search(searchCondition, pageable)
+				.map(Mono::just)
+				.orElseGet(() -> findHolidays(searchCondition, pageable)));
+	}
+
+	/**
+	 * 조회 결과만으로 전체 건수를 알 수 있으면 count 쿼리를 생략한다. (PageableExecutionUtils 와 같은 규칙)
+	 */
+	private Mono<Page<HolidayInfoDto.Response>> findHolidays(
+			final SearchCondition searchCondition,
+			final Pageable pageable) {
+		return holidayReactiveRepository.findHolidays(searchCondition, pageable)
+				.collectList()
+				.flatMap(this::withDetails)
+				.flatMap(content -> total(searchCondition, pageable, content)
+						.map(total -> new PageImpl<>(content, pageable, total)));
+	}
+
+	/**
+	 * 페이지의 지역/유형을 쿼리 한 번으로 채운다.
+	 */
+	private Mono<List<HolidayInfoDto.Response>> withDetails(final List<HolidayInfoDto.Response> content) {
+		return holidayReactiveRepository.findDetails(content.stream().map(HolidayInfoDto.Response::getId).toList())
+				.map(details -> {
+					content.forEach(row -> row.addDetails(details.getOrDefault(row.getId(), HolidayInfoDto.Details.EMPTY)));
+					return content;
+				});
+	}
+
+	private Mono<Long> total(
+			final SearchCondition searchCondition,
+			final Pageable pageable,
+			final List<HolidayInfoDto.Response> content) {
+		if (pageable.isUnpaged() || pageable.getOffset() == 0 && content.size() < pageable.getPageSize()) {
+			return Mono.just((long) content.size());
+		}
+		if (!content.isEmpty() && content.size() < pageable.getPageSize()) {
+			return Mono.just(pageable.getOffset() + content.size());
+		}
+		return holidayReactiveRepository.countHolidays(searchCondition);
+	}
+}
@@ -1,22 +1,38 @@
 package com.holidaykeeply.domain.service;
 
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.holidaykeeply.api.dto.HolidayCursorDto;
+import com.holidaykeeply.api.dto.HolidayExportDto;
+import com.holidaykeeply.api.dto.HolidayFieldsDto;
 import com.holidaykeeply.api.dto.HolidayInfoDto;
+import com.holidaykeeply.api.dto.HolidayNameDto;
 import com.holidaykeeply.api.dto.SearchCondition;
+import com.holidaykeeply.domain.cache.HolidayQueryCache;
 import com.holidaykeeply.domain.entity.Country;
 import com.holidaykeeply.domain.entity.Holiday;
+import com.holidaykeeply.domain.event.HolidayChangedEvent;
+import com.holidaykeeply.domain.index.HolidayIndex;
 import com.holidaykeeply.domain.infrastructure.repository.HolidayRepository;
 
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.scheduler.Scheduler;
 
 @Service
 @Transactional
@@ -24,26 +40,135 @@ import reactor.core.scheduler.Schedulers;
 public class HolidayService {
 	private final HolidayRepository holidayRepository;
 	private final CountryService countryService;
+	private final HolidayIndex holidayIndex;
+	private final HolidayQueryCache holidayQueryCache;
+	private final ApplicationEventPublisher eventPublisher;
+	private final Scheduler blockingScheduler;
+	private final PlatformTransactionManager transactionManager;
 
-	@Transactional(readOnly = true)
+	/**
+	 * 결과 캐시 → 인메모리 인덱스 → DB 순으로 조회한다. DB 는 인덱스가 준비되지 않았을 때만 조회한다.
+	 * 인덱스 조회에서 커넥션을 잡지 않도록 트랜잭션은 SUPPORTS 로 둔다.
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public Page<HolidayInfoDto.Response> getHolidays(
 			final SearchCondition searchCondition,
 			final Pageable pageable) {
-		return holidayRepository.findHolidaysByFilters(searchCondition, pageable);
+		return holidayQueryCache.get(searchCondition, pageable, () -> holidayIndex.search(searchCondition, pageable)
+				.orElseGet(() -> holidayRepository.findHolidaysByFilters(searchCondition, pageable)));
+	}
+
+	/**
+	 * 선택한 필드만 담은 페이지. 인덱스가 적재되어 있으면 인덱스 결과에서 필드를 골라내고,
+	 * 아니면 DB 에서 해당 컬럼만 조회한다.
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public Page<Map<String, Object>> getHolidayFields(
+			final SearchCondition searchCondition,
+			final Set<HolidayFieldsDto.Field> fields,
+			final Pageable pageable) {
+		return holidayIndex.search(searchCondition, pageable)
+				.map(page -> page.map(row -> HolidayFieldsDto.project(row, fields)))
+				.orElseGet(() -> holidayRepository.findHolidayFields(searchCondition, fields, pageable));
+	}
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public HolidayCursorDto.Response getHolidaysByCursor(
+			final SearchCondition searchCondition,
+			final HolidayCursorDto.Request request) {
+		HolidayCursorDto.Cursor cursor = request.decodedCursor();
+		int limit = request.limit();
+		List<HolidayInfoDto.Response> rows = holidayIndex.searchAfter(searchCondition, cursor, limit + 1)
+				.orElseGet(() -> holidayRepository.findHolidaysAfter(searchCondition, cursor, limit + 1));
+		return HolidayCursorDto.Response.of(rows, limit);
+	}
+
+	/**
+	 * 공휴일 이름 자동완성. 인덱스의 n-gram 역색인으로 찾고, 인덱스 적재 전에만 DB 를 조회한다.
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public List<HolidayNameDto.Suggestion> suggestNames(final String query, final int limit) {
+		return holidayIndex.suggestNames(query, limit)
+				.orElseGet(() -> holidayRepository.findNameSuggestions(query.strip(), limit));
+	}
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public boolean isHoliday(final String countryCode, final LocalDate date) {
+		return holidayIndex.isHoliday(countryCode, date)
+				.orElseGet(() -> holidayRepository.existsByCountry_CountryCodeAndDate(countryCode, date));
+	}
+
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public long[] holidayIdsOn(final String[] countryCodes, final LocalDate[] dates) {
+		return holidayIndex.holidayIdsOn(countryCodes, dates);
+	}
+
+	/**
+	 * 조건에 맞는 공휴일을 DB 커서에서 한 행씩 읽어 sink 로 넘긴다. 스트림은 트랜잭션 안에서 소비하고 닫는다.
+	 */
+	@Transactional(readOnly = true)
+	public void exportHolidays(
+			final HolidayExportDto.Request request,
+			final Consumer<HolidayInfoDto.Response> sink) {
+		try (Stream<HolidayInfoDto.Response> rows = holidayRepository.streamHolidays(request)) {
+			rows.forEach(sink);
+		}
 	}
 
 	public void deleteByDateAndCountry(final LocalDate year, final Country country) {
 		holidayRepository.deleteByDateAndCountry(year, country);
+		eventPublisher.publishEvent(new HolidayChangedEvent(country.getCountryCode(), country.getName()));
 	}
 
+	/**
+	 * blockingScheduler 스레드에는 클래스의 @Transactional 이 적용되지 않으므로 그 스레드에서 쓰기 트랜잭션을 연다.
+	 * 국가 조회도 이 트랜잭션에 참여해 primary 에서 읽고, 변경 이벤트 리스너는 커밋 후에 실행된다.
+	 */
 	public Mono<Void> upsertAll(
 			final List<Holiday> holidays,
 			final LocalDate year,
 			final String countryCode) {
-		return Mono.fromRunnable(() -> {
+		return Mono.fromRunnable(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
 			var country = countryService.findByCountryCode(countryCode);
 			holidays.forEach(holiday -> holiday.addCountry(year, country));
-			holidayRepository.saveAll(holidays);
-		}).subscribeOn(Schedulers.boundedElastic()).then();
+			holidayRepository.saveAll(mergeWithExisting(holidays, year, country));
+			eventPublisher.publishEvent(new HolidayChangedEvent(countryCode, country.getName()));
+		})).subscribeOn(blockingScheduler).then();
+	}
+
+	/**
+	 * (국가, 날짜, 영어 이름) 자연키 기준으로 이미 저장된 공휴일은 갱신하고 새 공휴일만 추가한다.
+	 * 같은 응답 안에서 자연키가 중복되면 먼저 나온 항목에 나머지 항목의 지역과 유형을 합친다.
+	 */
+	private List<Holiday> mergeWithExisting(
+			final List<Holiday> holidays,
+			final LocalDate year,
+			final Country country) {
+		Map<String, Holiday> existing = new LinkedHashMap<>();
+		holidayRepository.findAllByCountryAndDateBetween(country,
+						LocalDate.of(year.getYear(), 1, 1), LocalDate.of(year.getYear(), 12, 31))
+				.forEach(holiday -> existing.put(naturalKey(holiday), holiday));
+
+		Map<String, Holiday> merged = new LinkedHashMap<>();
+		for (Holiday holiday : holidays) {
+			String key = naturalKey(holiday);
+			Holiday first = merged.get(key);
+			if (first != null) {
+				first.merge(holiday);
+				continue;
+			}
+			Holiday saved = existing.get(key);
+			if (saved != null) {
+				saved.update(holiday);
+				merged.put(key, saved);
+			} else {
+				merged.put(key, holiday);
+			}
+		}
+		return List.copyOf(merged.values());
+	}
+
+	private String naturalKey(final Holiday holiday) {
+		return holiday.getDate() + "|" + holiday.getName();
 	}
 }
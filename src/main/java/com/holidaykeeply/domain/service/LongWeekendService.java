@@ -0,0 +1,193 @@
+package com.holidaykeeply.domain.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.holidaykeeply.api.dto.LongWeekendDto;
+import com.holidaykeeply.domain.event.HolidayChangedEvent;
+import com.holidaykeeply.domain.index.CountryHolidayIndex;
+import com.holidaykeeply.domain.index.HolidayIndex;
+import com.holidaykeeply.global.common.key.BusinessDayProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 저장된 공휴일과 국가별 주말 정의로 (국가, 연도) 의 연휴와 징검다리 휴일을 계산한다.
+ * 쉬는 날은 전국 공휴일({@link CountryHolidayIndex#isDayOff})만 보며, 지역 공휴일과 기념일 등은 연휴를 만들지 않는다.
+ * 인덱스 적재 시 전체, 공휴일 변경 시 해당 국가의 전국 공휴일이 있는 연도를 미리 계산해 둔다.
+ * 각 항목은 계산에 사용한 국가 인덱스가 바뀌면 다시 계산한다.
+ * 인덱스에 없는 국가는 연휴가 없으므로 저장하지 않고, 저장 항목 수는 MAX_ENTRIES 로 제한한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LongWeekendService {
+	private static final int MIN_DAYS = 3;
+	private static final int MIN_BRIDGED_DAYS = 4;
+	private static final int MARGIN_DAYS = 14; // 연도 경계를 넘는 연휴
+	private static final long MAX_ENTRIES = 20_000;
+
+	private final HolidayIndex holidayIndex;
+	private final BusinessDayProperties businessDayProperties;
+
+	private final Cache<Key, Entry> computed = Caffeine.newBuilder()
+		.maximumSize(MAX_ENTRIES)
+		.build();
+
+	private record Key(String countryCode, int year) {}
+
+	private record Entry(CountryHolidayIndex source, List<LongWeekendDto.Response> longWeekends) {}
+
+	/**
+	 * 시작일이 해당 연도인 연휴 목록 (시작일 오름차순)
+	 */
+	public List<LongWeekendDto.Response> getLongWeekends(final String countryCode, final int year) {
+		return precompute(countryCode, year, holidayIndex.countryByCode(countryCode));
+	}
+
+	public void precompute(final String countryCode, final int year) {
+		precompute(countryCode, year, holidayIndex.countryByCode(countryCode));
+	}
+
+	/**
+	 * 인덱스 전체 적재 이후에 실행한다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadAll() {
+		holidayIndex.countryCodes().forEach(this::precomputeCountry);
+		log.info("Long weekends precomputed: {} country-years", estimatedSize());
+	}
+
+	/**
+	 * 인덱스 갱신 이후에 실행한다. 공휴일이 사라진 연도의 항목은 버린다.
+	 */
+	@Order(0)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onHolidayChanged(final HolidayChangedEvent event) {
+		computed.asMap().keySet().removeIf(key -> key.countryCode().equals(event.countryCode()));
+		if (holidayIndex.isLoaded()) {
+			precomputeCountry(event.countryCode());
+		}
+	}
+
+	public long estimatedSize() {
+		return computed.estimatedSize();
+	}
+
+	private void precomputeCountry(final String countryCode) {
+		CountryHolidayIndex country = holidayIndex.countryByCode(countryCode);
+		for (int year : years(country)) {
+			precompute(countryCode, year, country);
+		}
+	}
+
+	/**
+	 * 전국 공휴일이 있는 연도. 연말 공휴일은 다음 해 연휴에도 걸칠 수 있어 다음 연도도 포함한다.
+	 */
+	private SortedSet<Integer> years(final CountryHolidayIndex country) {
+		SortedSet<Integer> years = new TreeSet<>();
+		for (int position = 0; position < country.size(); position++) {
+			LocalDate date = LocalDate.ofEpochDay(country.epochDay(position));
+			if (!country.isDayOff(date)) {
+				continue;
+			}
+			years.add(date.getYear());
+			years.add(date.plusDays(MARGIN_DAYS).getYear());
+		}
+		return years;
+	}
+
+	private List<LongWeekendDto.Response> precompute(
+			final String countryCode,
+			final int year,
+			final CountryHolidayIndex country) {
+		if (country == CountryHolidayIndex.EMPTY) {
+			return List.of();
+		}
+		Key key = new Key(countryCode, year);
+		Entry entry = computed.getIfPresent(key);
+		if (entry == null || entry.source() != country) {
+			entry = new Entry(country, compute(country, businessDayProperties.weekendMask(countryCode), year));
+			computed.put(key, entry);
+		}
+		return entry.longWeekends();
+	}
+
+	/**
+	 * 1. 쉬는 날(주말 또는 공휴일)이 이어지는 구간을 찾는다.
+	 * 2. 공휴일을 포함하고 3일 이상인 구간은 연휴다.
+	 * 3. 평일 하루를 사이에 둔 두 구간은 그 평일을 쉬면 4일 이상 연휴가 되므로 징검다리 연휴로 제안한다.
+	 */
+	private List<LongWeekendDto.Response> compute(final CountryHolidayIndex country, final int weekendMask, final int year) {
+		LocalDate first = LocalDate.of(year, 1, 1).minusDays(MARGIN_DAYS);
+		int length = (int) (LocalDate.of(year, 12, 31).plusDays(MARGIN_DAYS).toEpochDay() - first.toEpochDay()) + 1;
+
+		boolean[] holiday = new boolean[length];
+		boolean[] off = new boolean[length];
+		for (int day = 0; day < length; day++) {
+			LocalDate date = first.plusDays(day);
+			holiday[day] = country.isDayOff(date);
+			off[day] = holiday[day] || (weekendMask & (1 << (date.getDayOfWeek().getValue() - 1))) != 0;
+		}
+
+		List<int[]> runs = new ArrayList<>();
+		for (int day = 0; day < length; day++) {
+			if (off[day]) {
+				int end = day;
+				while (end + 1 < length && off[end + 1]) {
+					end++;
+				}
+				runs.add(new int[] {day, end});
+				day = end;
+			}
+		}
+
+		List<LongWeekendDto.Response> longWeekends = new ArrayList<>();
+		for (int i = 0; i < runs.size(); i++) {
+			int[] run = runs.get(i);
+			if (inYear(first, run[0], year) && run[1] - run[0] + 1 >= MIN_DAYS && containsHoliday(holiday, run[0], run[1])) {
+				longWeekends.add(new LongWeekendDto.Response(
+					first.plusDays(run[0]), first.plusDays(run[1]), run[1] - run[0] + 1, false, List.of()));
+			}
+			if (i + 1 < runs.size()) {
+				int[] next = runs.get(i + 1);
+				boolean oneWorkingDay = next[0] - run[1] == 2;
+				if (oneWorkingDay && inYear(first, run[0], year) && next[1] - run[0] + 1 >= MIN_BRIDGED_DAYS
+					&& containsHoliday(holiday, run[0], next[1])) {
+					longWeekends.add(new LongWeekendDto.Response(
+						first.plusDays(run[0]), first.plusDays(next[1]), next[1] - run[0] + 1, true,
+						List.of(first.plusDays(run[1] + 1))));
+				}
+			}
+		}
+		longWeekends.sort(Comparator.comparing(LongWeekendDto.Response::startDate)
+			.thenComparing(LongWeekendDto.Response::dayCount));
+		return List.copyOf(longWeekends);
+	}
+
+	private boolean inYear(final LocalDate first, final int day, final int year) {
+		return first.plusDays(day).getYear() == year;
+	}
+
+	private boolean containsHoliday(final boolean[] holiday, final int from, final int to) {
+		for (int day = from; day <= to; day++) {
+			if (holiday[day]) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
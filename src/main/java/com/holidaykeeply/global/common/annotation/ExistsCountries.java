@@ -0,0 +1,22 @@
+package com.holidaykeeply.global.common.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.holidaykeeply.global.common.validator.ExistsCountriesValidator;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+@Documented
+@Constraint(validatedBy = ExistsCountriesValidator.class)
+@Target({ ElementType.PARAMETER, ElementType.FIELD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ExistsCountries {
+	String message() default "존재하지 않는 국가 코드 또는 국가명이 포함되어 있습니다.";
+	Class<?>[] groups() default {};
+	Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,39 @@
+package com.holidaykeeply.global.common.key;
+
+import java.time.DayOfWeek;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 국가별 주말 정의. 설정이 없는 국가는 defaultWeekend(기본 토·일)를 사용한다.
+ */
+@ConfigurationProperties(prefix = "holiday.business-day")
+public record BusinessDayProperties(
+	Set<DayOfWeek> defaultWeekend,
+	Map<String, Set<DayOfWeek>> weekends
+) {
+	public BusinessDayProperties {
+		defaultWeekend = defaultWeekend == null || defaultWeekend.isEmpty()
+			? EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY)
+			: defaultWeekend;
+		weekends = weekends == null ? Map.of() : weekends;
+		if (defaultWeekend.size() == DayOfWeek.values().length
+			|| weekends.values().stream().anyMatch(days -> days.size() == DayOfWeek.values().length)) {
+			throw new IllegalArgumentException("모든 요일을 주말로 설정할 수 없습니다.");
+		}
+	}
+
+	/**
+	 * 주말 요일 비트마스크 (MONDAY = bit 0 ... SUNDAY = bit 6)
+	 */
+	public int weekendMask(final String countryCode) {
+		int mask = 0;
+		for (DayOfWeek dayOfWeek : weekends.getOrDefault(countryCode, defaultWeekend)) {
+			mask |= 1 << (dayOfWeek.getValue() - 1);
+		}
+		return mask;
+	}
+}
@@ -0,0 +1,26 @@
+package com.holidaykeeply.global.common.key;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 읽기 전용 트랜잭션을 보낼 replica 데이터소스 설정. enabled 가 false 면 모든 조회가 primary 를 사용한다.
+ * maxLag: 마지막 데이터 변경 후 이 시간 동안은 복제가 따라오지 못했을 수 있으므로 primary 에서 읽는다.
+ * lagQuery: 복제 지연(초)을 반환하는 쿼리. 비어 있으면 연결 가능 여부만 확인한다.
+ */
+@ConfigurationProperties(prefix = "holiday.datasource.replica")
+public record ReplicaDataSourceProperties(
+	boolean enabled,
+	String url,
+	String username,
+	String password,
+	String driverClassName,
+	Duration maxLag,
+	String lagQuery
+) {
+	public ReplicaDataSourceProperties {
+		maxLag = maxLag == null ? Duration.ofSeconds(5) : maxLag;
+		lagQuery = lagQuery == null || lagQuery.isBlank() ? null : lagQuery;
+	}
+}
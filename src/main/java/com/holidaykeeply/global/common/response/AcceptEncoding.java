@@ -0,0 +1,49 @@
+package com.holidaykeeply.global.common.response;
+
+import java.util.Locale;
+
+/**
+ * Accept-Encoding 헤더 해석. q 값을 반영해 gzip 을 받을 수 있는지 판단한다.
+ * gzip(또는 x-gzip)이 명시되면 그 q 값을, 없으면 * 의 q 값을 따른다. q=0 은 거부이며 q 형식이 잘못되면 거부로 본다.
+ */
+public final class AcceptEncoding {
+	public static final String GZIP = "gzip";
+
+	private AcceptEncoding() {
+	}
+
+	public static boolean acceptsGzip(final String header) {
+		if (header == null || header.isBlank()) {
+			return false;
+		}
+		Double gzip = null;
+		Double wildcard = null;
+		for (String element : header.split(",")) {
+			String[] parts = element.split(";");
+			String coding = parts[0].strip().toLowerCase(Locale.ROOT);
+			if (coding.equals(GZIP) || coding.equals("x-gzip")) {
+				gzip = Math.max(gzip == null ? 0 : gzip, quality(parts));
+			} else if (coding.equals("*")) {
+				wildcard = quality(parts);
+			}
+		}
+		if (gzip != null) {
+			return gzip > 0;
+		}
+		return wildcard != null && wildcard > 0;
+	}
+
+	private static double quality(final String[] parts) {
+		for (int i = 1; i < parts.length; i++) {
+			String parameter = parts[i].strip();
+			if (parameter.length() > 2 && parameter.substring(0, 2).equalsIgnoreCase("q=")) {
+				try {
+					return Double.parseDouble(parameter.substring(2).strip());
+				} catch (NumberFormatException e) {
+					return 0;
+				}
+			}
+		}
+		return 1;
+	}
+}
@@ -0,0 +1,50 @@
+package com.holidaykeeply.global.common.validator;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.holidaykeeply.domain.entity.Country;
+import com.holidaykeeply.domain.infrastructure.repository.CountryRepository;
+import com.holidaykeeply.global.common.annotation.ExistsCountries;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 목록의 모든 값이 존재하는 국가 코드 또는 국가명인지 검증한다. 빈 목록 여부는 @NotEmpty 로 검증한다.
+ * 값마다 조회하지 않고 코드 IN / 국가명 IN 한 번의 쿼리로 일치하는 국가를 가져와 비교한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExistsCountriesValidator implements ConstraintValidator<ExistsCountries, List<String>> {
+
+	private final CountryRepository countryRepository;
+
+	@Override
+	public boolean isValid(
+		final List<String> values,
+		final ConstraintValidatorContext context
+	) {
+		if (values == null) {
+			return true;
+		}
+		if (values.isEmpty()) {
+			return true;
+		}
+		if (values.stream().anyMatch(Objects::isNull)) {
+			return false;
+		}
+		Set<String> requested = Set.copyOf(values);
+		Set<String> known = new HashSet<>();
+		for (Country country : countryRepository.findAllByCountryCodeInOrNameIn(requested, requested)) {
+			known.add(country.getCountryCode());
+			known.add(country.getName());
+		}
+		return known.containsAll(requested);
+	}
+}
@@ -3,10 +3,12 @@ package com.holidaykeeply.global.config;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import com.holidaykeeply.global.common.key.BusinessDayProperties;
 import com.holidaykeeply.global.common.key.NagerApiProperties;
+import com.holidaykeeply.global.common.key.ReplicaDataSourceProperties;
 
 @Configuration
-@EnableConfigurationProperties(NagerApiProperties.class)
+@EnableConfigurationProperties({NagerApiProperties.class, BusinessDayProperties.class, ReplicaDataSourceProperties.class})
 public class AppConfig {
 }
 
@@ -0,0 +1,74 @@
+package com.holidaykeeply.global.config;
+
+import java.time.Clock;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.holidaykeeply.domain.event.HolidayDataVersion;
+import com.holidaykeeply.global.common.key.ReplicaDataSourceProperties;
+import com.holidaykeeply.global.datasource.ReadWriteRoutingDataSource;
+import com.holidaykeeply.global.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * holiday.datasource.replica.enabled=true 이면 spring.datasource(primary) 와 replica 두 커넥션 풀을 만들고,
+ * 읽기 전용 트랜잭션을 replica 로 보내는 라우팅 데이터소스를 기본 DataSource 로 등록한다.
+ * 연간 일괄 동기화 같은 쓰기 부하가 조회 API 의 커넥션/DB 자원을 잡아먹지 않게 한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "holiday.datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceConfig {
+
+	@Bean
+	public HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	@Bean
+	public HikariDataSource replicaDataSource(final ReplicaDataSourceProperties properties) {
+		HikariDataSource dataSource = DataSourceBuilder.create()
+			.type(HikariDataSource.class)
+			.url(properties.url())
+			.username(properties.username())
+			.password(properties.password())
+			.driverClassName(properties.driverClassName())
+			.build();
+		dataSource.setPoolName("replica");
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+	/**
+	 * Clock 빈이 없으면 시스템 시계(UTC)를 쓴다.
+	 */
+	@Bean
+	public ReplicaLagMonitor replicaLagMonitor(
+			@Qualifier("replicaDataSource") final DataSource replicaDataSource,
+			final ReplicaDataSourceProperties properties,
+			final HolidayDataVersion holidayDataVersion,
+			final ObjectProvider<Clock> clock) {
+		return new ReplicaLagMonitor(replicaDataSource, properties, holidayDataVersion, clock.getIfAvailable(Clock::systemUTC));
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(
+			@Qualifier("primaryDataSource") final DataSource primaryDataSource,
+			@Qualifier("replicaDataSource") final DataSource replicaDataSource,
+			final ReplicaLagMonitor replicaLagMonitor) {
+		return new LazyConnectionDataSourceProxy(
+			new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor::isReadable));
+	}
+}
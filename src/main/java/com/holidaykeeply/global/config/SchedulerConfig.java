@@ -0,0 +1,39 @@
+package com.holidaykeeply.global.config;
+
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * JPA 호출처럼 스레드를 막는 작업을 실행할 Reactor 스케줄러
+ * spring.threads.virtual.enabled=true 이면 요청 처리(Tomcat)와 함께 가상 스레드에서 실행하고,
+ * 아니면 boundedElastic 플랫폼 스레드 풀에서 실행한다.
+ */
+@Configuration
+public class SchedulerConfig {
+
+	@Bean(name = "blockingScheduler", destroyMethod = "dispose")
+	@ConditionalOnThreading(Threading.VIRTUAL)
+	public Scheduler virtualBlockingScheduler() {
+		return virtualThreadScheduler();
+	}
+
+	@Bean(name = "blockingScheduler")
+	@ConditionalOnThreading(Threading.PLATFORM)
+	public Scheduler platformBlockingScheduler() {
+		return Schedulers.boundedElastic();
+	}
+
+	/**
+	 * 작업마다 가상 스레드를 하나씩 만든다. 동시 실행 수 제한이 없으므로 DB 동시성은 커넥션 풀이 제한한다.
+	 */
+	public static Scheduler virtualThreadScheduler() {
+		return Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "blocking-virtual");
+	}
+}
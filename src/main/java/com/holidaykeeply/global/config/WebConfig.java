@@ -0,0 +1,45 @@
+package com.holidaykeeply.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.holidaykeeply.domain.event.HolidayDataVersion;
+import com.holidaykeeply.global.interceptor.HolidayETagInterceptor;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+	private final HolidayDataVersion holidayDataVersion;
+
+	@Override
+	public void addInterceptors(final InterceptorRegistry registry) {
+		registry.addInterceptor(new HolidayETagInterceptor(holidayDataVersion))
+			.addPathPatterns("/api/v1/holidays", "/api/v1/holidays/**");
+	}
+
+	/**
+	 * Accept: application/cbor 응답용. JSON 과 같은 모듈/설정의 ObjectMapper 를 CBOR 팩토리로 만든다.
+	 * (jacksonObjectMapperBuilder 는 prototype 빈이라 주입받을 때마다 새 빌더다)
+	 */
+	@Bean
+	public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(final Jackson2ObjectMapperBuilder builder) {
+		return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+	}
+
+	/**
+	 * Accept: application/x-jackson-smile 응답용
+	 */
+	@Bean
+	public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(final Jackson2ObjectMapperBuilder builder) {
+		return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+	}
+}
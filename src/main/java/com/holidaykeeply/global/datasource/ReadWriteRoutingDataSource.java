@@ -0,0 +1,41 @@
+package com.holidaykeeply.global.datasource;
+
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 replica, 나머지는 primary 로 보낸다.
+ * replica 를 쓸 수 없으면(장애, 복제 지연) 읽기 전용이어도 primary 를 사용한다.
+ * 트랜잭션의 readOnly 여부는 트랜잭션 시작 후에 정해지므로 LazyConnectionDataSourceProxy 로 감싸
+ * 실제 커넥션이 필요한 시점에 대상을 고르도록 해야 한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+	public enum Target {
+		PRIMARY, REPLICA
+	}
+
+	private final BooleanSupplier replicaReadable;
+
+	public ReadWriteRoutingDataSource(
+			final DataSource primary,
+			final DataSource replica,
+			final BooleanSupplier replicaReadable) {
+		this.replicaReadable = replicaReadable;
+		setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+		setDefaultTargetDataSource(primary);
+		afterPropertiesSet();
+	}
+
+	@Override
+	protected Target determineCurrentLookupKey() {
+		return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaReadable.getAsBoolean()
+			? Target.REPLICA
+			: Target.PRIMARY;
+	}
+}
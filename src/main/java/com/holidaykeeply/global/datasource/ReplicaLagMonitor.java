@@ -0,0 +1,88 @@
+package com.holidaykeeply.global.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+
+import javax.sql.DataSource;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.holidaykeeply.domain.event.HolidayChangedEvent;
+import com.holidaykeeply.domain.event.HolidayDataVersion;
+import com.holidaykeeply.global.common.key.ReplicaDataSourceProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * replica 로 읽어도 되는지 판단한다.
+ * 주기적으로 replica 연결(또는 lagQuery 의 복제 지연)을 확인하고, 마지막 데이터 변경 후 maxLag 이내면
+ * 방금 쓴 데이터가 아직 복제되지 않았을 수 있으므로 primary 를 사용하게 한다.
+ * 변경 시각은 변경 이벤트가 발행되는 즉시 기록한다. 데이터셋 버전은 커밋 후 리스너 중 가장 마지막에 오르므로,
+ * 그보다 먼저 실행되는 인덱스/캐시 재적재도 primary 에서 읽는다.
+ * 첫 확인 전에는 replica 를 쓰지 않는다. 현재 시각은 주입받은 Clock 으로 읽는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReplicaLagMonitor {
+	private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+	private final DataSource replica;
+	private final ReplicaDataSourceProperties properties;
+	private final HolidayDataVersion dataVersion;
+	private final Clock clock;
+
+	private volatile boolean healthy;
+	private volatile long lastWrite;
+
+	@Scheduled(fixedDelayString = "${holiday.datasource.replica.health-check-interval:5s}")
+	public void check() {
+		boolean current = probe();
+		if (current != healthy) {
+			log.info("Replica {}", current ? "available" : "unavailable, reading from primary");
+		}
+		healthy = current;
+	}
+
+	/**
+	 * 트랜잭션 안에서 발행되면 커밋 전에, 트랜잭션 밖이면 다른 리스너보다 먼저 실행된다.
+	 */
+	@Order(Ordered.HIGHEST_PRECEDENCE)
+	@EventListener
+	public void onHolidayChanging(final HolidayChangedEvent event) {
+		lastWrite = clock.millis();
+	}
+
+	public boolean isReadable() {
+		if (!healthy) {
+			return false;
+		}
+		long changed = Math.max(lastWrite, dataVersion.current());
+		return clock.millis() - changed >= properties.maxLag().toMillis();
+	}
+
+	private boolean probe() {
+		try (Connection connection = replica.getConnection()) {
+			if (properties.lagQuery() == null) {
+				return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+			}
+			try (Statement statement = connection.createStatement();
+				 ResultSet lag = statement.executeQuery(properties.lagQuery())) {
+				if (!lag.next()) {
+					return false;
+				}
+				long seconds = lag.getLong(1);
+				return !lag.wasNull() && seconds <= properties.maxLag().toSeconds();
+			}
+		} catch (SQLException e) {
+			log.warn("Replica check failed: {}", e.getMessage());
+			return false;
+		}
+	}
+}
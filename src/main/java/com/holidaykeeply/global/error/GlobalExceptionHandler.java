@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import com.holidaykeeply.global.common.response.Response;
+import com.holidaykeeply.global.error.exception.BusinessException;
 
 @RestControllerAdvice(annotations = { RestController.class })
 public class GlobalExceptionHandler {
@@ -28,6 +29,12 @@ public class GlobalExceptionHandler {
 		return ResponseEntity.badRequest().body(Response.fail(response));
 	}
 
+	@ExceptionHandler(BusinessException.class)
+	public ResponseEntity<Response<Void>> handleBusinessException(final BusinessException ex) {
+		final ExceptionDto response = new ExceptionDto(ex.getErrorCode(), ex.getMessage());
+		return ResponseEntity.status(ex.getErrorCode().getHttpStatus()).body(Response.fail(response));
+	}
+
 	@ExceptionHandler(NoSuchElementException.class)
 	public ResponseEntity<String> handleNoSuchElementException(NoSuchElementException ex) {
 		return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -0,0 +1,138 @@
+package com.holidaykeeply.global.interceptor;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.holidaykeeply.domain.event.HolidayDataVersion;
+import com.holidaykeeply.global.common.response.AcceptEncoding;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 공휴일 조회(GET/HEAD) 응답에 데이터셋 버전 기반 ETag 를 붙인다.
+ * If-None-Match 가 현재 버전과 같으면 핸들러 호출(파라미터 검증, 조회) 전에 304 로 응답한다.
+ * 버전은 ms 단위인데 HTTP 날짜는 초 단위라 같은 초에 두 번 바뀌면 구분할 수 없으므로 Last-Modified 는 쓰지 않는다.
+ * 버전은 핸들러보다 먼저 읽으므로 응답 데이터보다 오래된 버전이 붙을 수는 있어도 더 새로운 버전이 붙지는 않는다.
+ * CBOR/Smile 응답은 같은 버전이라도 본문이 다르므로 ETag 에 표현 형식을 붙이고 Vary: Accept 를 보낸다.
+ * 매핑에 produces 가 있으면 그 핸들러가 만들 수 있는 형식만 후보로 본다.
+ * 핸들러가 직접 gzip 본문을 고르는 ICS 피드는 인코딩별로 본문이 다르므로 ETag 에 -gzip 을 붙이고 Vary: Accept-Encoding 을 보낸다.
+ * 내보내기처럼 핸들러가 직접 형식을 정하는 요청은 여기서 버전만 읽어 두고, 핸들러가 형식을 정한 뒤
+ * {@link #checkNotModified(HttpServletRequest, HttpServletResponse, String)} 로 그 형식을 붙인 ETag 를 확인한다.
+ */
+@RequiredArgsConstructor
+public class HolidayETagInterceptor implements HandlerInterceptor {
+	private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+	private static final String CONTENT_CODED_SUFFIX = ".ics";
+	private static final String HANDLER_NEGOTIATED_SUFFIX = "/export";
+	private static final String VERSION_ATTRIBUTE = HolidayETagInterceptor.class.getName() + ".version";
+
+	private final HolidayDataVersion dataVersion;
+
+	@Override
+	public boolean preHandle(
+			final HttpServletRequest request,
+			final HttpServletResponse response,
+			final Object handler) {
+		if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+			return true;
+		}
+		long version = dataVersion.current();
+		response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+		response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+		if (request.getRequestURI().endsWith(HANDLER_NEGOTIATED_SUFFIX)) {
+			request.setAttribute(VERSION_ATTRIBUTE, version);
+			return true;
+		}
+		if (request.getRequestURI().endsWith(CONTENT_CODED_SUFFIX)) {
+			response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+			String encoding = AcceptEncoding.acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING)) ? AcceptEncoding.GZIP : null;
+			return !new ServletWebRequest(request, response).checkNotModified(eTag(version, null, encoding));
+		}
+		@SuppressWarnings("unchecked")
+		Set<MediaType> producible = (Set<MediaType>) request.getAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE);
+		return !new ServletWebRequest(request, response)
+			.checkNotModified(eTag(version, representation(request.getHeader(HttpHeaders.ACCEPT), producible)));
+	}
+
+	/**
+	 * 형식을 직접 정하는 핸들러가 정한 형식(representation)을 붙인 ETag 로 조건부 요청을 확인한다.
+	 * 버전은 {@link #preHandle} 에서 읽어 둔 값이며, 인터셉터를 거치지 않은 요청이면 확인하지 않는다.
+	 * true 면 304 가 설정된 것이므로 핸들러는 본문을 쓰지 않고 끝내야 한다.
+	 */
+	public static boolean checkNotModified(
+			final HttpServletRequest request,
+			final HttpServletResponse response,
+			final String representation) {
+		if (!(request.getAttribute(VERSION_ATTRIBUTE) instanceof Long version)) {
+			return false;
+		}
+		return new ServletWebRequest(request, response).checkNotModified(eTag(version, representation));
+	}
+
+	public static String eTag(final long version) {
+		return "\"" + version + "\"";
+	}
+
+	/**
+	 * JSON 은 기존과 같은 "버전", 바이너리 형식은 "버전-cbor" / "버전-smile"
+	 */
+	public static String eTag(final long version, final String representation) {
+		return representation == null ? eTag(version) : "\"" + version + "-" + representation + "\"";
+	}
+
+	/**
+	 * 표현 형식 뒤에 콘텐츠 인코딩을 붙인다. 예: "버전-gzip", "버전-cbor-gzip"
+	 */
+	public static String eTag(final long version, final String representation, final String encoding) {
+		if (encoding == null) {
+			return eTag(version, representation);
+		}
+		return "\"" + version + (representation == null ? "" : "-" + representation) + "-" + encoding + "\"";
+	}
+
+	/**
+	 * Accept 에서 우선순위가 가장 높은 구체적인 형식 중 핸들러가 만들 수 있는 형식이 CBOR/Smile 이면 그 이름, 아니면 null (JSON 등)
+	 * producible 은 매핑의 produces 이며, null 이면 모든 형식을 만들 수 있다고 본다.
+	 */
+	static String representation(final String accept, final Set<MediaType> producible) {
+		if (accept == null || accept.isBlank()) {
+			return null;
+		}
+		List<MediaType> accepted;
+		try {
+			accepted = MediaType.parseMediaTypes(accept);
+		} catch (InvalidMediaTypeException e) {
+			return null; // 형식 오류는 핸들러의 406/400 처리에 맡긴다
+		}
+		MimeTypeUtils.sortBySpecificity(accepted);
+		for (MediaType mediaType : accepted) {
+			if (mediaType.isWildcardType() || mediaType.isWildcardSubtype() || !canProduce(producible, mediaType)) {
+				continue;
+			}
+			if (MediaType.APPLICATION_CBOR.isCompatibleWith(mediaType)) {
+				return "cbor";
+			}
+			if (SMILE.isCompatibleWith(mediaType)) {
+				return "smile";
+			}
+			return null;
+		}
+		return null;
+	}
+
+	private static boolean canProduce(final Set<MediaType> producible, final MediaType mediaType) {
+		return producible == null || producible.stream().anyMatch(mediaType::isCompatibleWith);
+	}
+}
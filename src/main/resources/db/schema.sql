@@ -1,25 +1,48 @@
+DROP TABLE IF EXISTS holiday_counties CASCADE;
+DROP TABLE IF EXISTS holiday_types CASCADE;
 DROP TABLE IF EXISTS holiday CASCADE;
 DROP TABLE IF EXISTS country CASCADE;
 
 CREATE TABLE country (
                          id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
                          country_code VARCHAR(255) NOT NULL,
-                         name VARCHAR(255),
+                         name VARCHAR(255) NOT NULL,
                          created_time TIMESTAMP(6),
                          last_modified_time TIMESTAMP(6)
 );
 
 CREATE TABLE holiday (
-                         id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                         holiday_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
                          fixed BOOLEAN NOT NULL,
                          global BOOLEAN NOT NULL,
-                         holiday_year DATE,
+                         date DATE NOT NULL,
                          country_id BIGINT,
                          created_time TIMESTAMP(6),
                          last_modified_time TIMESTAMP(6),
-                         counties VARCHAR(255),
                          launch_year VARCHAR(255),
-                         local_name VARCHAR(255),
-                         name VARCHAR(255),
-                         CONSTRAINT fk_country FOREIGN KEY (country_id) REFERENCES country (id)
+                         local_name VARCHAR(255) NOT NULL,
+                         name VARCHAR(255) NOT NULL,
+                         CONSTRAINT fk_country FOREIGN KEY (country_id) REFERENCES country (id),
+                         -- 재동기화 시 중복 적재 방지용 자연키
+                         CONSTRAINT uk_holiday_country_date_name UNIQUE (country_id, date, name)
+);
+
+-- 검색 조건(country_id, date 범위) + 정렬(date desc, id desc) + 조회 컬럼을 모두 포함하는 커버링 인덱스
+CREATE INDEX idx_holiday_search
+    ON holiday (country_id, date DESC, holiday_id DESC, name, local_name, fixed, global, launch_year);
+
+CREATE TABLE holiday_counties (
+                         holiday_id BIGINT NOT NULL,
+                         county VARCHAR(255),
+                         CONSTRAINT fk_holiday_counties FOREIGN KEY (holiday_id) REFERENCES holiday (holiday_id)
 );
+
+CREATE INDEX idx_holiday_counties_holiday ON holiday_counties (holiday_id);
+
+CREATE TABLE holiday_types (
+                         holiday_id BIGINT NOT NULL,
+                         type VARCHAR(255),
+                         CONSTRAINT fk_holiday_types FOREIGN KEY (holiday_id) REFERENCES holiday (holiday_id)
+);
+
+CREATE INDEX idx_holiday_types_holiday ON holiday_types (holiday_id);
@@ -0,0 +1,45 @@
+package com.holidaykeeply.api.controller;
+
+import static org.mockito.BDDMockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.holidaykeeply.api.dto.CacheStatsDto;
+import com.holidaykeeply.api.service.HolidayInfoService;
+import com.holidaykeeply.domain.event.HolidayDataVersion;
+
+@WebMvcTest(CacheController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import(HolidayDataVersion.class)
+class CacheControllerTest {
+
+	@MockitoBean
+	private HolidayInfoService holidayInfoService;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	@DisplayName("공휴일 검색 캐시 통계를 조회한다.")
+	void getHolidayQueryCacheStats() throws Exception {
+		// given
+		given(holidayInfoService.getQueryCacheStats())
+				.willReturn(new CacheStatsDto.Response("holiday-query", 10, 30, 10, 0.75, 2, 7, 1));
+
+		// when & then
+		mockMvc.perform(get("/api/v1/caches/holiday-query/stats"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.success").value(true))
+				.andExpect(jsonPath("$.data.hitRate").value(0.75))
+				.andExpect(jsonPath("$.data.evictionCount").value(2));
+	}
+}
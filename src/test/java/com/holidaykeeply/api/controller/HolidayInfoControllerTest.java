@@ -1,13 +1,17 @@
 package com.holidaykeeply.api.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.BDDMockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,23 +19,45 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.holidaykeeply.api.dto.BusinessDayDto;
+import com.holidaykeeply.api.dto.HolidayCheckDto;
+import com.holidaykeeply.api.dto.HolidayCursorDto;
+import com.holidaykeeply.api.dto.HolidayExportDto;
+import com.holidaykeeply.api.dto.HolidayFieldsDto;
+import com.holidaykeeply.api.dto.HolidayIcsDto;
 import com.holidaykeeply.api.dto.HolidayInfoDto;
+import com.holidaykeeply.api.dto.HolidayLookupDto;
+import com.holidaykeeply.api.dto.HolidayNameDto;
+import com.holidaykeeply.api.dto.HolidayYearDto;
 import com.holidaykeeply.api.dto.SearchCondition;
 import com.holidaykeeply.api.service.HolidayInfoService;
+import com.holidaykeeply.domain.event.HolidayChangedEvent;
+import com.holidaykeeply.domain.event.HolidayDataVersion;
+import com.holidaykeeply.domain.entity.Country;
 import com.holidaykeeply.domain.infrastructure.repository.CountryRepository;
+import com.holidaykeeply.fixture.FixtureMonkeyUtils;
+import com.holidaykeeply.global.error.ErrorCode;
+import com.holidaykeeply.global.error.exception.BusinessException;
 
 import reactor.core.publisher.Mono;
 
 @WebMvcTest(HolidayInfoController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import(HolidayDataVersion.class)
 class HolidayInfoControllerTest {
 
 	@MockitoBean
@@ -46,10 +72,22 @@ class HolidayInfoControllerTest {
 	@MockitoBean
 	private CountryRepository countryRepository;
 
+	@Autowired
+	private HolidayDataVersion holidayDataVersion;
+
 	@BeforeEach
 	void setup() {
 		when(countryRepository.existsByName(anyString())).thenReturn(true);
 		when(countryRepository.existsByCountryCode("KR")).thenReturn(true);
+		when(countryRepository.findAllByCountryCodeInOrNameIn(anyCollection(), anyCollection()))
+				.thenReturn(List.of(country("KR", "South Korea"), country("DE", "Germany")));
+	}
+
+	private Country country(final String countryCode, final String name) {
+		return FixtureMonkeyUtils.getDefault().giveMeBuilder(Country.class)
+				.set("countryCode", countryCode)
+				.set("name", name)
+				.sample();
 	}
 
 	@Test
@@ -78,6 +116,517 @@ class HolidayInfoControllerTest {
 				.andExpect(jsonPath("$.data.content[0].country").value("Germany"));
 	}
 
+	@Test
+	@DisplayName("조회 응답에 데이터셋 버전 ETag 를 붙이고, 같은 ETag 로 요청하면 검증과 조회 없이 304 를 반환한다.")
+	void getHolidays_NotModified() throws Exception {
+		// given
+		String eTag = "\"" + holidayDataVersion.current() + "\"";
+
+		// when & then
+		mockMvc.perform(get("/api/v1/holidays")
+				.param("startDate", "2025-01-01")
+				.param("endDate", "2025-12-31")
+				.param("countryName", "Germany")
+				.header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+		verify(holidayInfoService, never()).getHolidays(any(), any());
+		verify(countryRepository, never()).existsByName(anyString());
+	}
+
+	@Test
+	@DisplayName("Accept: application/cbor 이면 CBOR 로 응답하고, ETag 에 표현 형식을 붙인다.")
+	void getHolidays_Cbor() throws Exception {
+		// given
+		HolidayInfoDto.Response response = new HolidayInfoDto.Response(
+				1L, "독일 통일의 날", "German Unity Day", "Germany",
+				true, false, "1990", LocalDate.of(2025, 10, 3));
+		given(holidayInfoService.getHolidays(any(SearchCondition.class), any(Pageable.class)))
+				.willReturn(new PageImpl<>(List.of(response), PageRequest.of(0, 3), 1));
+
+		// when
+		MvcResult result = mockMvc.perform(get("/api/v1/holidays")
+				.param("startDate", "2025-01-01")
+				.param("endDate", "2025-12-31")
+				.param("countryName", "Germany")
+				.accept(MediaType.APPLICATION_CBOR))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+				.andExpect(header().string(HttpHeaders.ETAG, "\"" + holidayDataVersion.current() + "-cbor\""))
+				.andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+				.andReturn();
+
+		// then
+		JsonNode body = new CBORMapper().readTree(result.getResponse().getContentAsByteArray());
+		assertThat(body.at("/data/content/0/name").asText()).isEqualTo("German Unity Day");
+		assertThat(body.at("/data/content/0/localDate").asText()).isEqualTo("2025-10-03");
+	}
+
+	@Test
+	@DisplayName("데이터가 변경되면 이전 ETag 로 요청해도 새로 조회한다.")
+	void getHolidays_ModifiedAfterChange() throws Exception {
+		// given
+		String oldETag = "\"" + holidayDataVersion.current() + "\"";
+		holidayDataVersion.onHolidayChanged(new HolidayChangedEvent("DE", "Germany"));
+		given(holidayInfoService.getHolidays(any(SearchCondition.class), any(Pageable.class)))
+				.willReturn(new PageImpl<>(List.of(), PageRequest.of(0, 3), 0));
+
+		// when & then
+		mockMvc.perform(get("/api/v1/holidays")
+				.param("startDate", "2025-01-01")
+				.param("endDate", "2025-12-31")
+				.param("countryName", "Germany")
+				.header(HttpHeaders.IF_NONE_MATCH, oldETag))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, "\"" + holidayDataVersion.current() + "\""));
+	}
+
+	@Test
+	@DisplayName("초 단위인 If-Modified-Since 로는 304 를 보내지 않고 Last-Modified 도 붙이지 않는다.")
+	void getHolidays_IgnoresIfModifiedSince() throws Exception {
+		// given
+		holidayDataVersion.onHolidayChanged(new HolidayChangedEvent("DE", "Germany"));
+		given(holidayInfoService.getHolidays(any(SearchCondition.class), any(Pageable.class)))
+				.willReturn(new PageImpl<>(List.of(), PageRequest.of(0, 3), 0));
+
+		// when & then
+		mockMvc.perform(get("/api/v1/holidays")
+				.param("startDate", "2025-01-01")
+				.param("endDate", "2025-12-31")
+				.param("countryName", "Germany")
+				.header(HttpHeaders.IF_MODIFIED_SINCE, holidayDataVersion.current() + 60_000))
+				.andExpect(status().isOk())
+				.andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED));
+	}
+
+	@Test
+	@DisplayName("R2DBC 경로로 조회한 결과를 비동기로 응답한다.")
+	void getHolidaysReactive() throws Exception {
+		// given
+		HolidayInfoDto.Response response = new HolidayInfoDto.Response(
+				1L, "독일 통일의 날", "German Unity Day", "Germany",
+				true, false, "1990", LocalDate.of(2025, 10, 3));
+		given(holidayInfoService.getHolidaysReactive(any(SearchCondition.class), any(Pageable.class)))
+				.willReturn(Mono.just(new PageImpl<>(List.of(response), PageRequest.of(0, 3), 1)));
+
+		// when
+		MvcResult result = mockMvc.perform(get("/api/v1/holidays/reactive")
+				.param("startDate", "2025-01-01")
+				.param("endDate", "2025-12-31")
+				.param("countryName", "Germany"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		// then
+		mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.success").value(true))
+				.andExpect(jsonPath("$.data.content[0].name").value("German Unity Day"));
+	}
+
+	@Test
+	@DisplayName("기준일 다음 공휴일을 조회하고, 없으면 404 를 반환한다.")
+	void getNextHoliday() throws Exception {
+		// given
+		given(holidayInfoService.getNextHoliday(new HolidayLookupDto.Request("DE", LocalDate.of(2025, 6, 1))))
+				.willReturn(new HolidayInfoDto.Response(
+						4L, "Tag der Deutschen Einheit", "German Unity Day", "Germany",
+						true, true, null, LocalDate.of(2025, 10, 3)));
+		given(holidayInfoService.getNextHoliday(new HolidayLookupDto.Request("DE", LocalDate.of(2025, 12, 31))))
+				.willThrow(new BusinessException(ErrorCode.HOLIDAY_NOT_FOUND));
+
+		// when & then
+		mockMvc.perform(get("/api/v1/holidays/next")
+				.param("countryCode", "DE")
+				.param("date", "2025-06-01"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.localDate").value("2025-10-03"));
+
+		mockMvc.perform(get("/api/v1/holidays/next")
+				.param("countryCode", "DE")
+				.param("date", "2025-12-31"))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	@DisplayName("fields 를 주면 선택한 필드만 담은 응답을 반환하고, 알 수 없는 필드는 400 을 반환한다.")
+	void getHolidayFields() throws Exception {
+		// given
+		given(holidayInfoService.getHolidayFields(any(SearchCondition.class), any(HolidayFieldsDto.Request.class), any(Pageable.class)))
+				.willReturn(new HolidayFieldsDto.Response(
+						List.of(Map.of("localDate", LocalDate.of(2025, 10, 3), "localName", "개천절")), 0, 3, 1, false));
+
+		// when & then
+		mockMvc.perform(get("/api/v1/holidays")
+				.param("startDate", "2025-01-01")
+				.param("endDate", "2025-12-31")
+				.param("countryName", "대한민국")
+				.param("fields", "localDate,localName"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.content[0].localName").value("개천절"))
+				.andExpect(jsonPath("$.data.content[0].name").doesNotExist())
+				.andExpect(jsonPath("$.data.totalElements").value(1))
+				.andExpect(jsonPath("$.data.pageable").doesNotExist());
+
+		mockMvc.perform(get("/api/v1/holidays")
+				.param("startDate", "2025-01-01")
+				.param("endDate", "2025-12-31")
+				.param("countryName", "대한민국")
+				.param("fields", "localDate,unknown"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	@DisplayName("공휴일 이름 자동완성은 limit 기본값 10 으로 조회하고, 검색어가 없으면 400 을 반환한다.")
+	void suggestHolidayNames() throws Exception {
+		// given
+		given(holidayInfoService.suggestHolidayNames(new HolidayNameDto.Request("추석", 10)))
+				.willReturn(new HolidayNameDto.Response(List.of(new HolidayNameDto.Suggestion("KR", "Chuseok", "추석"))));
+
+		// when & then
+		mockMvc.perform(get("/api/v1/holidays/names")
+				.param("q", "추석"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.suggestions[0].countryCode").value("KR"))
+				.andExpect(jsonPath("$.data.suggestions[0].localName").value("추석"));
+
+		mockMvc.perform(get("/api/v1/holidays/names"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	@DisplayName("다가오는 공휴일 건수는 1 ~ 100 이다.")
+	void getUpcomingHolidays_InvalidCount() throws Exception {
+		// when & then
+		mockMvc.perform(get("/api/v1/holidays/upcoming")
+				.param("countryCode", "DE")
+				.param("date", "2025-06-01")
+				.param("count", "101"))
+				.andExpect(status().isBadRequest());
+
+		verify(holidayInfoService, never()).getUpcomingHolidays(any());
+	}
+
+	@Test
+	@DisplayName("ICS 피드는 gzip 을 받는 클라이언트에 압축 본문을 그대로 보낸다.")
+	void getHolidayCalendar() throws Exception {
+		// given
+		HolidayIcsDto.Request request = new HolidayIcsDto.Request("DE", 2025, 2026);
+		given(holidayInfoService.getHolidayCalendar(request, true)).willReturn(new byte[] {31, -117});
+		given(holidayInfoService.getHolidayCalendar(request, false))
+				.willReturn("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n".getBytes());
+
+		// when & then
+		mockMvc.perform(get("/api/v1/holidays/DE/calendar.ics")
+				.param("fromYear", "2025")
+				.param("toYear", "2026")
+				.header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+				.andExpect(header().string(HttpHeaders.ETAG, "\"" + holidayDataVersion.current() + "-gzip\""))
+				.andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+				.andExpect(content().contentTypeCompatibleWith("text/calendar"));
+
+		mockMvc.perform(get("/api/v1/holidays/DE/calendar.ics")
+				.param("fromYear", "2025")
+				.param("toYear", "2026"))
+				.andExpect(status().isOk())
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+				.andExpect(header().string(HttpHeaders.ETAG, "\"" + holidayDataVersion.current() + "\""))
+				.andExpect(content().string("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n"));
+	}
+
+	@Test
+	@DisplayName("Accept-Encoding 의 q 값을 반영해 gzip;q=0 이면 압축하지 않고, gzip ETag 로는 비압축 본문에 304 를 주지 않는다.")
+	void getHolidayCalendar_GzipRejected() throws Exception {
+		// given
+		HolidayIcsDto.Request request = new HolidayIcsDto.Request("DE", 2025, 2026);
+		given(holidayInfoService.getHolidayCalendar(request, false))
+				.willReturn("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n".getBytes());
+
+		// when & then
+		mockMvc.perform(get("/api/v1/holidays/DE/calendar.ics")
+				.param("fromYear", "2025")
+				.param("toYear", "2026")
+				.header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, *;q=0.5")
+				.header(HttpHeaders.IF_NONE_MATCH, "\"" + holidayDataVersion.current() + "-gzip\""))
+				.andExpect(status().isOk())
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+				.andExpect(header().string(HttpHeaders.ETAG, "\"" + holidayDataVersion.current() + "\""));
+	}
+
+	@Test
+	@DisplayName("cursor 파라미터가 있으면 키셋 페이징으로 조회한다.")
+	void getHolidaysByCursor() throws Exception {
+		// given
+		HolidayInfoDto.Response response = new HolidayInfoDto.Response(
+				1L, "독일 통일의 날", "German Unity Day", "Germany",
+				true, false, "1990", LocalDate.of(2025, 10, 3));
+		HolidayCursorDto.Response cursorPage = new HolidayCursorDto.Response(
+				List.of(response), 1, true, "next-token");
+
+		given(holidayInfoService.getHolidaysByCursor(any(SearchCondition.class), any(HolidayCursorDto.Request.class)))
+				.willReturn(cursorPage);
+
+		// when & then
+		mockMvc.perform(get("/api/v1/holidays")
+				.param("startDate", "2025-01-01")
+				.param("endDate", "2025-12-31")
+				.param("countryName", "Germany")
+				.param("cursor", "")
+				.param("size", "1"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.success").value(true))
+				.andExpect(jsonPath("$.data.content[0].country").value("Germany"))
+				.andExpect(jsonPath("$.data.nextCursor").value("next-token"));
+	}
+
+	@Test
+	@DisplayName("여러 국가의 공휴일을 하나의 페이지로 조회한다.")
+	void getHolidaysByCountries() throws Exception {
+		// given
+		HolidayInfoDto.Response response = new HolidayInfoDto.Response(
+				1L, "독일 통일의 날", "German Unity Day", "Germany",
+				true, false, "1990", LocalDate.of(2025, 10, 3));
+		Page<HolidayInfoDto.Response> page = new PageImpl<>(List.of(response), PageRequest.of(0, 3), 1);
+
+		given(holidayInfoService.getHolidays(any(SearchCondition.class), any(Pageable.class)))
+				.willReturn(page);
+
+		// when & then
+		mockMvc.perform(get("/api/v1/holidays")
+				.param("startDate", "2025-01-01")
+				.param("endDate", "2025-12-31")
+				.param("countries", "KR,Germany"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.success").value(true))
+				.andExpect(jsonPath("$.data.content[0].country").value("Germany"));
+
+		verify(holidayInfoService).getHolidays(
+				argThat(condition -> condition.countries().equals(List.of("KR", "Germany"))
+						&& condition.countryName() == null),
+				any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("여러 국가 조회에 존재하지 않는 국가가 있으면 400 을 반환한다.")
+	void getHolidaysByCountries_UnknownCountry() throws Exception {
+		// when & then (Atlantis 는 조회 결과에 없다)
+		mockMvc.perform(get("/api/v1/holidays")
+				.param("startDate", "2025-01-01")
+				.param("endDate", "2025-12-31")
+				.param("countries", "KR", "Atlantis"))
+				.andExpect(status().isBadRequest());
+
+		verify(holidayInfoService, never()).getHolidays(any(), any());
+	}
+
+	@Test
+	@DisplayName("잘못된 커서로 조회하면 400 을 반환한다.")
+	void getHolidaysByCursor_InvalidCursor() throws Exception {
+		// given
+		given(holidayInfoService.getHolidaysByCursor(any(SearchCondition.class), any(HolidayCursorDto.Request.class)))
+				.willThrow(new BusinessException(ErrorCode.INVALID_CURSOR));
+
+		// when & then
+		mockMvc.perform(get("/api/v1/holidays")
+				.param("startDate", "2025-01-01")
+				.param("endDate", "2025-12-31")
+				.param("countryName", "Germany")
+				.param("cursor", "not-a-cursor"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.success").value(false));
+	}
+
+	@Test
+	@DisplayName("국가·연도별 전체 공휴일은 미리 직렬화된 JSON 을 그대로 응답한다.")
+	void getHolidaysOfYear() throws Exception {
+		// given
+		byte[] json = "{\"success\":true,\"data\":[],\"error\":null}".getBytes();
+		given(holidayInfoService.getHolidaysOfYear(any(HolidayYearDto.Request.class))).willReturn(json);
+
+		// when & then
+		mockMvc.perform(get("/api/v1/holidays/{countryCode}/{year}", "KR", 2025))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(MediaType.APPLICATION_JSON))
+				.andExpect(content().bytes(json));
+
+		verify(holidayInfoService).getHolidaysOfYear(new HolidayYearDto.Request("KR", 2025));
+	}
+
+	@Test
+	@DisplayName("국가·연도별 전체 공휴일은 JSON 만 응답하므로 CBOR 만 받는 요청은 406, JSON 도 받으면 표현 형식 없는 ETag 로 응답한다.")
+	void getHolidaysOfYear_JsonOnly() throws Exception {
+		// given
+		byte[] json = "{\"success\":true,\"data\":[],\"error\":null}".getBytes();
+		given(holidayInfoService.getHolidaysOfYear(any(HolidayYearDto.Request.class))).willReturn(json);
+
+		// when & then
+		mockMvc.perform(get("/api/v1/holidays/{countryCode}/{year}", "KR", 2025)
+				.accept(MediaType.APPLICATION_CBOR))
+				.andExpect(status().isNotAcceptable())
+				.andExpect(header().doesNotExist(HttpHeaders.ETAG));
+
+		mockMvc.perform(get("/api/v1/holidays/{countryCode}/{year}", "KR", 2025)
+				.header(HttpHeaders.ACCEPT, "application/cbor, application/json;q=0.5"))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(MediaType.APPLICATION_JSON))
+				.andExpect(header().string(HttpHeaders.ETAG, "\"" + holidayDataVersion.current() + "\""));
+	}
+
+	@Test
+	@DisplayName("국가 코드와 날짜로 공휴일 여부를 확인한다.")
+	void checkHoliday() throws Exception {
+		// given
+		given(holidayInfoService.checkHoliday(any(HolidayCheckDto.Request.class)))
+				.willReturn(new HolidayCheckDto.Response("KR", LocalDate.of(2025, 3, 1), true));
+
+		// when & then
+		mockMvc.perform(get("/api/v1/holidays/check")
+				.param("countryCode", "KR")
+				.param("date", "2025-03-01"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.success").value(true))
+				.andExpect(jsonPath("$.data.holiday").value(true));
+
+		verify(countryRepository, never()).existsByCountryCode(anyString());
+	}
+
+	@Test
+	@DisplayName("(국가 코드, 날짜) 쌍 배열의 공휴일 여부를 한 번에 확인한다.")
+	void checkHolidays() throws Exception {
+		// given
+		given(holidayInfoService.checkHolidays(any(HolidayCheckDto.BatchRequest.class)))
+				.willReturn(HolidayCheckDto.BatchResponse.of(new long[] {7L, 0L}));
+
+		String body = objectMapper.writeValueAsString(Map.of(
+				"countryCodes", List.of("KR", "KR"),
+				"dates", List.of("2025-03-01", "2025-03-02")));
+
+		// when & then
+		mockMvc.perform(post("/api/v1/holidays/check")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(body))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.size").value(2))
+				.andExpect(jsonPath("$.data.holidays[0]").value(true))
+				.andExpect(jsonPath("$.data.holidays[1]").value(false))
+				.andExpect(jsonPath("$.data.holidayIds[0]").value(7));
+	}
+
+	@Test
+	@DisplayName("국가 코드와 날짜 배열의 길이가 다르면 400 을 반환한다.")
+	void checkHolidays_LengthMismatch() throws Exception {
+		// given
+		String body = objectMapper.writeValueAsString(Map.of(
+				"countryCodes", List.of("KR", "KR"),
+				"dates", List.of("2025-03-01")));
+
+		// when & then
+		mockMvc.perform(post("/api/v1/holidays/check")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(body))
+				.andExpect(status().isBadRequest());
+
+		verify(holidayInfoService, never()).checkHolidays(any());
+	}
+
+	@Test
+	@DisplayName("공휴일 전체를 CSV 로 스트리밍한다.")
+	void exportHolidays() throws Exception {
+		// given
+		willAnswer(invocation -> {
+			invocation.getArgument(1, OutputStream.class).write("id,name\r\n1,New Year's Day\r\n".getBytes());
+			return null;
+		}).given(holidayInfoService).exportHolidays(any(HolidayExportDto.Request.class), any(OutputStream.class));
+
+		// when & then
+		mockMvc.perform(get("/api/v1/holidays/export")
+				.param("countryCode", "KR")
+				.param("format", "CSV"))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith("text/csv"))
+				.andExpect(header().string("Content-Disposition", "attachment; filename=\"holidays.csv\""))
+				.andExpect(content().string("id,name\r\n1,New Year's Day\r\n"));
+
+		verify(holidayInfoService).exportHolidays(
+				argThat(request -> request.format() == HolidayExportDto.Format.CSV && request.startDate() == null),
+				any(OutputStream.class));
+	}
+
+	@Test
+	@DisplayName("내보내기 ETag 는 핸들러가 정한 형식을 붙이므로 CSV ETag 로 NDJSON 을 요청하면 304 가 아닌 본문을 받는다.")
+	void exportHolidays_ETagPerFormat() throws Exception {
+		// given
+		String csvETag = "\"" + holidayDataVersion.current() + "-csv\"";
+		String ndjsonETag = "\"" + holidayDataVersion.current() + "-ndjson\"";
+
+		// when & then
+		mockMvc.perform(get("/api/v1/holidays/export")
+				.accept("text/csv"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, csvETag));
+
+		mockMvc.perform(get("/api/v1/holidays/export")
+				.accept("application/x-ndjson")
+				.header(HttpHeaders.IF_NONE_MATCH, csvETag))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, ndjsonETag));
+
+		mockMvc.perform(get("/api/v1/holidays/export")
+				.accept("application/x-ndjson")
+				.header(HttpHeaders.IF_NONE_MATCH, ndjsonETag))
+				.andExpect(status().isNotModified());
+
+		verify(holidayInfoService, times(2)).exportHolidays(any(HolidayExportDto.Request.class), any(OutputStream.class));
+	}
+
+	@Test
+	@DisplayName("기준 날짜로부터 N 영업일 뒤의 날짜를 계산한다.")
+	void addBusinessDays() throws Exception {
+		// given
+		given(holidayInfoService.addBusinessDays(any(BusinessDayDto.AddRequest.class)))
+				.willReturn(new BusinessDayDto.AddResponse("KR", LocalDate.of(2025, 2, 28), 1, LocalDate.of(2025, 3, 4)));
+
+		// when & then
+		mockMvc.perform(get("/api/v1/holidays/business-days/add")
+				.param("countryCode", "KR")
+				.param("date", "2025-02-28")
+				.param("days", "1"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.success").value(true))
+				.andExpect(jsonPath("$.data.result").value("2025-03-04"));
+	}
+
+	@Test
+	@DisplayName("기간 내 영업일 수를 계산하고, 시작일이 종료일보다 늦으면 400 을 반환한다.")
+	void countBusinessDays() throws Exception {
+		// given
+		given(holidayInfoService.countBusinessDays(any(BusinessDayDto.CountRequest.class)))
+				.willReturn(new BusinessDayDto.CountResponse("KR", LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31), 20));
+
+		// when & then
+		mockMvc.perform(get("/api/v1/holidays/business-days/count")
+				.param("countryCode", "KR")
+				.param("startDate", "2025-03-01")
+				.param("endDate", "2025-03-31"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.businessDays").value(20));
+
+		mockMvc.perform(get("/api/v1/holidays/business-days/count")
+				.param("countryCode", "KR")
+				.param("startDate", "2025-03-31")
+				.param("endDate", "2025-03-01"))
+				.andExpect(status().isBadRequest());
+
+		mockMvc.perform(get("/api/v1/holidays/business-days/count")
+				.param("countryCode", "KR")
+				.param("startDate", "0001-01-01")
+				.param("endDate", "9999-12-31"))
+				.andExpect(status().isBadRequest());
+	}
+
 	@Test
 	@DisplayName("연도와 국가명을 기반으로 공휴일을 삭제한다.")
 	void deleteHolidays() throws Exception {
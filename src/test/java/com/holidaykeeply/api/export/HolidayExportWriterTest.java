@@ -0,0 +1,90 @@
+package com.holidaykeeply.api.export;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.holidaykeeply.api.dto.HolidayExportDto;
+import com.holidaykeeply.api.dto.HolidayInfoDto;
+
+class HolidayExportWriterTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+	private final HolidayInfoDto.Response newYear = new HolidayInfoDto.Response(
+		1L, "신정", "New Year's Day", "South Korea", true, true, null, LocalDate.of(2025, 1, 1));
+
+	private final HolidayInfoDto.Response quoted = new HolidayInfoDto.Response(
+		2L, "부처님 오신 날", "Buddha's Birthday, \"Seokga\"", "South Korea", false, true, "1975", LocalDate.of(2025, 5, 5));
+
+	private String export(final HolidayExportDto.Format format) throws IOException {
+		return new String(exportBytes(format), StandardCharsets.UTF_8);
+	}
+
+	private byte[] exportBytes(final HolidayExportDto.Format format) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (HolidayExportWriter writer = HolidayExportWriter.of(format, out, objectMapper)) {
+			writer.write(newYear);
+			writer.write(quoted);
+		}
+		return out.toByteArray();
+	}
+
+	private List<JsonNode> readAll(final ObjectMapper mapper, final byte[] bytes) throws IOException {
+		return mapper.readerFor(JsonNode.class).<JsonNode>readValues(bytes).readAll();
+	}
+
+	@Test
+	@DisplayName("NDJSON 은 한 줄에 한 행씩 JSON 객체로 쓴다.")
+	void ndjson() throws IOException {
+		// when
+		String[] lines = export(HolidayExportDto.Format.NDJSON).split("\n");
+
+		// then
+		assertThat(lines).hasSize(2);
+		JsonNode first = objectMapper.readTree(lines[0]);
+		assertThat(first.get("id").asLong()).isEqualTo(1L);
+		assertThat(first.get("localName").asText()).isEqualTo("신정");
+		assertThat(objectMapper.readTree(lines[1]).get("name").asText()).isEqualTo("Buddha's Birthday, \"Seokga\"");
+	}
+
+	@Test
+	@DisplayName("CSV 는 헤더 다음에 행을 쓰고, 쉼표나 큰따옴표가 있는 값만 감싼다.")
+	void csv() throws IOException {
+		// when
+		String[] lines = export(HolidayExportDto.Format.CSV).split("\r\n");
+
+		// then
+		assertThat(lines).containsExactly(
+			"id,localName,name,country,fixed,global,launchYear,localDate",
+			"1,신정,New Year's Day,South Korea,true,true,,2025-01-01",
+			"2,부처님 오신 날,\"Buddha's Birthday, \"\"Seokga\"\"\",South Korea,false,true,1975,2025-05-05");
+	}
+
+	@Test
+	@DisplayName("CBOR 와 Smile 은 행마다 루트 값을 하나씩 이어 쓰고, JSON 과 같은 필드로 읽힌다.")
+	void binary() throws IOException {
+		// when
+		List<JsonNode> cbor = readAll(new CBORMapper(), exportBytes(HolidayExportDto.Format.CBOR));
+		List<JsonNode> smile = readAll(new SmileMapper(), exportBytes(HolidayExportDto.Format.SMILE));
+
+		// then
+		assertThat(cbor).hasSize(2);
+		assertThat(cbor.get(0).get("localName").asText()).isEqualTo("신정");
+		assertThat(cbor.get(1).get("name").asText()).isEqualTo("Buddha's Birthday, \"Seokga\"");
+		assertThat(smile).hasSize(2);
+		assertThat(smile.get(1).get("launchYear").asText()).isEqualTo("1975");
+	}
+}
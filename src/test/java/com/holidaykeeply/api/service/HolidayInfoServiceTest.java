@@ -28,10 +28,13 @@ import com.holidaykeeply.domain.entity.Holiday;
 import com.holidaykeeply.domain.infrastructure.web.HolidayWebClient;
 import com.holidaykeeply.domain.service.CountryService;
 import com.holidaykeeply.domain.service.HolidayService;
+import com.holidaykeeply.domain.service.LongWeekendService;
 import com.holidaykeeply.fixture.FixtureMonkeyUtils;
 
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import com.navercorp.fixturemonkey.FixtureMonkey;
 
@@ -52,6 +55,12 @@ class HolidayInfoServiceTest {
 	@Mock
 	private HolidayWebClient holidayWebClient;
 
+	@Mock
+	private LongWeekendService longWeekendService;
+
+	@Spy
+	private Scheduler blockingScheduler = Schedulers.immediate();
+
 	@Test
 	@DisplayName("다중검색을 기반으로 공휴일을 페이징 기반으로 조회한다.")
 	void getPageOfHolidays_Success() {
@@ -135,6 +144,24 @@ class HolidayInfoServiceTest {
 		verify(holidayInfoService, times(12)).upsertHoliday(any(LocalDate.class), anyString());
 	}
 
+	@Test
+	@DisplayName("syncHolidaysForYears: 국가/연도별로 동기화한 뒤 연휴를 미리 계산한다")
+	void syncHolidaysForYears_PrecomputeLongWeekends() {
+		// given
+		FixtureMonkey fixtureMonkey = FixtureMonkeyUtils.getDefault();
+		Country country = fixtureMonkey.giveMeBuilder(Country.class)
+			.set("countryCode", "DE")
+			.sample();
+		doReturn(Mono.empty()).when(holidayInfoService).upsertHoliday(any(LocalDate.class), anyString());
+
+		// when
+		holidayInfoService.syncHolidaysForYears(List.of(country), List.of(2025, 2026)).block();
+
+		// then
+		verify(longWeekendService).precompute("DE", 2025);
+		verify(longWeekendService).precompute("DE", 2026);
+	}
+
 	@Test
 	@DisplayName("upsertHoliday: 외부 API에서 Holiday를 받아와 저장한다")
 	void upsertHoliday_Success() {
@@ -0,0 +1,93 @@
+package com.holidaykeeply.domain.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.holidaykeeply.api.dto.SearchCondition;
+import com.holidaykeeply.domain.event.HolidayDataVersion;
+
+@ExtendWith(MockitoExtension.class)
+class HolidayCountCacheTest {
+
+	@Mock
+	private HolidayDataVersion dataVersion;
+
+	@InjectMocks
+	private HolidayCountCache holidayCountCache;
+
+	private final SearchCondition condition = SearchCondition.builder()
+		.startDate(LocalDate.of(2025, 1, 1))
+		.endDate(LocalDate.of(2025, 12, 31))
+		.countryName("Germany")
+		.build();
+
+	@Test
+	@DisplayName("같은 버전에서는 count 를 한 번만 계산한다.")
+	void get_CachedWithinVersion() {
+		// given
+		given(dataVersion.current()).willReturn(1L);
+		AtomicInteger calls = new AtomicInteger();
+
+		// when
+		long first = holidayCountCache.get(condition, () -> calls.incrementAndGet() * 10L);
+		long second = holidayCountCache.get(condition, () -> calls.incrementAndGet() * 10L);
+
+		// then
+		assertThat(first).isEqualTo(10L);
+		assertThat(second).isEqualTo(10L);
+		assertThat(calls).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("데이터셋 버전이 바뀌면 count 를 다시 계산한다.")
+	void get_RecountAfterVersionChange() {
+		// given
+		given(dataVersion.current()).willReturn(1L, 2L);
+		AtomicInteger calls = new AtomicInteger();
+
+		// when
+		holidayCountCache.get(condition, () -> calls.incrementAndGet() * 10L);
+		long afterChange = holidayCountCache.get(condition, () -> calls.incrementAndGet() * 10L);
+
+		// then
+		assertThat(afterChange).isEqualTo(20L);
+		assertThat(calls).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("국가 목록은 순서, 중복, 대소문자와 관계없이 같은 키로 본다.")
+	void get_NormalizeCountries() {
+		// given
+		given(dataVersion.current()).willReturn(1L);
+		AtomicInteger calls = new AtomicInteger();
+
+		// when
+		long first = holidayCountCache.get(countries("KR", "US"), () -> calls.incrementAndGet() * 10L);
+		long reordered = holidayCountCache.get(countries("US", "KR", "US"), () -> calls.incrementAndGet() * 10L);
+		long lowerCase = holidayCountCache.get(countries("kr", "US"), () -> calls.incrementAndGet() * 10L);
+
+		// then
+		assertThat(List.of(first, reordered, lowerCase)).containsOnly(10L);
+		assertThat(calls).hasValue(1);
+		assertThat(holidayCountCache.estimatedSize()).isEqualTo(1);
+	}
+
+	private SearchCondition countries(final String... countries) {
+		return SearchCondition.builder()
+			.startDate(LocalDate.of(2025, 1, 1))
+			.endDate(LocalDate.of(2025, 12, 31))
+			.countries(List.of(countries))
+			.build();
+	}
+}
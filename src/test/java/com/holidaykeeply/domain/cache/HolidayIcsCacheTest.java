@@ -0,0 +1,121 @@
+package com.holidaykeeply.domain.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.holidaykeeply.domain.entity.Holiday;
+import com.holidaykeeply.domain.event.HolidayChangedEvent;
+import com.holidaykeeply.domain.event.HolidayDataVersion;
+import com.holidaykeeply.domain.index.CountryHolidayIndex;
+import com.holidaykeeply.domain.index.HolidayIndex;
+
+@ExtendWith(MockitoExtension.class)
+class HolidayIcsCacheTest {
+
+	@Mock
+	private HolidayIndex holidayIndex;
+
+	private final HolidayDataVersion holidayDataVersion = new HolidayDataVersion();
+
+	private HolidayIcsCache holidayIcsCache;
+
+	@BeforeEach
+	void setUp() {
+		holidayIcsCache = new HolidayIcsCache(holidayIndex, holidayDataVersion);
+		given(holidayIndex.isLoaded()).willReturn(true);
+	}
+
+	private void givenGermany() {
+		given(holidayIndex.countryByCode("DE")).willReturn(CountryHolidayIndex.of("DE", "Germany", List.of(
+			holiday(1L, LocalDate.of(2024, 12, 25), "Christmas Day", "Weihnachten"),
+			holiday(2L, LocalDate.of(2025, 10, 3), "German Unity Day", "Tag der Deutschen Einheit, Einheitstag"))));
+	}
+
+	private Holiday holiday(final long id, final LocalDate date, final String name, final String localName) {
+		return Holiday.builder()
+			.id(id)
+			.name(name)
+			.localName(localName)
+			.date(date)
+			.build();
+	}
+
+	private String ics(final byte[] identity) {
+		return new String(identity, StandardCharsets.UTF_8);
+	}
+
+	private byte[] gunzip(final byte[] gzip) throws IOException {
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+			return in.readAllBytes();
+		}
+	}
+
+	@Test
+	@DisplayName("연도 범위의 공휴일을 하루 종일 일정(VEVENT)으로 렌더링한다.")
+	void get_RenderCalendar() {
+		// given
+		givenGermany();
+
+		// when
+		String all = ics(holidayIcsCache.get("DE", null, null, false));
+		String year2025 = ics(holidayIcsCache.get("DE", 2025, 2025, false));
+
+		// then
+		assertThat(all).startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n").endsWith("END:VCALENDAR\r\n");
+		assertThat(all).contains("UID:holiday-1@holidaykeeply", "UID:holiday-2@holidaykeeply");
+		assertThat(year2025).doesNotContain("UID:holiday-1@holidaykeeply")
+			.contains("DTSTART;VALUE=DATE:20251003\r\n", "DTEND;VALUE=DATE:20251004\r\n",
+				"SUMMARY:German Unity Day\r\n", "DESCRIPTION:Tag der Deutschen Einheit\\, Einheitstag\r\n");
+	}
+
+	@Test
+	@DisplayName("75 octet 을 넘는 줄은 공백으로 시작하는 다음 줄로 접는다.")
+	void get_FoldLongLines() {
+		// given
+		given(holidayIndex.countryByCode("KR")).willReturn(CountryHolidayIndex.of("KR", "South Korea", List.of(
+			holiday(3L, LocalDate.of(2025, 10, 6), "Chuseok", "추석 연휴 추석 연휴 추석 연휴 추석 연휴 추석 연휴 추석 연휴"))));
+
+		// when
+		String ics = ics(holidayIcsCache.get("KR", 2025, 2025, false));
+
+		// then
+		assertThat(ics.split("\r\n")).allSatisfy(line ->
+			assertThat(line.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75));
+		assertThat(ics.replace("\r\n ", "")).contains("DESCRIPTION:추석 연휴 추석 연휴 추석 연휴 추석 연휴 추석 연휴 추석 연휴\r\n");
+	}
+
+	@Test
+	@DisplayName("같은 데이터셋 버전에서는 한 번 만든 원본/압축 본문을 재사용하고, 버전이 바뀌면 다시 만든다.")
+	void get_RenderedOncePerVersion() throws IOException {
+		// given
+		givenGermany();
+
+		// when
+		byte[] first = holidayIcsCache.get("DE", null, null, true);
+		byte[] second = holidayIcsCache.get("DE", null, null, true);
+		byte[] identity = holidayIcsCache.get("DE", null, null, false);
+		byte[] identityAgain = holidayIcsCache.get("DE", null, null, false);
+		holidayDataVersion.onHolidayChanged(new HolidayChangedEvent("DE", "Germany"));
+		byte[] afterChange = holidayIcsCache.get("DE", null, null, true);
+
+		// then
+		assertThat(second).isSameAs(first);
+		assertThat(identityAgain).isSameAs(identity);
+		assertThat(gunzip(first)).isEqualTo(identity);
+		assertThat(afterChange).isNotSameAs(first);
+	}
+}
@@ -0,0 +1,114 @@
+package com.holidaykeeply.domain.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.holidaykeeply.domain.entity.Holiday;
+import com.holidaykeeply.domain.event.HolidayChangedEvent;
+import com.holidaykeeply.domain.index.CountryHolidayIndex;
+import com.holidaykeeply.domain.index.HolidayIndex;
+
+@ExtendWith(MockitoExtension.class)
+class HolidayJsonCacheTest {
+
+	@Mock
+	private HolidayIndex holidayIndex;
+
+	private final ObjectMapper objectMapper = new ObjectMapper()
+		.registerModule(new JavaTimeModule())
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+	private HolidayJsonCache holidayJsonCache;
+
+	@BeforeEach
+	void setUp() {
+		holidayJsonCache = new HolidayJsonCache(holidayIndex, objectMapper);
+	}
+
+	private CountryHolidayIndex germany(final Holiday... holidays) {
+		return CountryHolidayIndex.of("DE", "Germany", List.of(holidays));
+	}
+
+	private Holiday holiday(final long id, final LocalDate date, final String name) {
+		return Holiday.builder()
+			.id(id)
+			.name(name)
+			.localName(name)
+			.date(date)
+			.build();
+	}
+
+	@Test
+	@DisplayName("국가·연도의 전체 공휴일을 응답 형식 JSON 으로 한 번만 직렬화한다.")
+	void get_RenderedOnce() throws IOException {
+		// given
+		CountryHolidayIndex germany = germany(
+			holiday(2L, LocalDate.of(2025, 10, 3), "German Unity Day"),
+			holiday(1L, LocalDate.of(2025, 1, 1), "New Year's Day"),
+			holiday(3L, LocalDate.of(2024, 1, 1), "New Year's Day"));
+		given(holidayIndex.isLoaded()).willReturn(true);
+		given(holidayIndex.countryByCode("DE")).willReturn(germany);
+
+		// when
+		byte[] first = holidayJsonCache.get("DE", 2025);
+		byte[] second = holidayJsonCache.get("DE", 2025);
+
+		// then
+		assertThat(second).isSameAs(first);
+		JsonNode json = objectMapper.readTree(first);
+		assertThat(json.get("success").asBoolean()).isTrue();
+		assertThat(json.get("data")).hasSize(2);
+		assertThat(json.get("data").get(0).get("localDate").asText()).isEqualTo("2025-01-01");
+		assertThat(json.get("data").get(1).get("name").asText()).isEqualTo("German Unity Day");
+	}
+
+	@Test
+	@DisplayName("변경 이벤트가 발생하면 해당 국가의 모든 연도를 새 인덱스로 다시 직렬화한다.")
+	void onHolidayChanged_Rerender() throws IOException {
+		// given
+		given(holidayIndex.isLoaded()).willReturn(true);
+		given(holidayIndex.countryCodes()).willReturn(Set.of("DE"));
+		given(holidayIndex.countryByCode("DE")).willReturn(
+			germany(holiday(1L, LocalDate.of(2025, 1, 1), "New Year's Day")),
+			germany(
+				holiday(1L, LocalDate.of(2025, 1, 1), "New Year's Day"),
+				holiday(5L, LocalDate.of(2025, 12, 26), "St. Stephen's Day")));
+		holidayJsonCache.warmUp();
+
+		// when
+		holidayJsonCache.onHolidayChanged(new HolidayChangedEvent("DE", "Germany"));
+		byte[] json = holidayJsonCache.get("DE", 2025);
+
+		// then
+		assertThat(objectMapper.readTree(json).get("data")).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("공휴일이 없는 연도는 빈 목록을 반환한다.")
+	void get_EmptyYear() throws IOException {
+		// given
+		given(holidayIndex.countryByCode("KR")).willReturn(CountryHolidayIndex.EMPTY);
+
+		// when
+		byte[] json = holidayJsonCache.get("KR", 2025);
+
+		// then
+		assertThat(objectMapper.readTree(json).get("data")).isEmpty();
+	}
+}
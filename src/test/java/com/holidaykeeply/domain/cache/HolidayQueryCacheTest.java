@@ -0,0 +1,165 @@
+package com.holidaykeeply.domain.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.holidaykeeply.api.dto.HolidayInfoDto;
+import com.holidaykeeply.api.dto.SearchCondition;
+import com.holidaykeeply.domain.event.HolidayChangedEvent;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class HolidayQueryCacheTest {
+
+	private final HolidayQueryCache holidayQueryCache = new HolidayQueryCache();
+
+	private final Pageable pageable = PageRequest.of(0, 3);
+
+	private SearchCondition condition(final String countryName) {
+		return SearchCondition.builder()
+			.startDate(LocalDate.of(2025, 1, 1))
+			.endDate(LocalDate.of(2025, 12, 31))
+			.countryName(countryName)
+			.build();
+	}
+
+	private Page<HolidayInfoDto.Response> page(final String country, final long id) {
+		return new PageImpl<>(List.of(new HolidayInfoDto.Response(
+			id, "공휴일", "Holiday", country, true, true, null, LocalDate.of(2025, 1, 1))), pageable, 1);
+	}
+
+	@Test
+	@DisplayName("같은 조건은 한 번만 조회하고 통계에 hit/miss 를 기록한다.")
+	void get_Hit() {
+		// given
+		AtomicInteger loads = new AtomicInteger();
+
+		// when
+		holidayQueryCache.get(condition("Germany"), pageable, () -> page("Germany", loads.incrementAndGet()));
+		Page<HolidayInfoDto.Response> cached =
+			holidayQueryCache.get(condition("Germany"), pageable, () -> page("Germany", loads.incrementAndGet()));
+
+		// then
+		assertThat(loads).hasValue(1);
+		assertThat(cached.getContent().getFirst().getId()).isEqualTo(1L);
+		assertThat(holidayQueryCache.stats().hitCount()).isEqualTo(1);
+		assertThat(holidayQueryCache.stats().missCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("변경 이벤트는 해당 국가를 포함한 조건만 다시 조회하게 한다.")
+	void onHolidayChanged_OnlyAffectedCountry() {
+		// given
+		AtomicInteger loads = new AtomicInteger();
+		SearchCondition multi = SearchCondition.builder()
+			.startDate(LocalDate.of(2025, 1, 1))
+			.endDate(LocalDate.of(2025, 12, 31))
+			.countries(List.of("FR", "DE"))
+			.build();
+		SearchCondition multiReordered = SearchCondition.builder()
+			.startDate(LocalDate.of(2025, 1, 1))
+			.endDate(LocalDate.of(2025, 12, 31))
+			.countries(List.of("DE", "FR", "DE"))
+			.build();
+		holidayQueryCache.get(condition("Germany"), pageable, () -> page("Germany", loads.incrementAndGet()));
+		holidayQueryCache.get(condition("Japan"), pageable, () -> page("Japan", loads.incrementAndGet()));
+		holidayQueryCache.get(multi, pageable, () -> page("France", loads.incrementAndGet()));
+
+		// when
+		holidayQueryCache.onHolidayChanged(new HolidayChangedEvent("DE", "Germany"));
+		holidayQueryCache.get(condition("Germany"), pageable, () -> page("Germany", loads.incrementAndGet()));
+		holidayQueryCache.get(condition("Japan"), pageable, () -> page("Japan", loads.incrementAndGet()));
+		holidayQueryCache.get(multiReordered, pageable, () -> page("France", loads.incrementAndGet()));
+
+		// then
+		assertThat(loads).hasValue(5);
+	}
+
+	@Test
+	@DisplayName("다시 조회하다 DB 오류가 나면 stale 항목을 반환하고, 캐시에 없으면 오류를 전파한다.")
+	void get_ServeStaleOnFailure() {
+		// given
+		holidayQueryCache.get(condition("Germany"), pageable, () -> page("Germany", 1L));
+		holidayQueryCache.onHolidayChanged(new HolidayChangedEvent("DE", "Germany"));
+
+		// when
+		Page<HolidayInfoDto.Response> stale = holidayQueryCache.get(condition("Germany"), pageable, () -> {
+			throw new DataAccessResourceFailureException("DB down");
+		});
+
+		// then
+		assertThat(stale.getContent().getFirst().getId()).isEqualTo(1L);
+		assertThat(holidayQueryCache.staleHits()).isEqualTo(1);
+		assertThatThrownBy(() -> holidayQueryCache.get(condition("Japan"), pageable, () -> {
+			throw new DataAccessResourceFailureException("DB down");
+		})).isInstanceOf(DataAccessResourceFailureException.class);
+	}
+
+	@Test
+	@DisplayName("다시 조회가 제한 시간 안에 끝나지 않으면 stale 항목을 반환하고, 늦게 끝난 결과는 다음 요청에 사용한다.")
+	void get_ServeStaleWhenSlow() {
+		// given
+		Queue<Runnable> refreshes = new ArrayDeque<>();
+		HolidayQueryCache slowCache = new HolidayQueryCache(Duration.ZERO, refreshes::add);
+		slowCache.get(condition("Germany"), pageable, () -> page("Germany", 1L));
+		slowCache.onHolidayChanged(new HolidayChangedEvent("DE", "Germany"));
+
+		// when (재조회는 제한 시간이 지난 뒤에야 실행된다)
+		Page<HolidayInfoDto.Response> stale = slowCache.get(condition("Germany"), pageable, () -> page("Germany", 2L));
+		Page<HolidayInfoDto.Response> staleAgain = slowCache.get(condition("Germany"), pageable, () -> {
+			throw new IllegalStateException("실행 중인 재조회가 있으면 다시 조회하면 안 된다");
+		});
+		refreshes.remove().run();
+		Page<HolidayInfoDto.Response> refreshed = slowCache.get(condition("Germany"), pageable, () -> {
+			throw new IllegalStateException("이미 갱신된 항목을 다시 조회하면 안 된다");
+		});
+
+		// then
+		assertThat(stale.getContent().getFirst().getId()).isEqualTo(1L);
+		assertThat(staleAgain.getContent().getFirst().getId()).isEqualTo(1L);
+		assertThat(refreshes).isEmpty();
+		assertThat(slowCache.staleHits()).isEqualTo(2);
+		assertThat(refreshed.getContent().getFirst().getId()).isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("논블로킹 조회도 캐시를 공유하고, 다시 조회가 늦으면 stale 항목을 반환한 뒤 늦게 끝난 결과를 캐시에 넣는다.")
+	void getAsync_ServeStaleWhenSlow() {
+		// given
+		HolidayQueryCache slowCache = new HolidayQueryCache(Duration.ofMillis(50), Runnable::run);
+		slowCache.get(condition("Germany"), pageable, () -> page("Germany", 1L));
+		Page<HolidayInfoDto.Response> hit = slowCache.getAsync(condition("Germany"), pageable,
+			() -> Mono.error(new IllegalStateException("캐시 적중이면 조회하면 안 된다"))).block();
+		slowCache.onHolidayChanged(new HolidayChangedEvent("DE", "Germany"));
+		Sinks.One<Page<HolidayInfoDto.Response>> slowLoad = Sinks.one();
+
+		// when
+		Page<HolidayInfoDto.Response> stale =
+			slowCache.getAsync(condition("Germany"), pageable, slowLoad::asMono).block();
+		slowLoad.tryEmitValue(page("Germany", 2L));
+		Page<HolidayInfoDto.Response> refreshed = slowCache.get(condition("Germany"), pageable, () -> {
+			throw new IllegalStateException("이미 갱신된 항목을 다시 조회하면 안 된다");
+		});
+
+		// then
+		assertThat(hit.getContent().getFirst().getId()).isEqualTo(1L);
+		assertThat(stale.getContent().getFirst().getId()).isEqualTo(1L);
+		assertThat(slowCache.staleHits()).isEqualTo(1);
+		assertThat(refreshed.getContent().getFirst().getId()).isEqualTo(2L);
+	}
+}
@@ -0,0 +1,462 @@
+package com.holidaykeeply.domain.index;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import com.holidaykeeply.api.dto.HolidayCursorDto;
+import com.holidaykeeply.api.dto.HolidayInfoDto;
+import com.holidaykeeply.api.dto.HolidayNameDto;
+import com.holidaykeeply.api.dto.SearchCondition;
+import com.holidaykeeply.domain.entity.Country;
+import com.holidaykeeply.domain.entity.Holiday;
+import com.holidaykeeply.domain.event.HolidayChangedEvent;
+import com.holidaykeeply.domain.infrastructure.repository.HolidayRepository;
+import com.holidaykeeply.fixture.FixtureMonkeyUtils;
+
+import com.navercorp.fixturemonkey.FixtureMonkey;
+
+@ExtendWith(MockitoExtension.class)
+class HolidayIndexTest {
+
+	@Mock
+	private HolidayRepository holidayRepository;
+
+	@InjectMocks
+	private HolidayIndex holidayIndex;
+
+	private final FixtureMonkey fixtureMonkey = FixtureMonkeyUtils.getDefault();
+
+	private Country germany;
+
+	@BeforeEach
+	void setUp() {
+		germany = fixtureMonkey.giveMeBuilder(Country.class)
+			.set("countryCode", "DE")
+			.set("name", "Germany")
+			.sample();
+	}
+
+	private Holiday holiday(final long id, final LocalDate date, final String name) {
+		return Holiday.builder()
+			.id(id)
+			.name(name)
+			.localName(name)
+			.date(date)
+			.fixed(true)
+			.global(true)
+			.country(germany)
+			.build();
+	}
+
+	private Holiday holiday(final long id, final Country country, final LocalDate date, final String name) {
+		return Holiday.builder()
+			.id(id)
+			.name(name)
+			.localName(name)
+			.date(date)
+			.fixed(true)
+			.global(true)
+			.country(country)
+			.build();
+	}
+
+	private SearchCondition condition(final LocalDate startDate, final LocalDate endDate) {
+		return SearchCondition.builder()
+			.startDate(startDate)
+			.endDate(endDate)
+			.countryName("Germany")
+			.build();
+	}
+
+	@Test
+	@DisplayName("적재 전에는 조회 결과가 비어 있어 DB 조회로 넘어간다.")
+	void search_NotLoaded() {
+		// when
+		Optional<Page<HolidayInfoDto.Response>> result =
+			holidayIndex.search(condition(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)), PageRequest.of(0, 10));
+
+		// then
+		assertThat(result).isEmpty();
+		assertThat(holidayIndex.isLoaded()).isFalse();
+	}
+
+	@Test
+	@DisplayName("기간 조건을 날짜 내림차순으로 페이징 조회한다.")
+	void search_DateRangeDescending() {
+		// given
+		given(holidayRepository.findAllWithCountry()).willReturn(List.of(
+			holiday(3L, LocalDate.of(2025, 10, 3), "German Unity Day"),
+			holiday(1L, LocalDate.of(2025, 1, 1), "New Year's Day"),
+			holiday(2L, LocalDate.of(2025, 5, 1), "Labour Day"),
+			holiday(4L, LocalDate.of(2024, 12, 25), "Christmas Day")));
+		holidayIndex.loadAll();
+
+		// when
+		Page<HolidayInfoDto.Response> firstPage = holidayIndex.search(
+			condition(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)), PageRequest.of(0, 2)).orElseThrow();
+		Page<HolidayInfoDto.Response> secondPage = holidayIndex.search(
+			condition(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)), PageRequest.of(1, 2)).orElseThrow();
+
+		// then
+		assertThat(firstPage.getTotalElements()).isEqualTo(3);
+		assertThat(firstPage.getContent()).extracting(HolidayInfoDto.Response::getId).containsExactly(3L, 2L);
+		assertThat(firstPage.getContent().getFirst().getCountry()).isEqualTo("Germany");
+		assertThat(secondPage.getContent()).extracting(HolidayInfoDto.Response::getId).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("인덱스에 없는 국가는 빈 페이지를 반환한다.")
+	void search_UnknownCountry() {
+		// given
+		given(holidayRepository.findAllWithCountry()).willReturn(List.of());
+		holidayIndex.loadAll();
+
+		// when
+		Page<HolidayInfoDto.Response> result = holidayIndex.search(
+			condition(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)), PageRequest.of(0, 10)).orElseThrow();
+
+		// then
+		assertThat(result.getTotalElements()).isZero();
+	}
+
+	@Test
+	@DisplayName("지역/유형은 전체 적재 시 한 번에 읽어 조회 결과에 채운다.")
+	void search_WithDetails() {
+		// given
+		given(holidayRepository.findAllWithCountry()).willReturn(List.of(
+			holiday(1L, LocalDate.of(2025, 1, 6), "Epiphany"),
+			holiday(2L, LocalDate.of(2025, 10, 3), "German Unity Day")));
+		given(holidayRepository.findDetails(List.of(1L, 2L))).willReturn(Map.of(
+			1L, new HolidayInfoDto.Details(List.of("DE-BW", "DE-BY", "DE-ST"), List.of("Public"))));
+		holidayIndex.loadAll();
+
+		// when
+		Page<HolidayInfoDto.Response> result = holidayIndex.search(
+			condition(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)), PageRequest.of(0, 10)).orElseThrow();
+
+		// then
+		assertThat(result.getContent()).extracting(HolidayInfoDto.Response::getCounties)
+			.containsExactly(List.of(), List.of("DE-BW", "DE-BY", "DE-ST"));
+		assertThat(result.getContent().getLast().getTypes()).containsExactly("Public");
+		verify(holidayRepository, times(1)).findDetails(any());
+	}
+
+	@Test
+	@DisplayName("변경 이벤트가 발생하면 해당 국가만 다시 적재한다.")
+	void onHolidayChanged_ReloadCountry() {
+		// given
+		given(holidayRepository.findAllWithCountry()).willReturn(List.of(
+			holiday(1L, LocalDate.of(2025, 1, 1), "New Year's Day")));
+		holidayIndex.loadAll();
+
+		given(holidayRepository.findAllWithCountryByCountryCode("DE")).willReturn(List.of(
+			holiday(1L, LocalDate.of(2025, 1, 1), "New Year's Day"),
+			holiday(5L, LocalDate.of(2025, 12, 26), "St. Stephen's Day")));
+
+		// when
+		holidayIndex.onHolidayChanged(new HolidayChangedEvent("DE", "Germany"));
+
+		// then
+		Page<HolidayInfoDto.Response> result = holidayIndex.search(
+			condition(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)), PageRequest.of(0, 10)).orElseThrow();
+		assertThat(result.getContent()).extracting(HolidayInfoDto.Response::getName)
+			.containsExactly("St. Stephen's Day", "New Year's Day");
+	}
+
+	@Test
+	@DisplayName("커서 이후의 행을 (date, id) 내림차순으로 조회한다.")
+	void searchAfter_Cursor() {
+		// given
+		given(holidayRepository.findAllWithCountry()).willReturn(List.of(
+			holiday(1L, LocalDate.of(2025, 1, 1), "New Year's Day"),
+			holiday(2L, LocalDate.of(2025, 5, 1), "Labour Day"),
+			holiday(3L, LocalDate.of(2025, 5, 1), "Labour Day (observed)"),
+			holiday(4L, LocalDate.of(2025, 10, 3), "German Unity Day")));
+		holidayIndex.loadAll();
+		SearchCondition condition = condition(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+
+		// when
+		List<HolidayInfoDto.Response> firstPage = holidayIndex.searchAfter(condition, null, 2).orElseThrow();
+		HolidayCursorDto.Cursor cursor = HolidayCursorDto.Cursor.of(firstPage.getLast());
+		List<HolidayInfoDto.Response> secondPage = holidayIndex.searchAfter(condition, cursor, 2).orElseThrow();
+
+		// then
+		assertThat(firstPage).extracting(HolidayInfoDto.Response::getId).containsExactly(4L, 3L);
+		assertThat(secondPage).extracting(HolidayInfoDto.Response::getId).containsExactly(2L, 1L);
+	}
+
+	@Test
+	@DisplayName("국가 코드와 날짜로 공휴일 여부를 비트셋에서 확인한다.")
+	void isHoliday_Bitset() {
+		// given
+		given(holidayRepository.findAllWithCountry()).willReturn(List.of(
+			holiday(1L, LocalDate.of(2024, 12, 31), "New Year's Eve"),
+			holiday(2L, LocalDate.of(2025, 10, 3), "German Unity Day")));
+		holidayIndex.loadAll();
+
+		// when & then
+		assertThat(holidayIndex.isHoliday("DE", LocalDate.of(2024, 12, 31))).contains(true);
+		assertThat(holidayIndex.isHoliday("DE", LocalDate.of(2025, 10, 3))).contains(true);
+		assertThat(holidayIndex.isHoliday("DE", LocalDate.of(2025, 10, 4))).contains(false);
+		assertThat(holidayIndex.isHoliday("DE", LocalDate.of(2030, 10, 3))).contains(false);
+		assertThat(holidayIndex.isHoliday("KR", LocalDate.of(2025, 10, 3))).contains(false);
+	}
+
+	@Test
+	@DisplayName("(국가 코드, 날짜) 쌍 배열을 요청 순서대로 한 번에 확인한다.")
+	void holidayIdsOn_Batch() {
+		// given
+		given(holidayRepository.findAllWithCountry()).willReturn(List.of(
+			holiday(7L, LocalDate.of(2025, 10, 3), "German Unity Day"),
+			holiday(8L, LocalDate.of(2025, 12, 25), "Christmas Day")));
+		holidayIndex.loadAll();
+
+		String[] countryCodes = {"DE", "DE", "KR", "DE"};
+		LocalDate[] dates = {
+			LocalDate.of(2025, 10, 3), LocalDate.of(2025, 10, 4), LocalDate.of(2025, 10, 3), LocalDate.of(2025, 12, 25)};
+
+		// when
+		long[] holidayIds = holidayIndex.holidayIdsOn(countryCodes, dates);
+
+		// then
+		assertThat(holidayIds).containsExactly(7L, 0L, 0L, 8L);
+	}
+
+	@Test
+	@DisplayName("적재 전에는 요청된 국가만 DB 에서 읽어 일괄 확인한다.")
+	void holidayIdsOn_NotLoaded() {
+		// given
+		given(holidayRepository.findAllWithCountryByCountryCode("DE")).willReturn(List.of(
+			holiday(7L, LocalDate.of(2025, 10, 3), "German Unity Day")));
+
+		// when
+		long[] holidayIds = holidayIndex.holidayIdsOn(
+			new String[] {"DE", "DE"}, new LocalDate[] {LocalDate.of(2025, 10, 3), LocalDate.of(2025, 1, 1)});
+
+		// then
+		assertThat(holidayIds).containsExactly(7L, 0L);
+		verify(holidayRepository, times(1)).findAllWithCountryByCountryCode("DE");
+	}
+
+	@Test
+	@DisplayName("여러 국가의 공휴일을 (date, id) 내림차순으로 병합해 하나의 페이지와 커서로 조회한다.")
+	void search_MultiCountryMerged() {
+		// given
+		Country france = fixtureMonkey.giveMeBuilder(Country.class)
+			.set("countryCode", "FR")
+			.set("name", "France")
+			.sample();
+		given(holidayRepository.findAllWithCountry()).willReturn(List.of(
+			holiday(1L, LocalDate.of(2025, 1, 1), "New Year's Day"),
+			holiday(2L, france, LocalDate.of(2025, 1, 1), "Jour de l'an"),
+			holiday(3L, france, LocalDate.of(2025, 7, 14), "Fête nationale"),
+			holiday(4L, LocalDate.of(2025, 10, 3), "German Unity Day"),
+			holiday(5L, france, LocalDate.of(2025, 11, 11), "Armistice")));
+		holidayIndex.loadAll();
+		SearchCondition condition = SearchCondition.builder()
+			.startDate(LocalDate.of(2025, 1, 1))
+			.endDate(LocalDate.of(2025, 12, 31))
+			.countries(List.of("DE", "France", "XX"))
+			.build();
+
+		// when
+		Page<HolidayInfoDto.Response> secondPage = holidayIndex.search(condition, PageRequest.of(1, 2)).orElseThrow();
+		List<HolidayInfoDto.Response> firstRows = holidayIndex.searchAfter(condition, null, 3).orElseThrow();
+		List<HolidayInfoDto.Response> nextRows = holidayIndex.searchAfter(
+			condition, HolidayCursorDto.Cursor.of(firstRows.getLast()), 3).orElseThrow();
+
+		// then
+		assertThat(secondPage.getTotalElements()).isEqualTo(5);
+		assertThat(secondPage.getContent()).extracting(HolidayInfoDto.Response::getId).containsExactly(3L, 2L);
+		assertThat(firstRows).extracting(HolidayInfoDto.Response::getId).containsExactly(5L, 4L, 3L);
+		assertThat(nextRows).extracting(HolidayInfoDto.Response::getId).containsExactly(2L, 1L);
+	}
+
+	@Test
+	@DisplayName("name 조건은 대소문자와 발음 구별 기호를 무시하고 name 또는 localName 부분 일치로 여러 국가를 조회한다.")
+	void search_ByName() {
+		// given
+		Country france = fixtureMonkey.giveMeBuilder(Country.class)
+			.set("countryCode", "FR")
+			.set("name", "France")
+			.sample();
+		given(holidayRepository.findAllWithCountry()).willReturn(List.of(
+			holiday(1L, LocalDate.of(2024, 12, 25), "Christmas Day"),
+			holiday(2L, LocalDate.of(2025, 10, 3), "German Unity Day"),
+			holiday(3L, LocalDate.of(2025, 12, 25), "Christmas Day"),
+			holiday(4L, france, LocalDate.of(2025, 7, 14), "Fête nationale"),
+			holiday(5L, france, LocalDate.of(2025, 12, 25), "Noël"),
+			Holiday.builder()
+				.id(6L)
+				.name("Christmas Day")
+				.localName("Noël")
+				.date(LocalDate.of(2024, 12, 25))
+				.country(france)
+				.build()));
+		holidayIndex.loadAll();
+		SearchCondition.SearchConditionBuilder builder = SearchCondition.builder()
+			.startDate(LocalDate.of(2025, 1, 1))
+			.endDate(LocalDate.of(2025, 12, 31))
+			.countries(List.of("DE", "FR"));
+
+		// when
+		Page<HolidayInfoDto.Response> christmas = holidayIndex.search(
+			builder.name("CHRISTMAS").build(), PageRequest.of(0, 10)).orElseThrow();
+		Page<HolidayInfoDto.Response> fete = holidayIndex.search(
+			builder.name("fete nat").build(), PageRequest.of(0, 10)).orElseThrow();
+		List<HolidayInfoDto.Response> noel = holidayIndex.searchAfter(
+			builder.startDate(null).name("noel").build(), null, 10).orElseThrow();
+
+		// then
+		assertThat(christmas.getTotalElements()).isEqualTo(1);
+		assertThat(christmas.getContent()).extracting(HolidayInfoDto.Response::getId).containsExactly(3L);
+		assertThat(fete.getContent()).extracting(HolidayInfoDto.Response::getId).containsExactly(4L);
+		assertThat(noel).extracting(HolidayInfoDto.Response::getId).containsExactly(5L, 6L);
+	}
+
+	@Test
+	@DisplayName("subdivision 조건은 전국 공휴일과 counties 에 해당 지역이 있는 공휴일만 조회하고, 이름 조건과 함께 쓸 수 있다.")
+	void search_BySubdivision() {
+		// given
+		given(holidayRepository.findAllWithCountry()).willReturn(List.of(
+			holiday(1L, LocalDate.of(2025, 1, 1), "New Year's Day"),
+			regional(2L, LocalDate.of(2025, 1, 6), "Epiphany"),
+			regional(3L, LocalDate.of(2025, 8, 15), "Assumption Day"),
+			regional(4L, LocalDate.of(2025, 10, 31), "Reformation Day"),
+			holiday(5L, LocalDate.of(2025, 12, 25), "Christmas Day")));
+		given(holidayRepository.findDetails(List.of(1L, 2L, 3L, 4L, 5L))).willReturn(Map.of(
+			2L, new HolidayInfoDto.Details(List.of("DE-BW", "DE-BY"), List.of("Public")),
+			3L, new HolidayInfoDto.Details(List.of("DE-BY", "DE-SL"), List.of("Public")),
+			4L, new HolidayInfoDto.Details(List.of("DE-BB", "DE-SN"), List.of("Public"))));
+		holidayIndex.loadAll();
+		SearchCondition.SearchConditionBuilder builder = SearchCondition.builder()
+			.startDate(LocalDate.of(2025, 1, 1))
+			.endDate(LocalDate.of(2025, 12, 31))
+			.countryName("Germany");
+
+		// when
+		Page<HolidayInfoDto.Response> bavaria = holidayIndex.search(
+			builder.subdivision("DE-BY").build(), PageRequest.of(0, 10)).orElseThrow();
+		Page<HolidayInfoDto.Response> saxony = holidayIndex.search(
+			builder.subdivision("DE-SN").build(), PageRequest.of(1, 2)).orElseThrow();
+		List<HolidayInfoDto.Response> bavariaByName = holidayIndex.searchAfter(
+			builder.subdivision("DE-BY").name("day").build(), null, 10).orElseThrow();
+
+		// then
+		assertThat(bavaria.getContent()).extracting(HolidayInfoDto.Response::getId).containsExactly(5L, 3L, 2L, 1L);
+		assertThat(saxony.getTotalElements()).isEqualTo(3);
+		assertThat(saxony.getContent()).extracting(HolidayInfoDto.Response::getId).containsExactly(1L);
+		assertThat(bavariaByName).extracting(HolidayInfoDto.Response::getId).containsExactly(5L, 3L, 1L);
+	}
+
+	@Test
+	@DisplayName("types, fixed, global 조건은 국가별 비트셋을 AND 로 조합해 조회한다.")
+	void search_ByTypeAndFlags() {
+		// given
+		given(holidayRepository.findAllWithCountry()).willReturn(List.of(
+			holiday(1L, LocalDate.of(2025, 1, 1), "New Year's Day"),
+			regional(2L, LocalDate.of(2025, 4, 18), "Good Friday"),
+			regional(3L, LocalDate.of(2025, 11, 19), "Repentance and Prayer Day"),
+			holiday(4L, LocalDate.of(2025, 12, 24), "Christmas Eve")));
+		given(holidayRepository.findDetails(List.of(1L, 2L, 3L, 4L))).willReturn(Map.of(
+			1L, new HolidayInfoDto.Details(List.of(), List.of("Public")),
+			2L, new HolidayInfoDto.Details(List.of(), List.of("Public", "Bank")),
+			3L, new HolidayInfoDto.Details(List.of("DE-SN"), List.of("School")),
+			4L, new HolidayInfoDto.Details(List.of(), List.of("Bank", "Optional"))));
+		holidayIndex.loadAll();
+
+		// when
+		List<HolidayInfoDto.Response> bank = holidayIndex.searchAfter(SearchCondition.builder()
+			.countryName("Germany")
+			.types(List.of("Bank"))
+			.build(), null, 10).orElseThrow();
+		List<HolidayInfoDto.Response> regionalPublicOrSchool = holidayIndex.searchAfter(SearchCondition.builder()
+			.countryName("Germany")
+			.types(List.of("Public", "School"))
+			.global(false)
+			.build(), null, 10).orElseThrow();
+		List<HolidayInfoDto.Response> globalBank = holidayIndex.searchAfter(SearchCondition.builder()
+			.countryName("Germany")
+			.types(List.of("Bank"))
+			.global(true)
+			.fixed(true)
+			.build(), null, 10).orElseThrow();
+
+		// then
+		assertThat(bank).extracting(HolidayInfoDto.Response::getId).containsExactly(4L, 2L);
+		assertThat(regionalPublicOrSchool).extracting(HolidayInfoDto.Response::getId).containsExactly(3L, 2L);
+		assertThat(globalBank).extracting(HolidayInfoDto.Response::getId).containsExactly(4L);
+	}
+
+	private Holiday regional(final long id, final LocalDate date, final String name) {
+		return Holiday.builder()
+			.id(id)
+			.name(name)
+			.localName(name)
+			.date(date)
+			.fixed(true)
+			.global(false)
+			.country(germany)
+			.build();
+	}
+
+	@Test
+	@DisplayName("이름 자동완성은 전체 국가에서 중복 없이, 검색어로 시작하는 이름을 먼저 반환한다.")
+	void suggestNames() {
+		// given
+		Country korea = fixtureMonkey.giveMeBuilder(Country.class)
+			.set("countryCode", "KR")
+			.set("name", "South Korea")
+			.sample();
+		given(holidayRepository.findAllWithCountry()).willReturn(List.of(
+			holiday(1L, LocalDate.of(2024, 12, 25), "Christmas Day"),
+			holiday(2L, LocalDate.of(2025, 12, 25), "Christmas Day"),
+			holiday(3L, LocalDate.of(2025, 12, 24), "Eve of Christmas"),
+			Holiday.builder()
+				.id(4L)
+				.name("Chuseok")
+				.localName("추석")
+				.date(LocalDate.of(2025, 10, 6))
+				.country(korea)
+				.build(),
+			Holiday.builder()
+				.id(5L)
+				.name("Christmas Day")
+				.localName("기독탄신일")
+				.date(LocalDate.of(2025, 12, 25))
+				.country(korea)
+				.build()));
+		holidayIndex.loadAll();
+
+		// when
+		List<HolidayNameDto.Suggestion> christmas = holidayIndex.suggestNames("christ", 10).orElseThrow();
+		List<HolidayNameDto.Suggestion> chuseok = holidayIndex.suggestNames("추석", 10).orElseThrow();
+		List<HolidayNameDto.Suggestion> limited = holidayIndex.suggestNames("c", 2).orElseThrow();
+
+		// then
+		assertThat(christmas).containsExactly(
+			new HolidayNameDto.Suggestion("DE", "Christmas Day", "Christmas Day"),
+			new HolidayNameDto.Suggestion("KR", "Christmas Day", "기독탄신일"),
+			new HolidayNameDto.Suggestion("DE", "Eve of Christmas", "Eve of Christmas"));
+		assertThat(chuseok).containsExactly(new HolidayNameDto.Suggestion("KR", "Chuseok", "추석"));
+		assertThat(limited).containsExactly(
+			new HolidayNameDto.Suggestion("DE", "Christmas Day", "Christmas Day"),
+			new HolidayNameDto.Suggestion("KR", "Christmas Day", "기독탄신일"));
+		assertThat(holidayIndex.suggestNames("없는이름", 10).orElseThrow()).isEmpty();
+	}
+}
@@ -0,0 +1,90 @@
+package com.holidaykeeply.domain.index;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.holidaykeeply.api.dto.HolidayInfoDto;
+import com.holidaykeeply.api.dto.HolidayStatisticsDto;
+import com.holidaykeeply.domain.entity.Holiday;
+import com.holidaykeeply.domain.event.HolidayChangedEvent;
+
+@ExtendWith(MockitoExtension.class)
+class HolidayStatisticsTest {
+
+	@Mock
+	private HolidayIndex holidayIndex;
+
+	@InjectMocks
+	private HolidayStatistics holidayStatistics;
+
+	private Holiday holiday(final long id, final LocalDate date) {
+		return Holiday.builder()
+			.id(id)
+			.name("Holiday " + id)
+			.localName("Holiday " + id)
+			.date(date)
+			.build();
+	}
+
+	private CountryHolidayIndex germany(final Holiday... holidays) {
+		return CountryHolidayIndex.of("DE", "Germany", List.of(holidays), Map.of(
+			1L, new HolidayInfoDto.Details(List.of(), List.of("Public")),
+			2L, new HolidayInfoDto.Details(List.of(), List.of("Public", "Bank")),
+			3L, new HolidayInfoDto.Details(List.of(), List.of("Public"))));
+	}
+
+	@Test
+	@DisplayName("국가별 (연도, 월, 유형) 공휴일 수를 집계하고 연도 범위로 조회한다.")
+	void rows() {
+		// given
+		given(holidayIndex.countryCodes()).willReturn(Set.of("DE"));
+		given(holidayIndex.countryByCode("DE")).willReturn(germany(
+			holiday(1L, LocalDate.of(2024, 12, 25)),
+			holiday(2L, LocalDate.of(2025, 1, 1)),
+			holiday(3L, LocalDate.of(2025, 1, 6)),
+			holiday(4L, LocalDate.of(2025, 10, 3))));
+		holidayStatistics.loadAll();
+
+		// when
+		List<HolidayStatisticsDto.Row> rows = holidayStatistics.rows(List.of(), 2025, 2025);
+
+		// then
+		assertThat(rows).containsExactly(
+			new HolidayStatisticsDto.Row("DE", 2025, 1, "Bank", 1),
+			new HolidayStatisticsDto.Row("DE", 2025, 1, "Public", 2),
+			new HolidayStatisticsDto.Row("DE", 2025, 10, null, 1));
+	}
+
+	@Test
+	@DisplayName("변경 이벤트가 발생하면 해당 국가만 다시 집계한다.")
+	void onHolidayChanged_RollUpCountry() {
+		// given
+		given(holidayIndex.countryCodes()).willReturn(Set.of("DE"));
+		given(holidayIndex.countryByCode("DE")).willReturn(germany(holiday(1L, LocalDate.of(2025, 1, 1))));
+		holidayStatistics.loadAll();
+
+		given(holidayIndex.isLoaded()).willReturn(true);
+		given(holidayIndex.countryByCode("DE")).willReturn(germany(
+			holiday(1L, LocalDate.of(2025, 1, 1)), holiday(3L, LocalDate.of(2025, 1, 6))));
+
+		// when
+		holidayStatistics.onHolidayChanged(new HolidayChangedEvent("DE", "Germany"));
+
+		// then
+		assertThat(holidayStatistics.rows(List.of("DE"), null, null))
+			.containsExactly(new HolidayStatisticsDto.Row("DE", 2025, 1, "Public", 2));
+		verify(holidayIndex, times(2)).countryByCode("DE");
+	}
+}
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.holidaykeeply.domain.entity.Country;
@@ -18,6 +19,8 @@ import com.holidaykeeply.domain.provider.impl.CountryDbProvider;
 import com.holidaykeeply.fixture.FixtureMonkeyUtils;
 
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import com.navercorp.fixturemonkey.FixtureMonkey;
 
@@ -27,6 +30,9 @@ class CountryDbProviderTest {
 	@Mock
 	private CountryRepository countryRepository;
 
+	@Spy
+	private Scheduler blockingScheduler = Schedulers.immediate();
+
 	@InjectMocks
 	private CountryDbProvider countryDbProvider;
 
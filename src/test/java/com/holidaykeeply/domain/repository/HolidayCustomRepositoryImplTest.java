@@ -3,11 +3,17 @@ package com.holidaykeeply.domain.repository;
 import static org.assertj.core.api.Assertions.*;
 
 import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
@@ -15,10 +21,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import com.holidaykeeply.api.dto.HolidayCursorDto;
+import com.holidaykeeply.api.dto.HolidayExportDto;
+import com.holidaykeeply.api.dto.HolidayFieldsDto;
 import com.holidaykeeply.api.dto.HolidayInfoDto;
+import com.holidaykeeply.api.dto.HolidayNameDto;
 import com.holidaykeeply.api.dto.SearchCondition;
+import com.holidaykeeply.domain.cache.HolidayCountCache;
 import com.holidaykeeply.domain.entity.Country;
 import com.holidaykeeply.domain.entity.Holiday;
+import com.holidaykeeply.domain.event.HolidayDataVersion;
 import com.holidaykeeply.domain.infrastructure.repository.CountryRepository;
 import com.holidaykeeply.domain.infrastructure.repository.HolidayRepository;
 import com.holidaykeeply.fixture.FixtureMonkeyUtils;
@@ -28,8 +40,8 @@ import jakarta.persistence.EntityManager;
 
 import com.navercorp.fixturemonkey.FixtureMonkey;
 
-@DataJpaTest
-@Import(QueryDslConfig.class)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({QueryDslConfig.class, HolidayCountCache.class, HolidayDataVersion.class})
 class HolidayCustomRepositoryImplTest {
 
 	@Autowired
@@ -89,6 +101,427 @@ class HolidayCustomRepositoryImplTest {
 		assertThat(result.getContent().getFirst().getCountry()).isEqualTo("대한민국");
 	}
 
+	@Test
+	@DisplayName("name 조건은 name 또는 localName 을 대소문자 구분 없이 부분 일치로 조회하고, 건수와 자동완성도 같은 조건을 쓴다")
+	void findHolidaysByFilters_Name() {
+		// given
+		FixtureMonkey fixtureMonkey = FixtureMonkeyUtils.getDefault();
+
+		Country korea = countryRepository.save(fixtureMonkey.giveMeBuilder(Country.class)
+				.set("countryCode", "KR")
+				.set("name", "대한민국")
+				.set("id", null)
+				.set("holidays", null)
+				.sample());
+		List.of(
+						new String[] {"Chuseok", "추석"},
+						new String[] {"Chuseok holiday", "추석 연휴"},
+						new String[] {"Christmas Day", "기독탄신일"})
+				.forEach(names -> holidayRepository.save(fixtureMonkey.giveMeBuilder(Holiday.class)
+						.set("id", null)
+						.set("country", korea)
+						.set("date", LocalDate.of(2025, 10, 6))
+						.set("name", names[0])
+						.set("localName", names[1])
+						.sample()));
+		em.flush();
+		em.clear();
+
+		SearchCondition condition = SearchCondition.builder()
+				.startDate(LocalDate.of(2025, 1, 1))
+				.endDate(LocalDate.of(2025, 12, 31))
+				.countryName("대한민국")
+				.name("추석")
+				.build();
+
+		// when
+		Page<HolidayInfoDto.Response> page = holidayRepository.findHolidaysByFilters(condition, PageRequest.of(0, 1));
+		List<HolidayInfoDto.Response> rows = holidayRepository.findHolidaysAfter(
+				SearchCondition.builder().countryName("대한민국").name("CHRISTMAS").build(), null, 10);
+
+		// then
+		assertThat(page.getTotalElements()).isEqualTo(2);
+		assertThat(page.getContent()).extracting(HolidayInfoDto.Response::getLocalName).containsAnyOf("추석", "추석 연휴");
+		assertThat(rows).extracting(HolidayInfoDto.Response::getName).containsExactly("Christmas Day");
+		assertThat(holidayRepository.findNameSuggestions("chuseok", 10))
+				.extracting(HolidayNameDto.Suggestion::name)
+				.containsExactly("Chuseok", "Chuseok holiday");
+	}
+
+	@Test
+	@DisplayName("fields 로 선택한 필드만 조회하고, 지역/유형은 요청했을 때만 읽는다")
+	void findHolidayFields_SelectedColumns() {
+		// given
+		FixtureMonkey fixtureMonkey = FixtureMonkeyUtils.getDefault();
+
+		Country korea = countryRepository.save(fixtureMonkey.giveMeBuilder(Country.class)
+				.set("countryCode", "KR")
+				.set("name", "대한민국")
+				.set("id", null)
+				.set("holidays", null)
+				.sample());
+		holidayRepository.save(fixtureMonkey.giveMeBuilder(Holiday.class)
+				.set("id", null)
+				.set("country", korea)
+				.set("date", LocalDate.of(2025, 10, 3))
+				.set("name", "National Foundation Day")
+				.set("localName", "개천절")
+				.sample());
+		em.flush();
+		em.clear();
+
+		SearchCondition condition = SearchCondition.builder()
+				.startDate(LocalDate.of(2025, 1, 1))
+				.endDate(LocalDate.of(2025, 12, 31))
+				.countryName("대한민국")
+				.build();
+		Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		// when
+		Page<Map<String, Object>> result = holidayRepository.findHolidayFields(condition,
+				EnumSet.of(HolidayFieldsDto.Field.LOCAL_NAME, HolidayFieldsDto.Field.LOCAL_DATE), PageRequest.of(0, 10));
+
+		// then
+		assertThat(result.getContent()).containsExactly(
+				Map.of("localName", "개천절", "localDate", LocalDate.of(2025, 10, 3)));
+		assertThat(result.getContent().getFirst().keySet()).containsExactly("localName", "localDate");
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("subdivision 조건은 전국 공휴일과 counties 에 해당 지역이 있는 공휴일만 조회한다")
+	void findHolidaysByFilters_Subdivision() {
+		// given
+		FixtureMonkey fixtureMonkey = FixtureMonkeyUtils.getDefault();
+
+		Country germany = countryRepository.save(fixtureMonkey.giveMeBuilder(Country.class)
+				.set("countryCode", "DE")
+				.set("name", "Germany")
+				.set("id", null)
+				.set("holidays", null)
+				.sample());
+		List.of(
+						new Object[] {"New Year's Day", true, List.of()},
+						new Object[] {"Epiphany", false, List.of("DE-BW", "DE-BY")},
+						new Object[] {"Reformation Day", false, List.of("DE-BB", "DE-SN")})
+				.forEach(values -> holidayRepository.save(fixtureMonkey.giveMeBuilder(Holiday.class)
+						.set("id", null)
+						.set("country", germany)
+						.set("date", LocalDate.of(2025, 1, 1))
+						.set("name", values[0])
+						.set("global", values[1])
+						.set("counties", values[2])
+						.sample()));
+		em.flush();
+		em.clear();
+
+		SearchCondition condition = SearchCondition.builder()
+				.startDate(LocalDate.of(2025, 1, 1))
+				.endDate(LocalDate.of(2025, 12, 31))
+				.countryName("Germany")
+				.subdivision("DE-BY")
+				.build();
+
+		// when
+		Page<HolidayInfoDto.Response> result = holidayRepository.findHolidaysByFilters(condition, PageRequest.of(0, 1));
+
+		// then
+		assertThat(result.getTotalElements()).isEqualTo(2);
+		assertThat(holidayRepository.findHolidaysAfter(condition, null, 10))
+				.extracting(HolidayInfoDto.Response::getName)
+				.containsExactlyInAnyOrder("New Year's Day", "Epiphany");
+	}
+
+	@Test
+	@DisplayName("types, fixed, global 조건으로 DB 를 조회한다")
+	void findHolidaysByFilters_TypeAndFlags() {
+		// given
+		FixtureMonkey fixtureMonkey = FixtureMonkeyUtils.getDefault();
+
+		Country germany = countryRepository.save(fixtureMonkey.giveMeBuilder(Country.class)
+				.set("countryCode", "DE")
+				.set("name", "Germany")
+				.set("id", null)
+				.set("holidays", null)
+				.sample());
+		List.of(
+						new Object[] {"New Year's Day", true, List.of("Public")},
+						new Object[] {"Good Friday", false, List.of("Public", "Bank")},
+						new Object[] {"Christmas Eve", true, List.of("Bank", "Optional")})
+				.forEach(values -> holidayRepository.save(fixtureMonkey.giveMeBuilder(Holiday.class)
+						.set("id", null)
+						.set("country", germany)
+						.set("date", LocalDate.of(2025, 1, 1))
+						.set("name", values[0])
+						.set("global", values[1])
+						.set("types", values[2])
+						.sample()));
+		em.flush();
+		em.clear();
+
+		SearchCondition.SearchConditionBuilder builder = SearchCondition.builder()
+				.startDate(LocalDate.of(2025, 1, 1))
+				.endDate(LocalDate.of(2025, 12, 31))
+				.countryName("Germany")
+				.types(List.of("Bank"));
+
+		// when
+		Page<HolidayInfoDto.Response> bank = holidayRepository.findHolidaysByFilters(builder.build(), PageRequest.of(0, 10));
+		List<HolidayInfoDto.Response> globalBank = holidayRepository.findHolidaysAfter(builder.global(true).build(), null, 10);
+
+		// then
+		assertThat(bank.getContent()).extracting(HolidayInfoDto.Response::getName)
+				.containsExactlyInAnyOrder("Good Friday", "Christmas Eve");
+		assertThat(globalBank).extracting(HolidayInfoDto.Response::getName).containsExactly("Christmas Eve");
+	}
+
+	@Test
+	@DisplayName("전체 건수는 검색 조건과 같은 조건으로 계산한다")
+	void findHolidaysByFilters_FilteredTotal() {
+		// given
+		FixtureMonkey fixtureMonkey = FixtureMonkeyUtils.getDefault();
+
+		Country korea = countryRepository.save(fixtureMonkey.giveMeBuilder(Country.class)
+				.set("countryCode", "KR")
+				.set("name", "대한민국")
+				.set("id", null)
+				.set("holidays", null)
+				.sample());
+		Country japan = countryRepository.save(fixtureMonkey.giveMeBuilder(Country.class)
+				.set("countryCode", "JP")
+				.set("name", "일본")
+				.set("id", null)
+				.set("holidays", null)
+				.sample());
+
+		List.of(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 1), LocalDate.of(2025, 10, 3), LocalDate.of(2024, 10, 3))
+				.forEach(date -> holidayRepository.save(fixtureMonkey.giveMeBuilder(Holiday.class)
+						.set("id", null)
+						.set("country", korea)
+						.set("date", date)
+						.set("name", "공휴일")
+						.set("localName", "공휴일")
+						.sample()));
+		holidayRepository.save(fixtureMonkey.giveMeBuilder(Holiday.class)
+				.set("id", null)
+				.set("country", japan)
+				.set("date", LocalDate.of(2025, 2, 11))
+				.set("name", "建国記念の日")
+				.set("localName", "建国記念の日")
+				.sample());
+
+		SearchCondition condition = SearchCondition.builder()
+				.startDate(LocalDate.of(2025, 1, 1))
+				.endDate(LocalDate.of(2025, 12, 31))
+				.countryName("대한민국")
+				.build();
+
+		// when
+		Page<HolidayInfoDto.Response> firstPage = holidayRepository.findHolidaysByFilters(condition, PageRequest.of(0, 2));
+		Page<HolidayInfoDto.Response> shortPage = holidayRepository.findHolidaysByFilters(condition, PageRequest.of(0, 10));
+
+		// then
+		assertThat(firstPage.getContent()).hasSize(2);
+		assertThat(firstPage.getTotalElements()).isEqualTo(3);
+		assertThat(shortPage.getTotalElements()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("커서 이후의 공휴일을 (date, id) 내림차순으로 조회한다")
+	void findHolidaysAfter_Success() {
+		// given
+		FixtureMonkey fixtureMonkey = FixtureMonkeyUtils.getDefault();
+
+		Country country = countryRepository.save(fixtureMonkey.giveMeBuilder(Country.class)
+				.set("countryCode", "KR")
+				.set("name", "대한민국")
+				.set("id", null)
+				.set("holidays", null)
+				.sample());
+
+		List<LocalDate> dates = List.of(
+				LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 1), LocalDate.of(2025, 10, 3));
+		for (int i = 0; i < dates.size(); i++) {
+			holidayRepository.save(fixtureMonkey.giveMeBuilder(Holiday.class)
+					.set("id", null)
+					.set("country", country)
+					.set("date", dates.get(i))
+					.set("name", "공휴일 " + i)
+					.set("localName", "공휴일 " + i)
+					.sample());
+		}
+
+		SearchCondition condition = SearchCondition.builder()
+				.startDate(LocalDate.of(2025, 1, 1))
+				.endDate(LocalDate.of(2025, 12, 31))
+				.countryName("대한민국")
+				.build();
+
+		// when
+		List<HolidayInfoDto.Response> firstPage = holidayRepository.findHolidaysAfter(condition, null, 2);
+		HolidayCursorDto.Cursor cursor = HolidayCursorDto.Cursor.of(firstPage.getLast());
+		List<HolidayInfoDto.Response> secondPage = holidayRepository.findHolidaysAfter(condition, cursor, 2);
+
+		// then
+		assertThat(firstPage).extracting(HolidayInfoDto.Response::getLocalDate)
+				.containsExactly(LocalDate.of(2025, 10, 3), LocalDate.of(2025, 3, 1));
+		assertThat(secondPage).extracting(HolidayInfoDto.Response::getLocalDate)
+				.containsExactly(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 1, 1));
+		assertThat(secondPage.getFirst().getId()).isLessThan(firstPage.getLast().getId());
+	}
+
+	@Test
+	@DisplayName("여러 국가를 국가 코드 또는 국가명 IN 조건 하나로 날짜 내림차순 조회한다")
+	void findHolidaysByFilters_MultiCountry() {
+		// given
+		FixtureMonkey fixtureMonkey = FixtureMonkeyUtils.getDefault();
+
+		Country korea = countryRepository.save(fixtureMonkey.giveMeBuilder(Country.class)
+				.set("countryCode", "KR")
+				.set("name", "대한민국")
+				.set("id", null)
+				.set("holidays", null)
+				.sample());
+		Country japan = countryRepository.save(fixtureMonkey.giveMeBuilder(Country.class)
+				.set("countryCode", "JP")
+				.set("name", "일본")
+				.set("id", null)
+				.set("holidays", null)
+				.sample());
+		Country china = countryRepository.save(fixtureMonkey.giveMeBuilder(Country.class)
+				.set("countryCode", "CN")
+				.set("name", "중국")
+				.set("id", null)
+				.set("holidays", null)
+				.sample());
+
+		List.of(korea, japan, china).forEach(country -> List.of(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 5, 5))
+				.forEach(date -> holidayRepository.save(fixtureMonkey.giveMeBuilder(Holiday.class)
+						.set("id", null)
+						.set("country", country)
+						.set("date", date)
+						.set("name", "공휴일")
+						.set("localName", "공휴일")
+						.sample())));
+
+		SearchCondition condition = SearchCondition.builder()
+				.startDate(LocalDate.of(2025, 1, 1))
+				.endDate(LocalDate.of(2025, 12, 31))
+				.countries(List.of("KR", "일본"))
+				.build();
+
+		// when
+		Page<HolidayInfoDto.Response> firstPage = holidayRepository.findHolidaysByFilters(condition, PageRequest.of(0, 3));
+
+		// then
+		assertThat(firstPage.getTotalElements()).isEqualTo(4);
+		assertThat(firstPage.getContent()).extracting(HolidayInfoDto.Response::getCountry)
+				.containsOnly("대한민국", "일본");
+		assertThat(firstPage.getContent()).extracting(HolidayInfoDto.Response::getLocalDate)
+				.containsExactly(LocalDate.of(2025, 5, 5), LocalDate.of(2025, 5, 5), LocalDate.of(2025, 1, 1));
+	}
+
+	@Test
+	@DisplayName("내보내기 스트림은 선택 조건으로 거르고 id 순으로 반환한다")
+	void streamHolidays_Filtered() {
+		// given
+		FixtureMonkey fixtureMonkey = FixtureMonkeyUtils.getDefault();
+
+		Country korea = countryRepository.save(fixtureMonkey.giveMeBuilder(Country.class)
+				.set("countryCode", "KR")
+				.set("name", "대한민국")
+				.set("id", null)
+				.set("holidays", null)
+				.sample());
+		Country japan = countryRepository.save(fixtureMonkey.giveMeBuilder(Country.class)
+				.set("countryCode", "JP")
+				.set("name", "일본")
+				.set("id", null)
+				.set("holidays", null)
+				.sample());
+
+		List.of(korea, japan).forEach(country -> List.of(LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1))
+				.forEach(date -> holidayRepository.save(fixtureMonkey.giveMeBuilder(Holiday.class)
+						.set("id", null)
+						.set("country", country)
+						.set("date", date)
+						.set("name", "공휴일")
+						.set("localName", "공휴일")
+						.sample())));
+
+		// when
+		List<HolidayInfoDto.Response> all;
+		try (Stream<HolidayInfoDto.Response> rows = holidayRepository.streamHolidays(
+				new HolidayExportDto.Request(null, null, null, null))) {
+			all = rows.toList();
+		}
+		List<HolidayInfoDto.Response> filtered;
+		try (Stream<HolidayInfoDto.Response> rows = holidayRepository.streamHolidays(
+				new HolidayExportDto.Request("KR", LocalDate.of(2025, 1, 1), null, HolidayExportDto.Format.CSV))) {
+			filtered = rows.toList();
+		}
+
+		// then
+		assertThat(all).hasSize(4);
+		assertThat(all).extracting(HolidayInfoDto.Response::getId).isSorted();
+		assertThat(filtered).singleElement()
+				.satisfies(row -> {
+					assertThat(row.getCountry()).isEqualTo("대한민국");
+					assertThat(row.getLocalDate()).isEqualTo(LocalDate.of(2025, 1, 1));
+				});
+	}
+
+	@Test
+	@DisplayName("지역/유형은 페이지 크기와 상관없이 추가 쿼리 한 번으로 채운다")
+	void findHolidaysAfter_DetailsInOneQuery() {
+		// given
+		FixtureMonkey fixtureMonkey = FixtureMonkeyUtils.getDefault();
+
+		Country germany = countryRepository.save(fixtureMonkey.giveMeBuilder(Country.class)
+				.set("countryCode", "DE")
+				.set("name", "Germany")
+				.set("id", null)
+				.set("holidays", null)
+				.sample());
+		for (int month = 1; month <= 12; month++) {
+			holidayRepository.save(fixtureMonkey.giveMeBuilder(Holiday.class)
+					.set("id", null)
+					.set("country", germany)
+					.set("date", LocalDate.of(2025, month, 1))
+					.set("name", "Holiday " + month)
+					.set("localName", "Feiertag " + month)
+					.set("counties", month % 2 == 0 ? List.of("DE-BY", "DE-BW") : List.of())
+					.set("types", List.of("Public"))
+					.sample());
+		}
+		em.flush();
+		em.clear();
+
+		SearchCondition condition = SearchCondition.builder()
+				.startDate(LocalDate.of(2025, 1, 1))
+				.endDate(LocalDate.of(2025, 12, 31))
+				.countryName("Germany")
+				.build();
+		Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+		// when
+		statistics.clear();
+		List<HolidayInfoDto.Response> smallPage = holidayRepository.findHolidaysAfter(condition, null, 3);
+		long smallPageStatements = statistics.getPrepareStatementCount();
+
+		statistics.clear();
+		List<HolidayInfoDto.Response> largePage = holidayRepository.findHolidaysAfter(condition, null, 12);
+		long largePageStatements = statistics.getPrepareStatementCount();
+
+		// then
+		assertThat(smallPageStatements).isEqualTo(2);
+		assertThat(largePageStatements).isEqualTo(smallPageStatements);
+		assertThat(largePage).hasSize(12).allSatisfy(row -> assertThat(row.getTypes()).containsExactly("Public"));
+		assertThat(smallPage.getFirst().getCounties()).containsExactlyInAnyOrder("DE-BY", "DE-BW");
+		assertThat(smallPage.get(1).getCounties()).isEmpty();
+	}
+
 	@AfterEach
 	void cleanUp() {
 		holidayRepository.deleteAllInBatch();
@@ -0,0 +1,200 @@
+package com.holidaykeeply.domain.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.holidaykeeply.api.dto.SearchCondition;
+import com.holidaykeeply.domain.cache.HolidayCountCache;
+import com.holidaykeeply.domain.entity.Country;
+import com.holidaykeeply.domain.entity.Holiday;
+import com.holidaykeeply.domain.event.HolidayDataVersion;
+import com.holidaykeeply.domain.infrastructure.repository.CountryRepository;
+import com.holidaykeeply.domain.infrastructure.repository.HolidayRepository;
+import com.holidaykeeply.fixture.FixtureMonkeyUtils;
+import com.holidaykeeply.global.config.QueryDslConfig;
+
+import jakarta.persistence.EntityManager;
+
+import com.navercorp.fixturemonkey.FixtureMonkey;
+
+/**
+ * 검색/카운트 쿼리가 holiday 인덱스를 타는지 H2 EXPLAIN 으로 검증한다.
+ * 손으로 쓴 SQL 이 아니라 HolidayCustomRepositoryImpl 의 QueryDSL 쿼리로 Hibernate 가 실제 생성한 SQL 을
+ * StatementInspector 로 가로채 EXPLAIN 한다.
+ */
+@DataJpaTest
+@Import({QueryDslConfig.class, HolidayCountCache.class, HolidayDataVersion.class, HolidayQueryPlanTest.SqlCaptureConfig.class})
+class HolidayQueryPlanTest {
+
+	@TestConfiguration
+	static class SqlCaptureConfig {
+		@Bean
+		SqlCapture sqlCapture() {
+			return new SqlCapture();
+		}
+
+		@Bean
+		HibernatePropertiesCustomizer statementInspector(final SqlCapture sqlCapture) {
+			return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+		}
+	}
+
+	static class SqlCapture implements StatementInspector {
+		private final List<String> statements = new CopyOnWriteArrayList<>();
+
+		@Override
+		public String inspect(final String sql) {
+			statements.add(sql);
+			return sql;
+		}
+
+		void clear() {
+			statements.clear();
+		}
+
+		String find(final Predicate<String> matcher) {
+			return statements.stream()
+					.filter(sql -> matcher.test(sql.toLowerCase()))
+					.findFirst()
+					.orElseThrow(() -> new AssertionError("쿼리가 실행되지 않았다: " + statements));
+		}
+	}
+
+	private static final LocalDate START = LocalDate.of(2025, 1, 1);
+	private static final LocalDate END = LocalDate.of(2025, 12, 31);
+
+	@Autowired
+	private HolidayRepository holidayRepository;
+
+	@Autowired
+	private CountryRepository countryRepository;
+
+	@Autowired
+	private SqlCapture sqlCapture;
+
+	@Autowired
+	private EntityManager em;
+
+	private final FixtureMonkey fixtureMonkey = FixtureMonkeyUtils.getDefault();
+
+	private Country germany;
+
+	@BeforeEach
+	void setUp() {
+		germany = countryRepository.save(fixtureMonkey.giveMeBuilder(Country.class)
+				.set("countryCode", "DE")
+				.set("name", "Germany")
+				.set("id", null)
+				.set("holidays", null)
+				.sample());
+
+		for (int year = 2020; year <= 2025; year++) {
+			for (int month = 1; month <= 12; month++) {
+				holidayRepository.save(holiday(LocalDate.of(year, month, 1), "Holiday " + month));
+			}
+		}
+		em.flush();
+		em.clear();
+	}
+
+	private Holiday holiday(final LocalDate date, final String name) {
+		return fixtureMonkey.giveMeBuilder(Holiday.class)
+				.set("id", null)
+				.set("country", germany)
+				.set("date", date)
+				.set("name", name)
+				.set("localName", name)
+				.set("counties", null)
+				.set("types", null)
+				.sample();
+	}
+
+	/**
+	 * 두 번째 페이지(offset 3, 3건)를 조회해 페이지 쿼리와 count 쿼리가 모두 실행되게 한다.
+	 */
+	private void searchSecondPage() {
+		sqlCapture.clear();
+		holidayRepository.findHolidaysByFilters(SearchCondition.builder()
+				.startDate(START)
+				.endDate(END)
+				.countryName("Germany")
+				.build(), PageRequest.of(1, 3));
+	}
+
+	/**
+	 * 생성된 SQL 의 바인드 파라미터를 SQL 에 나오는 순서대로 채워 EXPLAIN 한다.
+	 */
+	private String explain(final String sql, final Object... parameters) {
+		return em.unwrap(Session.class).doReturningWork(connection -> {
+			try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+				for (int i = 0; i < parameters.length; i++) {
+					statement.setObject(i + 1, parameters[i]);
+				}
+				try (ResultSet plan = statement.executeQuery()) {
+					plan.next();
+					return plan.getString(1);
+				}
+			}
+		});
+	}
+
+	@Test
+	@DisplayName("국가 + 기간 검색 쿼리는 커버링 인덱스 idx_holiday_search 를 사용한다")
+	void searchQuery_UsesCoveringIndex() {
+		// given
+		searchSecondPage();
+		String sql = sqlCapture.find(query -> query.contains("order by") && !query.contains("union"));
+
+		// when
+		String plan = explain(sql, START, END, "Germany", 3, 3);
+
+		// then
+		assertThat(plan.toUpperCase()).contains("IDX_HOLIDAY_SEARCH");
+		assertThat(plan).doesNotContainIgnoringCase("HOLIDAY.tableScan");
+	}
+
+	@Test
+	@DisplayName("국가 + 기간 카운트 쿼리는 (country_id, date) 로 시작하는 holiday 인덱스를 사용한다")
+	void countQuery_UsesIndex() {
+		// given
+		searchSecondPage();
+		String sql = sqlCapture.find(query -> query.contains("count("));
+
+		// when
+		String plan = explain(sql, START, END, "Germany");
+
+		// then
+		// count 는 country_id, date 만 읽으므로 두 인덱스 모두 커버링이다. 테이블 스캔만 아니면 된다.
+		assertThat(plan.toUpperCase()).containsAnyOf("IDX_HOLIDAY_SEARCH", "UK_HOLIDAY_COUNTRY_DATE_NAME");
+		assertThat(plan).doesNotContainIgnoringCase("HOLIDAY.tableScan");
+	}
+
+	@Test
+	@DisplayName("같은 국가, 날짜, 이름의 공휴일은 중복 저장할 수 없다")
+	void naturalKey_Unique() {
+		assertThatThrownBy(() -> holidayRepository.saveAndFlush(holiday(LocalDate.of(2025, 1, 1), "Holiday 1")))
+				.isInstanceOf(DataIntegrityViolationException.class);
+	}
+}
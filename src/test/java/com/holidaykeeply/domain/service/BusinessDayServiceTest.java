@@ -0,0 +1,159 @@
+package com.holidaykeeply.domain.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.holidaykeeply.api.dto.HolidayInfoDto;
+import com.holidaykeeply.domain.entity.Holiday;
+import com.holidaykeeply.domain.index.CountryHolidayIndex;
+import com.holidaykeeply.domain.index.HolidayIndex;
+import com.holidaykeeply.global.common.key.BusinessDayProperties;
+
+@ExtendWith(MockitoExtension.class)
+class BusinessDayServiceTest {
+
+	@Mock
+	private HolidayIndex holidayIndex;
+
+	private BusinessDayService businessDayService;
+
+	@BeforeEach
+	void setUp() {
+		BusinessDayProperties properties = new BusinessDayProperties(
+			null, Map.of("AE", EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY)));
+		businessDayService = new BusinessDayService(holidayIndex, properties);
+	}
+
+	private static final HolidayInfoDto.Details PUBLIC = new HolidayInfoDto.Details(List.of(), List.of("Public"));
+
+	/**
+	 * 모두 전국 공휴일(global, Public)
+	 */
+	private CountryHolidayIndex korea(final LocalDate... dates) {
+		List<Holiday> holidays = new ArrayList<>();
+		Map<Long, HolidayInfoDto.Details> details = new HashMap<>();
+		for (int i = 0; i < dates.length; i++) {
+			holidays.add(Holiday.builder()
+				.id(i + 1L)
+				.name("Holiday " + i)
+				.localName("공휴일 " + i)
+				.date(dates[i])
+				.global(true)
+				.build());
+			details.put(i + 1L, PUBLIC);
+		}
+		return CountryHolidayIndex.of("KR", "South Korea", holidays, details);
+	}
+
+	@Test
+	@DisplayName("주말과 공휴일을 건너뛰어 N 영업일 뒤의 날짜를 계산한다.")
+	void addBusinessDays_SkipWeekendAndHoliday() {
+		// given (2025-03-01 토, 03-03 월 대체공휴일)
+		given(holidayIndex.countryByCode("KR")).willReturn(korea(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 3)));
+
+		// when & then
+		assertThat(businessDayService.addBusinessDays("KR", LocalDate.of(2025, 2, 28), 1))
+			.isEqualTo(LocalDate.of(2025, 3, 4));
+		assertThat(businessDayService.addBusinessDays("KR", LocalDate.of(2025, 3, 4), -1))
+			.isEqualTo(LocalDate.of(2025, 2, 28));
+		assertThat(businessDayService.addBusinessDays("KR", LocalDate.of(2025, 3, 1), 0))
+			.isEqualTo(LocalDate.of(2025, 3, 1));
+	}
+
+	@Test
+	@DisplayName("연도 경계를 넘어 영업일을 더하고 뺀다.")
+	void addBusinessDays_AcrossYears() {
+		// given (2026-01-01 목 공휴일)
+		given(holidayIndex.countryByCode("KR")).willReturn(korea(LocalDate.of(2026, 1, 1)));
+
+		// when & then
+		assertThat(businessDayService.addBusinessDays("KR", LocalDate.of(2025, 12, 31), 1))
+			.isEqualTo(LocalDate.of(2026, 1, 2));
+		assertThat(businessDayService.addBusinessDays("KR", LocalDate.of(2026, 1, 2), -1))
+			.isEqualTo(LocalDate.of(2025, 12, 31));
+		assertThat(businessDayService.addBusinessDays("KR", LocalDate.of(2025, 1, 1), 261 + 250))
+			.isEqualTo(LocalDate.of(2026, 12, 18));
+	}
+
+	@Test
+	@DisplayName("기간 내 영업일 수를 양 끝을 포함해 계산한다.")
+	void countBusinessDays() {
+		// given
+		given(holidayIndex.countryByCode("KR")).willReturn(korea(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 3)));
+
+		// when & then
+		assertThat(businessDayService.countBusinessDays("KR", LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31)))
+			.isEqualTo(20);
+		assertThat(businessDayService.countBusinessDays("KR", LocalDate.of(2025, 1, 1), LocalDate.of(2026, 12, 31)))
+			.isEqualTo(261 + 261 - 1);
+	}
+
+	@Test
+	@DisplayName("지역 공휴일과 Public 이 아닌 유형의 공휴일은 영업일로 센다.")
+	void countBusinessDays_OnlyNationwidePublicHolidays() {
+		// given (2025-10-03 금 전국 공휴일, 10-31 금 지역 공휴일, 11-07 금 전국 Observance, 11-14 금 전국 School)
+		List<Holiday> holidays = List.of(
+			Holiday.builder().id(1L).name("German Unity Day").date(LocalDate.of(2025, 10, 3)).global(true).build(),
+			Holiday.builder().id(2L).name("Reformation Day").date(LocalDate.of(2025, 10, 31)).global(false).build(),
+			Holiday.builder().id(3L).name("Observance").date(LocalDate.of(2025, 11, 7)).global(true).build(),
+			Holiday.builder().id(4L).name("School Holiday").date(LocalDate.of(2025, 11, 14)).global(true).build());
+		given(holidayIndex.countryByCode("DE")).willReturn(CountryHolidayIndex.of("DE", "Germany", holidays, Map.of(
+			1L, PUBLIC,
+			2L, new HolidayInfoDto.Details(List.of("DE-BB"), List.of("Public")),
+			3L, new HolidayInfoDto.Details(List.of(), List.of("Observance")),
+			4L, new HolidayInfoDto.Details(List.of(), List.of("School", "Optional")))));
+
+		// when & then (10월 23일 평일 중 10-03 만 쉰다)
+		assertThat(businessDayService.countBusinessDays("DE", LocalDate.of(2025, 10, 1), LocalDate.of(2025, 10, 31)))
+			.isEqualTo(22);
+		assertThat(businessDayService.countBusinessDays("DE", LocalDate.of(2025, 11, 7), LocalDate.of(2025, 11, 14)))
+			.isEqualTo(6);
+		assertThat(businessDayService.addBusinessDays("DE", LocalDate.of(2025, 10, 30), 1))
+			.isEqualTo(LocalDate.of(2025, 10, 31));
+		assertThat(businessDayService.addBusinessDays("DE", LocalDate.of(2025, 10, 2), 1))
+			.isEqualTo(LocalDate.of(2025, 10, 6));
+	}
+
+	@Test
+	@DisplayName("국가별로 설정된 주말을 사용한다.")
+	void countBusinessDays_CountryWeekend() {
+		// given
+		given(holidayIndex.countryByCode("AE")).willReturn(CountryHolidayIndex.EMPTY);
+
+		// when & then (2025-03-07 금 ~ 03-09 일)
+		assertThat(businessDayService.countBusinessDays("AE", LocalDate.of(2025, 3, 7), LocalDate.of(2025, 3, 9)))
+			.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("인덱스 연도 범위 밖의 기간은 요일 계산만으로 세며, 날짜별로 센 값과 같다.")
+	void countBusinessDays_OutsideIndexRange() {
+		// given (1960-01-01 ~ 2060-01-01, 공휴일은 2025년만 존재)
+		given(holidayIndex.countryByCode("KR")).willReturn(korea(LocalDate.of(2025, 3, 3), LocalDate.of(2025, 3, 8)));
+		LocalDate startDate = LocalDate.of(1960, 1, 1);
+		LocalDate endDate = LocalDate.of(2060, 1, 1);
+		long expected = startDate.datesUntil(endDate.plusDays(1))
+			.filter(date -> date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY)
+			.filter(date -> !date.equals(LocalDate.of(2025, 3, 3)))
+			.count();
+
+		// when & then
+		assertThat(businessDayService.countBusinessDays("KR", startDate, endDate)).isEqualTo(expected);
+		assertThat(businessDayService.addBusinessDays("KR", startDate, (int) expected - 1)).isEqualTo(endDate);
+	}
+}
@@ -13,13 +13,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.holidaykeeply.domain.entity.Country;
 import com.holidaykeeply.domain.infrastructure.repository.CountryRepository;
 import com.holidaykeeply.fixture.FixtureMonkeyUtils;
 
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import com.navercorp.fixturemonkey.FixtureMonkey;
 
@@ -32,6 +36,12 @@ class CountryServiceTest {
 	@Mock
 	private CountryRepository countryRepository;
 
+	@Spy
+	private Scheduler blockingScheduler = Schedulers.immediate();
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
 	@Test
 	@DisplayName("전체 Country 개수를 반환한다.")
 	void countCountries_Success() {
@@ -0,0 +1,82 @@
+package com.holidaykeeply.domain.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.holidaykeeply.api.dto.HolidayInfoDto;
+import com.holidaykeeply.domain.entity.Holiday;
+import com.holidaykeeply.domain.index.CountryHolidayIndex;
+import com.holidaykeeply.domain.index.HolidayIndex;
+
+@ExtendWith(MockitoExtension.class)
+class HolidayLookupServiceTest {
+
+	@Mock
+	private HolidayIndex holidayIndex;
+
+	@InjectMocks
+	private HolidayLookupService holidayLookupService;
+
+	@BeforeEach
+	void setUp() {
+		given(holidayIndex.countryByCode("DE")).willReturn(CountryHolidayIndex.of("DE", "Germany", List.of(
+			holiday(1L, LocalDate.of(2025, 1, 1), "New Year's Day"),
+			holiday(2L, LocalDate.of(2025, 5, 1), "Labour Day"),
+			holiday(3L, LocalDate.of(2025, 5, 1), "May Day"),
+			holiday(4L, LocalDate.of(2025, 10, 3), "German Unity Day"))));
+	}
+
+	private Holiday holiday(final long id, final LocalDate date, final String name) {
+		return Holiday.builder()
+			.id(id)
+			.name(name)
+			.localName(name)
+			.date(date)
+			.build();
+	}
+
+	@Test
+	@DisplayName("기준일 다음 공휴일을 찾는다. 기준일 자신은 포함하지 않는다.")
+	void next() {
+		// when & then
+		assertThat(holidayLookupService.next("DE", LocalDate.of(2025, 1, 1)))
+			.map(HolidayInfoDto.Response::getId).contains(2L);
+		assertThat(holidayLookupService.next("DE", LocalDate.of(2025, 6, 1)))
+			.map(HolidayInfoDto.Response::getId).contains(4L);
+		assertThat(holidayLookupService.next("DE", LocalDate.of(2025, 10, 3))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("기준일 이전 공휴일을 찾는다. 같은 날 공휴일이 여럿이면 id 가 가장 큰 공휴일이다.")
+	void previous() {
+		// when & then
+		assertThat(holidayLookupService.previous("DE", LocalDate.of(2025, 6, 1)))
+			.map(HolidayInfoDto.Response::getId).contains(3L);
+		assertThat(holidayLookupService.previous("DE", LocalDate.of(2025, 5, 1)))
+			.map(HolidayInfoDto.Response::getId).contains(1L);
+		assertThat(holidayLookupService.previous("DE", LocalDate.of(2025, 1, 1))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("기준일 이후 공휴일을 날짜 오름차순으로 최대 N 건 조회한다.")
+	void upcoming() {
+		// when
+		List<HolidayInfoDto.Response> firstTwo = holidayLookupService.upcoming("DE", LocalDate.of(2024, 12, 31), 2);
+		List<HolidayInfoDto.Response> rest = holidayLookupService.upcoming("DE", LocalDate.of(2025, 1, 1), 10);
+
+		// then
+		assertThat(firstTwo).extracting(HolidayInfoDto.Response::getId).containsExactly(1L, 2L);
+		assertThat(rest).extracting(HolidayInfoDto.Response::getId).containsExactly(2L, 3L, 4L);
+	}
+}
@@ -0,0 +1,114 @@
+package com.holidaykeeply.domain.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import com.holidaykeeply.api.dto.HolidayInfoDto;
+import com.holidaykeeply.api.dto.SearchCondition;
+import com.holidaykeeply.domain.cache.HolidayQueryCache;
+import com.holidaykeeply.domain.index.HolidayIndex;
+import com.holidaykeeply.domain.infrastructure.reactive.HolidayReactiveRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class HolidayReactiveServiceTest {
+
+	@Mock
+	private HolidayReactiveRepository holidayReactiveRepository;
+
+	@Mock
+	private HolidayIndex holidayIndex;
+
+	@Spy
+	private HolidayQueryCache holidayQueryCache = new HolidayQueryCache();
+
+	@InjectMocks
+	private HolidayReactiveService holidayReactiveService;
+
+	private final SearchCondition condition = SearchCondition.builder()
+			.startDate(LocalDate.of(2025, 1, 1))
+			.endDate(LocalDate.of(2025, 12, 31))
+			.countryName("Germany")
+			.build();
+
+	private Flux<HolidayInfoDto.Response> rows(final long count) {
+		return Flux.fromStream(LongStream.rangeClosed(1, count).mapToObj(id -> new HolidayInfoDto.Response(
+				id, "공휴일 " + id, "Holiday " + id, "Germany", true, true, null, LocalDate.of(2025, 1, 1))));
+	}
+
+	@Test
+	@DisplayName("첫 페이지가 가득 차지 않으면 count 쿼리 없이 전체 건수를 계산하고, 지역/유형을 한 번에 채운다.")
+	void getHolidays_ShortFirstPage() {
+		// given
+		PageRequest pageable = PageRequest.of(0, 3);
+		given(holidayReactiveRepository.findHolidays(condition, pageable)).willReturn(rows(2));
+		given(holidayReactiveRepository.findDetails(List.of(1L, 2L))).willReturn(Mono.just(Map.of(
+				2L, new HolidayInfoDto.Details(List.of("DE-BY"), List.of("Public")))));
+
+		// when
+		Page<HolidayInfoDto.Response> result = holidayReactiveService.getHolidays(condition, pageable).block();
+
+		// then
+		assertThat(result.getTotalElements()).isEqualTo(2);
+		assertThat(result.getContent()).extracting(HolidayInfoDto.Response::getId).containsExactly(1L, 2L);
+		assertThat(result.getContent().getFirst().getCounties()).isEmpty();
+		assertThat(result.getContent().getLast().getCounties()).containsExactly("DE-BY");
+		assertThat(result.getContent().getLast().getTypes()).containsExactly("Public");
+		verify(holidayReactiveRepository, never()).countHolidays(any());
+	}
+
+	@Test
+	@DisplayName("페이지가 가득 차면 count 쿼리로 전체 건수를 조회한다.")
+	void getHolidays_FullPage() {
+		// given
+		PageRequest pageable = PageRequest.of(1, 3);
+		given(holidayReactiveRepository.findHolidays(condition, pageable)).willReturn(rows(3));
+		given(holidayReactiveRepository.findDetails(anyList())).willReturn(Mono.just(Map.of()));
+		given(holidayReactiveRepository.countHolidays(condition)).willReturn(Mono.just(10L));
+
+		// when
+		Page<HolidayInfoDto.Response> result = holidayReactiveService.getHolidays(condition, pageable).block();
+
+		// then
+		assertThat(result.getTotalElements()).isEqualTo(10);
+		assertThat(result.getTotalPages()).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("인덱스가 답할 수 있으면 DB 를 조회하지 않고, 같은 조건은 검색 결과 캐시에서 반환한다.")
+	void getHolidays_FromIndexAndCache() {
+		// given
+		PageRequest pageable = PageRequest.of(0, 3);
+		Page<HolidayInfoDto.Response> indexed = new PageImpl<>(rows(1).collectList().block(), pageable, 1);
+		given(holidayIndex.search(condition, pageable)).willReturn(Optional.of(indexed));
+
+		// when
+		Page<HolidayInfoDto.Response> first = holidayReactiveService.getHolidays(condition, pageable).block();
+		Page<HolidayInfoDto.Response> second = holidayReactiveService.getHolidays(condition, pageable).block();
+
+		// then
+		assertThat(first).isSameAs(indexed);
+		assertThat(second).isSameAs(indexed);
+		verify(holidayIndex, times(1)).search(condition, pageable);
+		verifyNoInteractions(holidayReactiveRepository);
+	}
+}
@@ -4,23 +4,41 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import com.holidaykeeply.api.dto.HolidayExportDto;
 import com.holidaykeeply.api.dto.HolidayInfoDto;
 import com.holidaykeeply.api.dto.SearchCondition;
+import com.holidaykeeply.domain.cache.HolidayQueryCache;
+import com.holidaykeeply.domain.entity.Country;
+import com.holidaykeeply.domain.entity.Holiday;
+import com.holidaykeeply.domain.event.HolidayChangedEvent;
+import com.holidaykeeply.domain.index.HolidayIndex;
 import com.holidaykeeply.domain.infrastructure.repository.HolidayRepository;
+import com.holidaykeeply.fixture.FixtureMonkeyUtils;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 @ExtendWith(MockitoExtension.class)
 class HolidayServiceTest {
@@ -31,6 +49,24 @@ class HolidayServiceTest {
 	@Mock
 	private HolidayRepository holidayRepository;
 
+	@Mock
+	private HolidayIndex holidayIndex;
+
+	@Spy
+	private HolidayQueryCache holidayQueryCache = new HolidayQueryCache();
+
+	@Mock
+	private CountryService countryService;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Spy
+	private Scheduler blockingScheduler = Schedulers.immediate();
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
 	@Test
 	@DisplayName("다중검색을 기반으로 공휴일을 페이징 기반으로 조회한다.")
 	void getPageOfHolidays_Success() {
@@ -62,4 +98,90 @@ class HolidayServiceTest {
 		assertEquals("German Unity Day", result.getContent().getFirst().getName());
 		assertEquals("Germany", result.getContent().getFirst().getCountry());
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("인메모리 인덱스가 적재되어 있으면 DB 를 조회하지 않는다.")
+	void getPageOfHolidays_FromIndex() {
+		// given
+		SearchCondition searchCondition = SearchCondition.builder()
+				.startDate(LocalDate.of(2025, 1, 1))
+				.endDate(LocalDate.of(2025, 12, 31))
+				.countryName("Germany")
+				.build();
+
+		Pageable pageable = PageRequest.of(0, 10);
+
+		HolidayInfoDto.Response response = new HolidayInfoDto.Response(
+				1L, "독일 통일의 날", "German Unity Day", "Germany",
+				true, false, "1990", LocalDate.of(2025, 10, 3));
+		Page<HolidayInfoDto.Response> indexedPage = new PageImpl<>(List.of(response), pageable, 1);
+
+		given(holidayIndex.search(searchCondition, pageable)).willReturn(Optional.of(indexedPage));
+
+		// when
+		Page<HolidayInfoDto.Response> result = holidayService.getHolidays(searchCondition, pageable);
+
+		// then
+		assertEquals(indexedPage, result);
+		verify(holidayRepository, never()).findHolidaysByFilters(any(), any());
+	}
+
+	@Test
+	@DisplayName("이미 저장된 (국가, 날짜, 이름) 공휴일은 갱신하고 새 공휴일만 추가한다. 응답 안의 중복은 지역과 유형을 합친다.")
+	@SuppressWarnings("unchecked")
+	void upsertAll_MergeWithExisting() {
+		// given
+		Country country = FixtureMonkeyUtils.getDefault().giveMeBuilder(Country.class)
+				.set("countryCode", "DE")
+				.set("name", "Germany")
+				.sample();
+		LocalDate year = LocalDate.of(2025, 1, 1);
+
+		Holiday saved = Holiday.builder().id(1L).name("New Year's Day").localName("Neujahr")
+				.date(LocalDate.of(2025, 1, 1)).country(country).build();
+		Holiday fetchedExisting = Holiday.builder().name("New Year's Day").localName("Neujahrstag")
+				.date(LocalDate.of(2025, 1, 1)).fixed(true).build();
+		Holiday fetchedNew = Holiday.builder().name("German Unity Day").localName("Tag der Deutschen Einheit")
+				.date(LocalDate.of(2025, 10, 3)).counties(List.of("DE-BY")).types(List.of("Public")).build();
+		Holiday fetchedDuplicate = Holiday.builder().name("German Unity Day").localName("Tag der Deutschen Einheit")
+				.date(LocalDate.of(2025, 10, 3)).counties(List.of("DE-BW", "DE-BY")).types(List.of("Bank")).build();
+
+		given(countryService.findByCountryCode("DE")).willReturn(country);
+		given(holidayRepository.findAllByCountryAndDateBetween(country, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)))
+				.willReturn(List.of(saved));
+
+		// when
+		holidayService.upsertAll(List.of(fetchedExisting, fetchedNew, fetchedDuplicate), year, "DE").block();
+
+		// then
+		ArgumentCaptor<Iterable<Holiday>> captor = ArgumentCaptor.forClass(Iterable.class);
+		verify(holidayRepository).saveAll(captor.capture());
+		assertEquals(List.of(saved, fetchedNew), captor.getValue());
+		assertEquals("Neujahrstag", saved.getLocalName());
+		assertEquals(List.of("DE-BY", "DE-BW"), fetchedNew.getCounties());
+		assertEquals(List.of("Public", "Bank"), fetchedNew.getTypes());
+		verify(eventPublisher).publishEvent(new HolidayChangedEvent("DE", "Germany"));
+	}
+
+	@Test
+	@DisplayName("내보내기는 스트림의 모든 행을 순서대로 넘기고 스트림을 닫는다.")
+	void exportHolidays_StreamClosed() {
+		// given
+		HolidayExportDto.Request request = new HolidayExportDto.Request("DE", null, null, null);
+		AtomicBoolean closed = new AtomicBoolean();
+		given(holidayRepository.streamHolidays(request)).willReturn(Stream.of(
+				new HolidayInfoDto.Response(1L, "Neujahr", "New Year's Day", "Germany",
+						true, true, null, LocalDate.of(2025, 1, 1)),
+				new HolidayInfoDto.Response(2L, "Tag der Deutschen Einheit", "German Unity Day", "Germany",
+						true, true, "1990", LocalDate.of(2025, 10, 3)))
+				.onClose(() -> closed.set(true)));
+		List<Long> exported = new ArrayList<>();
+
+		// when
+		holidayService.exportHolidays(request, row -> exported.add(row.getId()));
+
+		// then
+		assertEquals(List.of(1L, 2L), exported);
+		assertTrue(closed.get());
+	}
+}
@@ -0,0 +1,181 @@
+package com.holidaykeeply.domain.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.holidaykeeply.api.dto.HolidayInfoDto;
+import com.holidaykeeply.api.dto.LongWeekendDto;
+import com.holidaykeeply.domain.entity.Holiday;
+import com.holidaykeeply.domain.event.HolidayChangedEvent;
+import com.holidaykeeply.domain.index.CountryHolidayIndex;
+import com.holidaykeeply.domain.index.HolidayIndex;
+import com.holidaykeeply.global.common.key.BusinessDayProperties;
+
+@ExtendWith(MockitoExtension.class)
+class LongWeekendServiceTest {
+
+	@Mock
+	private HolidayIndex holidayIndex;
+
+	private LongWeekendService longWeekendService;
+
+	@BeforeEach
+	void setUp() {
+		BusinessDayProperties properties = new BusinessDayProperties(
+			null, Map.of("AE", EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY)));
+		longWeekendService = new LongWeekendService(holidayIndex, properties);
+	}
+
+	private static final HolidayInfoDto.Details PUBLIC = new HolidayInfoDto.Details(List.of(), List.of("Public"));
+
+	/**
+	 * 모두 전국 공휴일(global, Public)
+	 */
+	private CountryHolidayIndex country(final String countryCode, final LocalDate... dates) {
+		List<Holiday> holidays = new ArrayList<>();
+		Map<Long, HolidayInfoDto.Details> details = new HashMap<>();
+		for (int i = 0; i < dates.length; i++) {
+			holidays.add(Holiday.builder()
+				.id(i + 1L)
+				.name("Holiday " + i)
+				.localName("Holiday " + i)
+				.date(dates[i])
+				.global(true)
+				.build());
+			details.put(i + 1L, PUBLIC);
+		}
+		return CountryHolidayIndex.of(countryCode, countryCode, holidays, details);
+	}
+
+	@Test
+	@DisplayName("공휴일을 포함해 3일 이상 쉬는 구간과 평일 하루를 쉬면 되는 징검다리 연휴를 찾는다.")
+	void getLongWeekends() {
+		// given (2025-05-01 목, 10-03 금, 12-25 목, 12-26 금, 2026-01-01 목)
+		given(holidayIndex.countryByCode("DE")).willReturn(country("DE",
+			LocalDate.of(2025, 5, 1), LocalDate.of(2025, 10, 3),
+			LocalDate.of(2025, 12, 25), LocalDate.of(2025, 12, 26), LocalDate.of(2026, 1, 1)));
+
+		// when
+		List<LongWeekendDto.Response> result = longWeekendService.getLongWeekends("DE", 2025);
+
+		// then
+		assertThat(result).containsExactly(
+			new LongWeekendDto.Response(
+				LocalDate.of(2025, 5, 1), LocalDate.of(2025, 5, 4), 4, true, List.of(LocalDate.of(2025, 5, 2))),
+			new LongWeekendDto.Response(
+				LocalDate.of(2025, 10, 3), LocalDate.of(2025, 10, 5), 3, false, List.of()),
+			new LongWeekendDto.Response(
+				LocalDate.of(2025, 12, 25), LocalDate.of(2025, 12, 28), 4, false, List.of()));
+	}
+
+	@Test
+	@DisplayName("지역 공휴일과 Public 이 아닌 유형의 공휴일로는 연휴를 만들지 않는다.")
+	void getLongWeekends_OnlyNationwidePublicHolidays() {
+		// given (2025-10-03 금 전국 공휴일, 10-31 금 지역 공휴일, 11-14 금 전국 Observance, 2026-05-29 금 지역 공휴일)
+		List<Holiday> holidays = List.of(
+			Holiday.builder().id(1L).name("German Unity Day").date(LocalDate.of(2025, 10, 3)).global(true).build(),
+			Holiday.builder().id(2L).name("Reformation Day").date(LocalDate.of(2025, 10, 31)).global(false).build(),
+			Holiday.builder().id(3L).name("Observance").date(LocalDate.of(2025, 11, 14)).global(true).build(),
+			Holiday.builder().id(4L).name("Regional Day").date(LocalDate.of(2026, 5, 29)).global(false).build());
+		given(holidayIndex.countryCodes()).willReturn(Set.of("DE"));
+		given(holidayIndex.countryByCode("DE")).willReturn(CountryHolidayIndex.of("DE", "Germany", holidays, Map.of(
+			1L, PUBLIC,
+			2L, new HolidayInfoDto.Details(List.of("DE-BB"), List.of("Public")),
+			3L, new HolidayInfoDto.Details(List.of(), List.of("Observance")),
+			4L, new HolidayInfoDto.Details(List.of("DE-BY"), List.of("Public")))));
+
+		// when
+		longWeekendService.loadAll();
+		List<LongWeekendDto.Response> result = longWeekendService.getLongWeekends("DE", 2025);
+
+		// then (전국 공휴일이 있는 2025년만 미리 계산한다)
+		assertThat(result).containsExactly(
+			new LongWeekendDto.Response(LocalDate.of(2025, 10, 3), LocalDate.of(2025, 10, 5), 3, false, List.of()));
+		assertThat(longWeekendService.estimatedSize()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("국가별 주말 정의를 사용한다.")
+	void getLongWeekends_CountryWeekend() {
+		// given (2025-10-02 목, AE 주말은 금·토)
+		given(holidayIndex.countryByCode("AE")).willReturn(country("AE", LocalDate.of(2025, 10, 2)));
+
+		// when
+		List<LongWeekendDto.Response> result = longWeekendService.getLongWeekends("AE", 2025);
+
+		// then
+		assertThat(result).singleElement().satisfies(longWeekend -> {
+			assertThat(longWeekend.startDate()).isEqualTo(LocalDate.of(2025, 10, 2));
+			assertThat(longWeekend.endDate()).isEqualTo(LocalDate.of(2025, 10, 4));
+		});
+	}
+
+	@Test
+	@DisplayName("미리 계산한 결과를 재사용하고, 국가 인덱스가 바뀌면 다시 계산한다.")
+	void precompute_RecomputeWhenIndexChanged() {
+		// given
+		given(holidayIndex.countryByCode("DE")).willReturn(country("DE", LocalDate.of(2025, 10, 3)));
+		longWeekendService.precompute("DE", 2025);
+		List<LongWeekendDto.Response> precomputed = longWeekendService.getLongWeekends("DE", 2025);
+
+		given(holidayIndex.countryByCode("DE")).willReturn(country("DE"));
+
+		// when
+		List<LongWeekendDto.Response> afterChange = longWeekendService.getLongWeekends("DE", 2025);
+
+		// then
+		assertThat(precomputed).hasSize(1);
+		assertThat(afterChange).isEmpty();
+	}
+
+	@Test
+	@DisplayName("인덱스에 없는 국가는 빈 목록을 반환하고 결과를 저장하지 않는다.")
+	void getLongWeekends_UnknownCountryNotCached() {
+		// given
+		given(holidayIndex.countryByCode("ZZ")).willReturn(CountryHolidayIndex.EMPTY);
+
+		// when
+		List<LongWeekendDto.Response> result = longWeekendService.getLongWeekends("ZZ", 2025);
+
+		// then
+		assertThat(result).isEmpty();
+		assertThat(longWeekendService.estimatedSize()).isZero();
+	}
+
+	@Test
+	@DisplayName("인덱스 적재와 공휴일 변경 시 공휴일이 있는 연도를 미리 계산하고, 공휴일이 사라진 연도는 버린다.")
+	void loadAll_AndOnHolidayChanged() {
+		// given (2024-12-25 수 → 2025 연도 경계 여유분 포함, 2025-10-03 금)
+		given(holidayIndex.countryCodes()).willReturn(Set.of("DE"));
+		given(holidayIndex.countryByCode("DE")).willReturn(country("DE",
+			LocalDate.of(2024, 12, 25), LocalDate.of(2025, 10, 3)));
+		longWeekendService.loadAll();
+		long loaded = longWeekendService.estimatedSize();
+
+		given(holidayIndex.isLoaded()).willReturn(true);
+		given(holidayIndex.countryByCode("DE")).willReturn(country("DE", LocalDate.of(2025, 10, 3)));
+
+		// when
+		longWeekendService.onHolidayChanged(new HolidayChangedEvent("DE", "Germany"));
+
+		// then
+		assertThat(loaded).isEqualTo(2);
+		assertThat(longWeekendService.estimatedSize()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,83 @@
+package com.holidaykeeply.global.common.validator;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.holidaykeeply.domain.entity.Country;
+import com.holidaykeeply.domain.infrastructure.repository.CountryRepository;
+import com.holidaykeeply.fixture.FixtureMonkeyUtils;
+
+import jakarta.validation.ConstraintValidatorContext;
+
+@ExtendWith(MockitoExtension.class)
+class ExistsCountriesValidatorTest {
+
+	@Mock
+	private CountryRepository countryRepository;
+
+	@Mock
+	private ConstraintValidatorContext context;
+
+	@InjectMocks
+	private ExistsCountriesValidator validator;
+
+	private Country country(final String countryCode, final String name) {
+		return FixtureMonkeyUtils.getDefault().giveMeBuilder(Country.class)
+				.set("countryCode", countryCode)
+				.set("name", name)
+				.sample();
+	}
+
+	@Test
+	@DisplayName("국가 코드와 국가명이 섞여 있어도 모두 존재하면 한 번의 조회로 유효하다고 판단한다.")
+	void isValid_MixedCodeAndName() {
+		// given
+		Set<String> requested = Set.of("KR", "Germany");
+		given(countryRepository.findAllByCountryCodeInOrNameIn(requested, requested))
+				.willReturn(List.of(country("KR", "South Korea"), country("DE", "Germany")));
+
+		// when
+		boolean result = validator.isValid(List.of("KR", "Germany"), context);
+
+		// then
+		assertThat(result).isTrue();
+		verify(countryRepository).findAllByCountryCodeInOrNameIn(requested, requested);
+		verifyNoMoreInteractions(countryRepository);
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 국가가 하나라도 있으면 유효하지 않다.")
+	void isValid_UnknownCountry() {
+		// given
+		Set<String> requested = Set.of("KR", "XX");
+		given(countryRepository.findAllByCountryCodeInOrNameIn(requested, requested))
+				.willReturn(List.of(country("KR", "South Korea")));
+
+		// when
+		boolean result = validator.isValid(List.of("KR", "XX"), context);
+
+		// then
+		assertThat(result).isFalse();
+	}
+
+	@Test
+	@DisplayName("null 원소가 있으면 유효하지 않다.")
+	void isValid_NullElement() {
+		// when
+		boolean result = validator.isValid(Arrays.asList(null, "KR"), context);
+
+		// then
+		assertThat(result).isFalse();
+	}
+}
@@ -0,0 +1,113 @@
+package com.holidaykeeply.global.config;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.holidaykeeply.HolidayKeeplyApplication;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 벤치마크용으로 실제 애플리케이션을 내장 Tomcat 과 함께 띄운다.
+ * 외부 Nager API 는 같은 JVM 의 스텁 HTTP 서버로 대신하고, 시작할 때 DataInitializer 가 스텁에서 국가/공휴일을 적재한다.
+ * 실행마다 별도 인메모리 DB 를 써서 앞선 실행의 데이터가 남지 않게 한다.
+ */
+final class BenchmarkServer implements AutoCloseable {
+	static final String COUNTRY_CODE = "DE";
+	static final String COUNTRY_NAME = "Germany";
+	static final int HOLIDAYS_PER_YEAR = 40;
+
+	private static final Pattern YEAR = Pattern.compile("/PublicHolidays/(\\d+)/");
+	private static final AtomicInteger DATABASES = new AtomicInteger();
+
+	private final HttpServer nager;
+	private final ConfigurableApplicationContext application;
+
+	private BenchmarkServer(final HttpServer nager, final ConfigurableApplicationContext application) {
+		this.nager = nager;
+		this.application = application;
+	}
+
+	static BenchmarkServer start(final String... properties) throws IOException {
+		HttpServer nager = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		nager.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+		nager.createContext("/AvailableCountries", exchange -> respond(exchange,
+			"[{\"countryCode\":\"" + COUNTRY_CODE + "\",\"name\":\"" + COUNTRY_NAME + "\"}]"));
+		nager.createContext("/PublicHolidays/", exchange -> respond(exchange, holidays(year(exchange))));
+		nager.start();
+
+		String database = "benchmark-" + DATABASES.incrementAndGet();
+		try {
+			ConfigurableApplicationContext application = new SpringApplicationBuilder(HolidayKeeplyApplication.class)
+				.properties(
+					"server.port=0",
+					"nager.api.base-url=http://localhost:" + nager.getAddress().getPort(),
+					"spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+					"spring.r2dbc.url=r2dbc:h2:mem:///" + database + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+					"spring.jpa.properties.hibernate.show_sql=false")
+				.properties(properties)
+				.run();
+			return new BenchmarkServer(nager, application);
+		} catch (RuntimeException e) {
+			nager.stop(0);
+			throw e;
+		}
+	}
+
+	String url(final String pathAndQuery) {
+		return "http://localhost:" + application.getEnvironment().getProperty("local.server.port") + pathAndQuery;
+	}
+
+	<T> T getBean(final Class<T> type) {
+		return application.getBean(type);
+	}
+
+	@Override
+	public void close() {
+		application.close();
+		nager.stop(0);
+	}
+
+	private static int year(final HttpExchange exchange) {
+		Matcher matcher = YEAR.matcher(exchange.getRequestURI().getPath());
+		return matcher.find() ? Integer.parseInt(matcher.group(1)) : LocalDate.now().getYear();
+	}
+
+	/**
+	 * 9일 간격의 지역 공휴일. 세 건 중 두 건은 지역(counties) 이 있다.
+	 */
+	private static String holidays(final int year) {
+		List<String> holidays = new ArrayList<>(HOLIDAYS_PER_YEAR);
+		LocalDate first = LocalDate.of(year, 1, 1);
+		for (int i = 0; i < HOLIDAYS_PER_YEAR; i++) {
+			holidays.add("""
+				{"date":"%s","localName":"지역 공휴일 %d","name":"Regional Holiday %d","countryCode":"%s",\
+				"fixed":%b,"global":%b,"counties":%s,"launchYear":null,"types":["Public"]}"""
+				.formatted(first.plusDays(i * 9L), i, i, COUNTRY_CODE, i % 2 == 0, i % 3 == 0,
+					i % 3 == 0 ? "null" : "[\"DE-BW\",\"DE-BY\"]"));
+		}
+		return "[" + String.join(",", holidays) + "]";
+	}
+
+	private static void respond(final HttpExchange exchange, final String json) throws IOException {
+		byte[] body = json.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+}
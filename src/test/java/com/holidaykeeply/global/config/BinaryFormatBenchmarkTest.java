@@ -0,0 +1,115 @@
+package com.holidaykeeply.global.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 실제 애플리케이션의 GET /api/v1/holidays 에 Accept 만 바꿔 한 국가 1년치 페이지를 JSON / CBOR / Smile 로 받는다.
+ * 등록된 메시지 컨버터, ETag 인터셉터, 내장 Tomcat 을 모두 거친 응답의 본문 크기와 요청당 지연(중앙값)을 기록하고,
+ * 바이너리 응답을 디코딩한 내용이 JSON 응답과 같은지 검증한다.
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Slf4j
+@Tag("benchmark")
+class BinaryFormatBenchmarkTest {
+	private static final int WARMUP = 2_000;
+	private static final int ITERATIONS = 5_000;
+	private static final String COUNTRY_YEAR = "/api/v1/holidays?countryName=" + BenchmarkServer.COUNTRY_NAME
+		+ "&startDate=2025-01-01&endDate=2025-12-31&page=0&size=" + BenchmarkServer.HOLIDAYS_PER_YEAR;
+
+	private static BenchmarkServer server;
+	private static HttpClient client;
+
+	@BeforeAll
+	static void start() throws Exception {
+		server = BenchmarkServer.start();
+		client = HttpClient.newHttpClient();
+	}
+
+	@AfterAll
+	static void stop() {
+		client.close();
+		server.close();
+	}
+
+	@Test
+	@DisplayName("CBOR/Smile 응답은 JSON 응답과 같은 내용을 담는다.")
+	void binaryFormats_SameContentAsJson() throws Exception {
+		// given
+		JsonNode json = decode(new JsonFactory(), MediaType.APPLICATION_JSON_VALUE);
+
+		// when
+		JsonNode cbor = decode(new CBORFactory(), MediaType.APPLICATION_CBOR_VALUE);
+		JsonNode smile = decode(new SmileFactory(), "application/x-jackson-smile");
+
+		// then
+		assertThat(json.at("/data/content")).hasSize(BenchmarkServer.HOLIDAYS_PER_YEAR);
+		assertThat(cbor).isEqualTo(json);
+		assertThat(smile).isEqualTo(json);
+	}
+
+	@Test
+	@DisplayName("한 국가 1년치 페이지를 형식별로 요청해 본문 크기와 요청당 지연을 기록한다.")
+	void binaryFormats_SizeAndLatency() throws Exception {
+		for (String accept : new String[] {
+			MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, "application/x-jackson-smile"}) {
+			// given
+			measure(accept, WARMUP);
+
+			// when
+			long[] latencies = measure(accept, ITERATIONS);
+
+			// then (요청마다 fetch 에서 200 과 Content-Type 을 검증한다)
+			log.info("{}: {} bytes, median {} us, p99 {} us", accept, fetch(accept).length,
+				latencies[ITERATIONS / 2] / 1_000, latencies[ITERATIONS * 99 / 100] / 1_000);
+		}
+	}
+
+	/**
+	 * 요청마다 걸린 시간(ns)을 정렬해 반환한다.
+	 */
+	private long[] measure(final String accept, final int iterations) throws Exception {
+		long[] latencies = new long[iterations];
+		for (int i = 0; i < iterations; i++) {
+			long started = System.nanoTime();
+			fetch(accept);
+			latencies[i] = System.nanoTime() - started;
+		}
+		Arrays.sort(latencies);
+		return latencies;
+	}
+
+	private JsonNode decode(final JsonFactory factory, final String accept) throws Exception {
+		return new ObjectMapper(factory).readTree(fetch(accept));
+	}
+
+	private byte[] fetch(final String accept) throws Exception {
+		HttpResponse<byte[]> response = client.send(
+			HttpRequest.newBuilder(URI.create(server.url(COUNTRY_YEAR))).header("Accept", accept).GET().build(),
+			HttpResponse.BodyHandlers.ofByteArray());
+		assertThat(response.statusCode()).isEqualTo(200);
+		assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+			contentType -> assertThat(MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType(accept))).isTrue());
+		return response.body();
+	}
+}
@@ -0,0 +1,124 @@
+package com.holidaykeeply.global.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 실제 애플리케이션을 spring.threads.virtual.enabled=false / true 로 각각 띄우고
+ * GET /api/v1/holidays 와 PUT /api/v1/holidays/upsert 에 동시 요청 1,000 건을 보낸다.
+ * upsert 는 요청 스레드가 block() 으로 기다리는 동안 JPA 저장이 blockingScheduler 에서 실행된다.
+ * 두 모드 모두 DB 연결은 Hikari 풀(기본 10개)을 거치므로, DB 를 타는 요청의 처리량 상한은 스레드 수가 아니라 풀 크기다.
+ * 측정 중 풀에서 연결을 기다린 스레드 수의 최댓값을 함께 기록해 어느 쪽이 병목인지 본다.
+ * 수치는 실행 환경마다 다르므로 로그로 남기고, 모든 요청이 성공했는지만 검증한다.
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Slf4j
+@Tag("benchmark")
+class BlockingSchedulerBenchmarkTest {
+	private static final int CONCURRENT_REQUESTS = 1_000;
+	private static final int FIRST_UPSERT_YEAR = 1_000;
+	private static final Duration POOL_SAMPLE_INTERVAL = Duration.ofMillis(1);
+
+	@ParameterizedTest(name = "spring.threads.virtual.enabled={0}")
+	@ValueSource(booleans = {false, true})
+	@DisplayName("공휴일 조회와 upsert 에 동시 요청 1,000 건을 보내 처리량, p99, Hikari 대기 스레드 수를 기록한다.")
+	void holidayEndpoints_UnderConcurrentLoad(final boolean virtualThreads) throws Exception {
+		// given
+		try (BenchmarkServer server = BenchmarkServer.start("spring.threads.virtual.enabled=" + virtualThreads);
+			 HttpClient client = HttpClient.newBuilder()
+				 .version(HttpClient.Version.HTTP_1_1)
+				 .executor(Executors.newVirtualThreadPerTaskExecutor())
+				 .build()) {
+			HikariPoolMXBean pool = server.getBean(DataSource.class).unwrap(HikariDataSource.class).getHikariPoolMXBean();
+			IntFunction<HttpRequest> search = i -> HttpRequest.newBuilder(URI.create(server.url(
+					"/api/v1/holidays?countryName=" + BenchmarkServer.COUNTRY_NAME
+						+ "&startDate=2020-01-01&endDate=2025-12-31&page=" + i % 20 + "&size=10")))
+				.GET()
+				.build();
+			IntFunction<HttpRequest> upsert = i -> HttpRequest.newBuilder(URI.create(server.url(
+					"/api/v1/holidays/upsert?countryCode=" + BenchmarkServer.COUNTRY_CODE
+						+ "&year=" + LocalDate.of(FIRST_UPSERT_YEAR + i, 1, 1))))
+				.PUT(HttpRequest.BodyPublishers.noBody())
+				.build();
+			run(client, pool, search); // 워밍업
+
+			// when
+			Load searchLoad = run(client, pool, search);
+			Load upsertLoad = run(client, pool, upsert);
+
+			// then
+			log.info("virtual={} GET    {}", virtualThreads, searchLoad);
+			log.info("virtual={} UPSERT {}", virtualThreads, upsertLoad);
+			assertThat(searchLoad.failures()).isZero();
+			assertThat(upsertLoad.failures()).isZero();
+		}
+	}
+
+	/**
+	 * 요청 1,000 건을 한꺼번에 보내고 모든 응답을 기다린다. 지연은 전체 시작 시각부터 각 응답까지의 시간이다.
+	 */
+	private Load run(final HttpClient client, final HikariPoolMXBean pool, final IntFunction<HttpRequest> request) {
+		AtomicInteger maxAwaiting = new AtomicInteger();
+		ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+		sampler.scheduleAtFixedRate(() -> maxAwaiting.accumulateAndGet(pool.getThreadsAwaitingConnection(), Math::max),
+			0, POOL_SAMPLE_INTERVAL.toNanos(), TimeUnit.NANOSECONDS);
+
+		long started = System.nanoTime();
+		List<CompletableFuture<Long>> latencies = new ArrayList<>(CONCURRENT_REQUESTS);
+		AtomicInteger failures = new AtomicInteger();
+		for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+			latencies.add(client.sendAsync(request.apply(i), HttpResponse.BodyHandlers.discarding())
+				.handle((response, error) -> {
+					if (error != null || response.statusCode() != 200) {
+						failures.incrementAndGet();
+					}
+					return System.nanoTime() - started;
+				}));
+		}
+		long[] sorted = latencies.stream().mapToLong(CompletableFuture::join).sorted().toArray();
+		long elapsed = System.nanoTime() - started;
+		sampler.shutdownNow();
+
+		long p99 = sorted[(int) Math.ceil(CONCURRENT_REQUESTS * 0.99) - 1];
+		return new Load(
+			Math.round(CONCURRENT_REQUESTS * 1e9 / elapsed),
+			Duration.ofNanos(p99).toMillis(),
+			failures.get(),
+			maxAwaiting.get(),
+			pool.getTotalConnections());
+	}
+
+	private record Load(long requestsPerSecond, long p99Millis, int failures, int maxAwaitingConnection, int poolSize) {
+		@Override
+		public String toString() {
+			return requestsPerSecond + " req/s, p99 " + p99Millis + " ms, failures " + failures
+				+ ", max threads awaiting connection " + maxAwaitingConnection + " (pool " + poolSize + ")";
+		}
+	}
+}
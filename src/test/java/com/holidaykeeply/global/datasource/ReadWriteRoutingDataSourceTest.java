@@ -0,0 +1,164 @@
+package com.holidaykeeply.global.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import javax.sql.DataSource;
+
+import org.h2.Driver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.holidaykeeply.domain.event.HolidayChangedEvent;
+import com.holidaykeeply.domain.event.HolidayDataVersion;
+import com.holidaykeeply.global.common.key.ReplicaDataSourceProperties;
+
+/**
+ * primary/replica 를 각각 별도 H2 인메모리 DB 로 두고, 어느 DB 에서 읽었는지 marker 테이블로 확인한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReadWriteRoutingDataSourceTest {
+	private static final Instant NOW = Instant.parse("2025-10-03T00:00:00Z");
+
+	@Mock
+	private HolidayDataVersion dataVersion;
+
+	private DataSource primary;
+	private DataSource replica;
+
+	@BeforeEach
+	void setUp() {
+		primary = h2("routing-primary");
+		replica = h2("routing-replica");
+	}
+
+	private DataSource h2(final String name) {
+		DataSource dataSource = new SimpleDriverDataSource(new Driver(), "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(20))");
+		jdbcTemplate.execute("DELETE FROM marker");
+		jdbcTemplate.update("INSERT INTO marker VALUES (?)", name);
+		return dataSource;
+	}
+
+	private String readFrom(final DataSource routed, final boolean readOnly) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(routed));
+		transactionTemplate.setReadOnly(readOnly);
+		return transactionTemplate.execute(status ->
+			new JdbcTemplate(routed).queryForObject("SELECT name FROM marker", String.class));
+	}
+
+	private DataSource routed(final boolean replicaReadable) {
+		return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica, () -> replicaReadable));
+	}
+
+	private ReplicaLagMonitor monitor(final String lagQuery) {
+		return new ReplicaLagMonitor(replica,
+			new ReplicaDataSourceProperties(true, null, null, null, null, Duration.ofSeconds(5), lagQuery), dataVersion,
+			Clock.fixed(NOW, ZoneOffset.UTC));
+	}
+
+	@Test
+	@DisplayName("읽기 전용 트랜잭션은 replica, 쓰기 트랜잭션은 primary 로 보낸다")
+	void route_ByReadOnly() {
+		// given
+		DataSource routed = routed(true);
+
+		// when & then
+		assertThat(readFrom(routed, true)).isEqualTo("routing-replica");
+		assertThat(readFrom(routed, false)).isEqualTo("routing-primary");
+	}
+
+	@Test
+	@DisplayName("replica 를 쓸 수 없으면 읽기 전용 트랜잭션도 primary 로 보낸다")
+	void route_ReplicaUnavailable() {
+		// given
+		DataSource routed = routed(false);
+
+		// when
+		String source = readFrom(routed, true);
+
+		// then
+		assertThat(source).isEqualTo("routing-primary");
+	}
+
+	@Test
+	@DisplayName("replica 가 정상이고 마지막 변경 후 maxLag 가 지났으면 replica 에서 읽는다")
+	void monitor_Readable() {
+		// given
+		ReplicaLagMonitor monitor = monitor(null);
+		given(dataVersion.current()).willReturn(NOW.toEpochMilli() - 60_000);
+
+		// when
+		monitor.check();
+
+		// then
+		assertThat(monitor.isReadable()).isTrue();
+		assertThat(readFrom(routedBy(monitor), true)).isEqualTo("routing-replica");
+	}
+
+	@Test
+	@DisplayName("마지막 변경 후 maxLag 이내면 복제가 끝나지 않았을 수 있으므로 primary 에서 읽는다")
+	void monitor_WithinLagWindow() {
+		// given
+		ReplicaLagMonitor monitor = monitor(null);
+		given(dataVersion.current()).willReturn(NOW.toEpochMilli());
+
+		// when
+		monitor.check();
+
+		// then
+		assertThat(monitor.isReadable()).isFalse();
+		assertThat(readFrom(routedBy(monitor), true)).isEqualTo("routing-primary");
+	}
+
+	@Test
+	@DisplayName("변경 이벤트가 발행되면 데이터셋 버전이 오르기 전이라도 바로 primary 에서 읽는다")
+	void monitor_ChangeMarkedOnPublish() {
+		// given
+		ReplicaLagMonitor monitor = monitor(null);
+		given(dataVersion.current()).willReturn(NOW.toEpochMilli() - 60_000);
+		monitor.check();
+		boolean before = monitor.isReadable();
+
+		// when
+		monitor.onHolidayChanging(new HolidayChangedEvent("DE", "Germany"));
+
+		// then
+		assertThat(before).isTrue();
+		assertThat(monitor.isReadable()).isFalse();
+	}
+
+	@Test
+	@DisplayName("lagQuery 가 보고한 복제 지연이 maxLag 를 넘거나 확인 전이면 replica 를 쓰지 않는다")
+	void monitor_ReplicationLag() {
+		// given
+		ReplicaLagMonitor lagging = monitor("SELECT 30");
+		ReplicaLagMonitor unchecked = monitor(null);
+
+		// when
+		lagging.check();
+
+		// then
+		assertThat(lagging.isReadable()).isFalse();
+		assertThat(unchecked.isReadable()).isFalse();
+	}
+
+	private DataSource routedBy(final ReplicaLagMonitor monitor) {
+		return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica, monitor::isReadable));
+	}
+}
@@ -0,0 +1,191 @@
+package com.holidaykeeply.global.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.h2.Driver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.holidaykeeply.domain.entity.Country;
+import com.holidaykeeply.domain.entity.Holiday;
+import com.holidaykeeply.domain.event.HolidayDataVersion;
+import com.holidaykeeply.domain.index.HolidayIndex;
+import com.holidaykeeply.domain.infrastructure.repository.CountryRepository;
+import com.holidaykeeply.domain.service.CountryService;
+import com.holidaykeeply.domain.service.HolidayService;
+import com.holidaykeeply.fixture.FixtureMonkeyUtils;
+
+/**
+ * replica 를 켠 애플리케이션 컨텍스트에서 JpaTransactionManager 와 서비스 계층을 거쳐 라우팅을 확인한다.
+ * primary/replica 는 복제되지 않는 별도 H2 인메모리 DB 라서, replica 에서 읽으면 primary 에만 쓴 데이터가 보이지 않는다.
+ * 복제 지연 판단은 테스트가 직접 움직이는 Clock 으로 하고, replica 확인도 주기 실행을 기다리지 않고 직접 호출한다.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+	"spring.jpa.hibernate.ddl-auto=create-drop",
+	"spring.datasource.url=jdbc:h2:mem:routing-jpa-primary;DB_CLOSE_DELAY=-1",
+	"holiday.datasource.replica.enabled=true",
+	"holiday.datasource.replica.url=" + ReplicaRoutingIntegrationTest.REPLICA_URL,
+	"holiday.datasource.replica.max-lag=1s",
+	"holiday.datasource.replica.health-check-interval=1h"
+})
+class ReplicaRoutingIntegrationTest {
+	static final String REPLICA_URL = "jdbc:h2:mem:routing-jpa-replica;DB_CLOSE_DELAY=-1";
+	private static final Duration MAX_LAG = Duration.ofSeconds(1);
+
+	/**
+	 * replica 에는 스키마만 만든다. 풀과 별도 연결로 만들어 replica 풀의 읽기 전용 설정과 무관하게 한다.
+	 */
+	@TestConfiguration
+	static class ReplicaSchemaConfig {
+		@Bean
+		InitializingBean replicaSchema() {
+			return () -> new ResourceDatabasePopulator(new ClassPathResource("db/schema.sql"))
+				.execute(new SimpleDriverDataSource(new Driver(), REPLICA_URL, "sa", ""));
+		}
+
+		@Bean
+		MutableClock replicaLagClock() {
+			return new MutableClock(Instant.now());
+		}
+	}
+
+	/**
+	 * 테스트가 시각을 직접 정하는 Clock
+	 */
+	static final class MutableClock extends Clock {
+		private volatile Instant instant;
+
+		MutableClock(final Instant instant) {
+			this.instant = instant;
+		}
+
+		void set(final Instant instant) {
+			this.instant = instant;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(final ZoneId zone) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	@Autowired
+	private MutableClock clock;
+
+	@Autowired
+	private HolidayDataVersion holidayDataVersion;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ReplicaLagMonitor replicaLagMonitor;
+
+	@Autowired
+	private CountryRepository countryRepository;
+
+	@Autowired
+	private CountryService countryService;
+
+	@Autowired
+	private HolidayService holidayService;
+
+	@Autowired
+	private HolidayIndex holidayIndex;
+
+	/**
+	 * 저장소의 조회 메서드는 읽기 전용 트랜잭션이라 replica 로 갈 수 있으므로 쓰기 트랜잭션 안에서 확인한다.
+	 */
+	@BeforeEach
+	void setUp() {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			if (countryRepository.findByCountryCode("DE").isEmpty()) {
+				countryRepository.save(FixtureMonkeyUtils.getDefault().giveMeBuilder(Country.class)
+					.set("countryCode", "DE")
+					.set("name", "Germany")
+					.set("id", null)
+					.set("holidays", null)
+					.sample());
+			}
+		});
+	}
+
+	@Test
+	@DisplayName("CountryService.count 는 blockingScheduler 스레드의 읽기 전용 JPA 트랜잭션으로 replica 에서 읽는다.")
+	void count_ReadsReplica() {
+		// given
+		makeReplicaReadable();
+
+		// when
+		Long count = countryService.count().block();
+
+		// then
+		assertThat(transactionManager).isInstanceOf(JpaTransactionManager.class);
+		assertThat(new TransactionTemplate(transactionManager).execute(status -> countryRepository.count())).isEqualTo(1);
+		assertThat(count).isZero();
+	}
+
+	@Test
+	@DisplayName("upsert 직후 인덱스 재적재는 replica 를 읽을 수 있던 상태여도 primary 에서 읽는다.")
+	void upsertAll_ReloadsIndexFromPrimary() {
+		// given
+		LocalDate unityDay = LocalDate.of(2025, 10, 3);
+		Holiday holiday = Holiday.builder()
+			.name("German Unity Day")
+			.localName("Tag der Deutschen Einheit")
+			.date(unityDay)
+			.fixed(true)
+			.global(true)
+			.build();
+		makeReplicaReadable();
+
+		// when
+		holidayService.upsertAll(List.of(holiday), LocalDate.of(2025, 1, 1), "DE").block();
+
+		// then
+		assertThat(replicaLagMonitor.isReadable()).isFalse();
+		assertThat(holidayIndex.isHoliday("DE", unityDay)).contains(true);
+	}
+
+	/**
+	 * replica 를 확인하고, 마지막 변경(데이터셋 버전 또는 이 Clock 으로 기록한 쓰기) 후 maxLag 가 지난 시각으로 옮긴다.
+	 */
+	private void makeReplicaReadable() {
+		Instant lastChange = Instant.ofEpochMilli(Math.max(clock.millis(), holidayDataVersion.current()));
+		clock.set(lastChange.plus(MAX_LAG));
+		replicaLagMonitor.check();
+		assertThat(replicaLagMonitor.isReadable()).isTrue();
+	}
+}